@@ -0,0 +1,89 @@
+package desempenho;
+
+import interfaces.ArvoreBalanceada;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão de uma árvore compartilhada entre várias threads. O
+ * benchmark {@code contem} mede apenas leitores e deve ser executado
+ * com {@code --escala 1,2,4,8,16,32} (ver {@link Executar}), assim
+ * como {@code escrita}, em que todas as threads inserem e removem
+ * chaves ímpares; o grupo {@code misto} coloca três leitores contra
+ * um escritor que insere e remove chaves ímpares continuamente.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ConcorrenciaBenchmark {
+    @Param({"AVL_CONCORRENTE", "AVL_PARTICIONADA", "AVL_SINCRONIZADA", "AVL_PERSISTENTE"})
+    public Implementacao implementacao;
+
+    @Param({"1000000"})
+    public int tamanho;
+
+    private ArvoreBalanceada arvore;
+
+    /** Gerador próprio de cada thread. */
+    @State(Scope.Thread)
+    public static class Sorteio {
+        private final SplittableRandom aleatorio = new SplittableRandom(Thread.currentThread().getId());
+    }
+
+    @Setup
+    public void preparar() {
+        arvore = Povoamento.povoar(implementacao, Distribuicao.UNIFORME, tamanho);
+    }
+
+    @Benchmark
+    public boolean contem(Sorteio sorteio) {
+        return arvore.contem(2 * sorteio.aleatorio.nextInt(tamanho));
+    }
+
+    @Benchmark
+    public void escrita(Sorteio sorteio) {
+        escrever(sorteio);
+    }
+
+    @Benchmark
+    @Group("misto")
+    @GroupThreads(3)
+    public boolean leitor(Sorteio sorteio) {
+        return arvore.contem(2 * sorteio.aleatorio.nextInt(tamanho));
+    }
+
+    @Benchmark
+    @Group("misto")
+    @GroupThreads(1)
+    public void escritor(Sorteio sorteio) {
+        escrever(sorteio);
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    private void escrever(Sorteio sorteio) {
+        int chave = 2 * sorteio.aleatorio.nextInt(tamanho) + 1;
+        if (sorteio.aleatorio.nextBoolean()) {
+            arvore.inserir(chave);
+        } else {
+            arvore.remover(chave);
+        }
+    }
+}
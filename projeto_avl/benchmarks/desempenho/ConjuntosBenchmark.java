@@ -0,0 +1,88 @@
+package desempenho;
+
+import model.ArvoreAVL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * União, interseção e diferença de dois conjuntos grandes por divisão
+ * e junção, com {@code paralelismo} threads no {@link ForkJoinPool}.
+ * Os conjuntos são os múltiplos de 2 e os múltiplos de 3, com
+ * {@code tamanho} valores cada, e são remontados em tempo linear antes
+ * de cada execução, pois as operações consomem as árvores. A escala
+ * aparece comparando o tempo entre os valores de {@code paralelismo}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class ConjuntosBenchmark {
+
+    @Param({"10000000"})
+    public int tamanho;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int paralelismo;
+
+    private int[] multiplosDe2;
+    private int[] multiplosDe3;
+    private ForkJoinPool pool;
+    private ArvoreAVL a;
+    private ArvoreAVL b;
+
+    @Setup(Level.Trial)
+    public void prepararValores() {
+        multiplosDe2 = new int[tamanho];
+        multiplosDe3 = new int[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            multiplosDe2[i] = 2 * i;
+            multiplosDe3[i] = 3 * i;
+        }
+        pool = new ForkJoinPool(paralelismo);
+    }
+
+    @Setup(Level.Invocation)
+    public void montarArvores() {
+        a = ArvoreAVL.construirDeOrdenados(multiplosDe2);
+        b = ArvoreAVL.construirDeOrdenados(multiplosDe3);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int uniao() {
+        a.uniao(b, pool);
+        return a.tamanho();
+    }
+
+    @Benchmark
+    public int intersecao() {
+        a.intersecao(b, pool);
+        return a.tamanho();
+    }
+
+    @Benchmark
+    public int diferenca() {
+        a.diferenca(b, pool);
+        return a.tamanho();
+    }
+}
@@ -0,0 +1,143 @@
+package desempenho;
+
+import interfaces.ArvoreBalanceada;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempo para inserir todas as {@code tamanho} chaves em uma árvore
+ * vazia e para removê‑las todas de uma árvore cheia, na ordem da
+ * distribuição. Divida o resultado por {@code tamanho} para obter o
+ * custo por chave; com {@code -prof gc}, a taxa de alocação mostra o
+ * custo de memória de cada implementação.
+ *
+ * Como em {@link ConsultaBenchmark}, as implementações ficam em duas
+ * subclasses para que a ABB com entrada ordenada não passe de
+ * {@link Povoamento#LIMITE_ABB_ORDENADA}. Cada uma declara o seu
+ * {@code remover}, pois o JMH injeta a árvore cheia a partir da classe
+ * concreta.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public abstract class ConstrucaoBenchmark {
+    @Param({"ORDENADA", "INVERSA", "UNIFORME", "ZIPF"})
+    public Distribuicao distribuicao;
+
+    private int[] chaves;
+
+    protected abstract Implementacao implementacao();
+
+    protected abstract int tamanho();
+
+    @Setup(Level.Trial)
+    public void prepararChaves() {
+        Povoamento.exigirViavel(implementacao(), distribuicao, tamanho());
+        chaves = Povoamento.chaves(distribuicao, tamanho());
+    }
+
+    @Benchmark
+    public ArvoreBalanceada inserir() {
+        ArvoreBalanceada arvore = implementacao().criar();
+        for (int chave : chaves) {
+            arvore.inserir(chave);
+        }
+        return arvore;
+    }
+
+    /** Remove todas as chaves, na ordem da distribuição. */
+    protected ArvoreBalanceada removerTodas(ArvoreBalanceada arvore) {
+        for (int chave : chaves) {
+            arvore.remover(chave);
+        }
+        return arvore;
+    }
+
+    /**
+     * Árvore povoada novamente antes de cada invocação de
+     * {@code remover}.
+     */
+    protected abstract static class ArvoreCheia {
+        ArvoreBalanceada arvore;
+
+        void povoar(ConstrucaoBenchmark benchmark) {
+            arvore = benchmark.inserir();
+        }
+    }
+
+    /** Árvores balanceadas, em todos os tamanhos. */
+    public static class Balanceadas extends ConstrucaoBenchmark {
+        @Param({"AVL", "AVL_PRIMITIVA", "AVL_PERSISTENTE", "RUBRO_NEGRA", "B_MAIS"})
+        public Implementacao implementacao;
+
+        @Param({"1000", "100000", "1000000"})
+        public int tamanho;
+
+        @Override
+        protected Implementacao implementacao() {
+            return implementacao;
+        }
+
+        @Override
+        protected int tamanho() {
+            return tamanho;
+        }
+
+        @Benchmark
+        public ArvoreBalanceada remover(Cheia cheia) {
+            return removerTodas(cheia.arvore);
+        }
+
+        @State(Scope.Thread)
+        public static class Cheia extends ArvoreCheia {
+            @Setup(Level.Invocation)
+            public void povoar(Balanceadas benchmark) {
+                super.povoar(benchmark);
+            }
+        }
+    }
+
+    /** ABB sem balanceamento, até o tamanho viável com entrada ordenada. */
+    public static class ABB extends ConstrucaoBenchmark {
+        @Param({"1000", "20000"})
+        public int tamanho;
+
+        @Override
+        protected Implementacao implementacao() {
+            return Implementacao.ABB;
+        }
+
+        @Override
+        protected int tamanho() {
+            return tamanho;
+        }
+
+        @Benchmark
+        public ArvoreBalanceada remover(Cheia cheia) {
+            return removerTodas(cheia.arvore);
+        }
+
+        @State(Scope.Thread)
+        public static class Cheia extends ArvoreCheia {
+            @Setup(Level.Invocation)
+            public void povoar(ABB benchmark) {
+                super.povoar(benchmark);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package desempenho;
+
+import interfaces.ArvoreBalanceada;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por operação sobre uma árvore já povoada com {@code tamanho}
+ * chaves pares: consultas que acertam, consultas que erram (chaves
+ * ímpares) e uma carga mista em que uma fração das operações insere
+ * ou remove chaves ímpares, mantendo o tamanho estável.
+ *
+ * As implementações ficam em duas subclasses porque o JMH cruza todos
+ * os parâmetros: {@link Balanceadas} percorre todos os tamanhos e
+ * {@link ABB} para em {@link Povoamento#LIMITE_ABB_ORDENADA}, acima do
+ * qual a ABB com entrada ordenada degenera e não pode ser povoada.
+ * Tamanhos maiores da ABB com outras distribuições podem ser pedidos
+ * com {@code -p}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public abstract class ConsultaBenchmark {
+    /** Comprimento da sequência de acessos, potência de 2. */
+    private static final int ACESSOS = 1 << 16;
+
+    @Param({"ORDENADA", "INVERSA", "UNIFORME", "ZIPF"})
+    public Distribuicao distribuicao;
+
+    /** Percentual de operações de escrita na carga mista. */
+    @Param({"10"})
+    public int percentualEscrita;
+
+    private ArvoreBalanceada arvore;
+    private int[] acessos;
+    private boolean[] escrita;
+    private BitSet impares;
+    private int cursor;
+
+    protected abstract Implementacao implementacao();
+
+    protected abstract int tamanho();
+
+    @Setup
+    public void preparar() {
+        int tamanho = tamanho();
+        arvore = Povoamento.povoar(implementacao(), distribuicao, tamanho);
+        acessos = distribuicao.acessos(tamanho, ACESSOS, 42);
+        escrita = new boolean[ACESSOS];
+        for (int i = 0; i < ACESSOS; i++) {
+            escrita[i] = Math.floorMod(i * 0x9E3779B9, 100) < percentualEscrita;
+        }
+        impares = new BitSet(tamanho);
+        cursor = 0;
+    }
+
+    @Benchmark
+    public boolean contemAcerto() {
+        return arvore.contem(2 * acessos[cursor++ & (ACESSOS - 1)]);
+    }
+
+    @Benchmark
+    public boolean contemErro() {
+        return arvore.contem(2 * acessos[cursor++ & (ACESSOS - 1)] + 1);
+    }
+
+    @Benchmark
+    public boolean misto() {
+        int i = cursor++ & (ACESSOS - 1);
+        int posicao = acessos[i];
+        if (escrita[i]) {
+            if (impares.get(posicao)) {
+                arvore.remover(2 * posicao + 1);
+                impares.clear(posicao);
+            } else {
+                arvore.inserir(2 * posicao + 1);
+                impares.set(posicao);
+            }
+            return true;
+        }
+        return arvore.contem(2 * posicao);
+    }
+
+    /** Árvores balanceadas, em todos os tamanhos. */
+    public static class Balanceadas extends ConsultaBenchmark {
+        @Param({"AVL", "AVL_PRIMITIVA", "AVL_PERSISTENTE", "RUBRO_NEGRA", "B_MAIS"})
+        public Implementacao implementacao;
+
+        @Param({"1000", "100000", "1000000"})
+        public int tamanho;
+
+        @Override
+        protected Implementacao implementacao() {
+            return implementacao;
+        }
+
+        @Override
+        protected int tamanho() {
+            return tamanho;
+        }
+    }
+
+    /** ABB sem balanceamento, até o tamanho viável com entrada ordenada. */
+    public static class ABB extends ConsultaBenchmark {
+        @Param({"1000", "20000"})
+        public int tamanho;
+
+        @Override
+        protected Implementacao implementacao() {
+            return Implementacao.ABB;
+        }
+
+        @Override
+        protected int tamanho() {
+            return tamanho;
+        }
+    }
+}
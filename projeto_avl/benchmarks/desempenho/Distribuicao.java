@@ -0,0 +1,92 @@
+package desempenho;
+
+import carga.GeradorZipf;
+
+import java.util.SplittableRandom;
+
+/**
+ * Distribuições de chaves usadas pelos benchmarks. Cada distribuição
+ * define a ordem em que as {@code n} chaves são inseridas e a
+ * sequência de posições consultadas depois.
+ *
+ * As posições ficam em {@code [0, n)}; os benchmarks as convertem em
+ * chaves pares (presentes) ou ímpares (ausentes).
+ */
+public enum Distribuicao {
+    /** Inserção e consultas em ordem crescente. */
+    ORDENADA,
+    /** Inserção e consultas em ordem decrescente. */
+    INVERSA,
+    /** Inserção embaralhada e consultas uniformes. */
+    UNIFORME,
+    /** Inserção embaralhada e consultas concentradas em poucas chaves quentes (s = 0,99). */
+    ZIPF;
+
+    private static final double EXPOENTE_ZIPF = 0.99;
+
+    /**
+     * Retorna uma permutação de {@code [0, n)} com a ordem de inserção.
+     *
+     * @param n       quantidade de chaves
+     * @param semente semente do gerador
+     * @return posições na ordem em que devem ser inseridas
+     */
+    public int[] ordemInsercao(int n, long semente) {
+        int[] ordem = new int[n];
+        for (int i = 0; i < n; i++) {
+            ordem[i] = this == INVERSA ? n - 1 - i : i;
+        }
+        if (this == UNIFORME || this == ZIPF) {
+            embaralhar(ordem, new SplittableRandom(semente));
+        }
+        return ordem;
+    }
+
+    /**
+     * Retorna {@code quantidade} posições em {@code [0, n)} a consultar.
+     *
+     * @param n          quantidade de chaves na árvore
+     * @param quantidade tamanho da sequência de consultas
+     * @param semente    semente do gerador
+     * @return posições consultadas, em ordem
+     */
+    public int[] acessos(int n, int quantidade, long semente) {
+        SplittableRandom aleatorio = new SplittableRandom(semente);
+        int[] acessos = new int[quantidade];
+        switch (this) {
+            case ORDENADA:
+                for (int i = 0; i < quantidade; i++) {
+                    acessos[i] = i % n;
+                }
+                break;
+            case INVERSA:
+                for (int i = 0; i < quantidade; i++) {
+                    acessos[i] = n - 1 - i % n;
+                }
+                break;
+            case UNIFORME:
+                for (int i = 0; i < quantidade; i++) {
+                    acessos[i] = aleatorio.nextInt(n);
+                }
+                break;
+            default:
+                // As chaves quentes são espalhadas pela mesma permutação
+                // da inserção, para não coincidirem com as menores chaves.
+                int[] espalhamento = ordemInsercao(n, semente);
+                GeradorZipf zipf = new GeradorZipf(n, EXPOENTE_ZIPF);
+                for (int i = 0; i < quantidade; i++) {
+                    acessos[i] = espalhamento[zipf.proximo(aleatorio)];
+                }
+        }
+        return acessos;
+    }
+
+    private static void embaralhar(int[] valores, SplittableRandom aleatorio) {
+        for (int i = valores.length - 1; i > 0; i--) {
+            int j = aleatorio.nextInt(i + 1);
+            int troca = valores[i];
+            valores[i] = valores[j];
+            valores[j] = troca;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package desempenho;
+
+import model.ArvoreDuravel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Vazão de escritas confirmadas em disco por {@link ArvoreDuravel},
+ * com uma sincronização por operação ({@code POR_OPERACAO}: janela
+ * zero e lote 1) e com sincronizações agrupadas ({@code GRUPO}: janela
+ * de 1 ms e lote de 256). Cada thread insere e remove chaves próprias;
+ * o número de threads é ajustável com {@code -t}. O resultado depende
+ * do custo de {@code fsync} do disco em que fica o diretório temporário.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Threads(8)
+@State(Scope.Benchmark)
+public class DurabilidadeBenchmark {
+
+    @Param({"POR_OPERACAO", "GRUPO"})
+    public String sincronizacao;
+
+    private Path diretorio;
+    private ArvoreDuravel arvore;
+
+    /** Gerador próprio de cada thread. */
+    @State(Scope.Thread)
+    public static class Sorteio {
+        private final SplittableRandom aleatorio = new SplittableRandom(Thread.currentThread().getId());
+    }
+
+    @Setup(Level.Trial)
+    public void abrir() throws IOException {
+        diretorio = Files.createTempDirectory("durabilidade");
+        arvore = sincronizacao.equals("GRUPO")
+                ? ArvoreDuravel.abrir(diretorio, 1, TimeUnit.MILLISECONDS, 256, ArvoreDuravel.CAPACIDADE_PADRAO)
+                : ArvoreDuravel.abrir(diretorio, 0, TimeUnit.MILLISECONDS, 1, ArvoreDuravel.CAPACIDADE_PADRAO);
+    }
+
+    @Benchmark
+    public void escrever(Sorteio sorteio) {
+        int chave = sorteio.aleatorio.nextInt(1 << 20);
+        if (sorteio.aleatorio.nextBoolean()) {
+            arvore.inserir(chave);
+        } else {
+            arvore.remover(chave);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void fechar() throws IOException {
+        arvore.close();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path arquivo : (Iterable<Path>) arquivos.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(arquivo);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package desempenho;
+
+import interfaces.ArvoreBalanceada;
+import interfaces.ArvoreComAltura;
+import model.ArvoreAVL;
+import model.ArvoreRubroNegra;
+import model.RetratoMetricas;
+import model.TipoRotacao;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AVL contra rubro‑negra em cargas dominadas por escrita. Cada
+ * operação é, com probabilidade {@code percentualEscrita}, a inserção
+ * ou remoção de uma chave ímpar (alternadas por posição, mantendo o
+ * tamanho estável) e, caso contrário, uma consulta a uma chave par.
+ *
+ * A vazão é medida pelo JMH. Ao fim do trial, a mesma carga é repetida
+ * fora da medição em uma árvore nova, com contagem de rotações, e são
+ * impressas as rotações simples por escrita (uma dupla conta duas) e
+ * a altura final.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class EscritaBenchmark {
+    /** Comprimento da sequência de acessos, potência de 2. */
+    private static final int ACESSOS = 1 << 16;
+    /** Operações repetidas para contar rotações. */
+    private static final int OPERACOES_CONTADAS = 1 << 20;
+
+    @Param({"AVL", "RUBRO_NEGRA"})
+    public Implementacao implementacao;
+
+    @Param({"UNIFORME", "ORDENADA"})
+    public Distribuicao distribuicao;
+
+    @Param({"100000", "1000000"})
+    public int tamanho;
+
+    @Param({"50", "90", "100"})
+    public int percentualEscrita;
+
+    private ArvoreBalanceada arvore;
+    private int[] acessos;
+    private boolean[] escrita;
+    private BitSet impares;
+    private int cursor;
+
+    @Setup
+    public void preparar() {
+        arvore = Povoamento.povoar(implementacao, distribuicao, tamanho);
+        acessos = distribuicao.acessos(tamanho, ACESSOS, 42);
+        escrita = new boolean[ACESSOS];
+        for (int i = 0; i < ACESSOS; i++) {
+            escrita[i] = Math.floorMod(i * 0x9E3779B9, 100) < percentualEscrita;
+        }
+        impares = new BitSet(tamanho);
+        cursor = 0;
+    }
+
+    @Benchmark
+    public boolean operar() {
+        return operar(arvore, impares, cursor++);
+    }
+
+    @TearDown(Level.Trial)
+    public void contarRotacoes() {
+        ArvoreBalanceada contada = implementacao.criar();
+        if (contada instanceof ArvoreAVL) {
+            ((ArvoreAVL) contada).habilitarMetricas();
+        }
+        for (int chave : Povoamento.chaves(distribuicao, tamanho)) {
+            contada.inserir(chave);
+        }
+        long antes = rotacoes(contada);
+        BitSet presentes = new BitSet(tamanho);
+        long escritas = 0;
+        for (int i = 0; i < OPERACOES_CONTADAS; i++) {
+            if (escrita[i & (ACESSOS - 1)]) {
+                escritas++;
+            }
+            operar(contada, presentes, i);
+        }
+        double porEscrita = escritas == 0 ? 0.0 : (double) (rotacoes(contada) - antes) / escritas;
+        System.out.printf("%n%s %s: rotacoes/escrita=%.3f altura=%d%n",
+                implementacao, distribuicao, porEscrita, altura(contada));
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    private boolean operar(ArvoreBalanceada alvo, BitSet presentes, int contador) {
+        int i = contador & (ACESSOS - 1);
+        int posicao = acessos[i];
+        if (escrita[i]) {
+            if (presentes.get(posicao)) {
+                alvo.remover(2 * posicao + 1);
+                presentes.clear(posicao);
+            } else {
+                alvo.inserir(2 * posicao + 1);
+                presentes.set(posicao);
+            }
+            return true;
+        }
+        return alvo.contem(2 * posicao);
+    }
+
+    private static long rotacoes(ArvoreBalanceada arvore) {
+        if (arvore instanceof ArvoreRubroNegra) {
+            return ((ArvoreRubroNegra) arvore).rotacoes();
+        }
+        RetratoMetricas retrato = ((ArvoreAVL) arvore).snapshotMetricas();
+        return retrato.rotacoes(TipoRotacao.LL) + retrato.rotacoes(TipoRotacao.RR)
+                + 2 * (retrato.rotacoes(TipoRotacao.LR) + retrato.rotacoes(TipoRotacao.RL));
+    }
+
+    private static int altura(ArvoreBalanceada arvore) {
+        return ((ArvoreComAltura) arvore).altura();
+    }
+}
@@ -0,0 +1,56 @@
+package desempenho;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ponto de entrada de {@code target/benchmarks.jar}. Aceita as
+ * mesmas opções do JMH e sempre acrescenta o perfilador de GC, de
+ * modo que a taxa de alocação aparece junto de cada resultado.
+ *
+ * A opção adicional {@code --escala 1,2,4,8,16,32} repete a execução
+ * com cada quantidade de threads, por exemplo:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar ConcorrenciaBenchmark.contem --escala 1,2,4,8,16,32
+ * java -jar target/benchmarks.jar ConsultaBenchmark -p implementacao=AVL,AVL_PRIMITIVA
+ * </pre>
+ */
+public final class Executar {
+    private Executar() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        List<String> opcoesJmh = new ArrayList<>();
+        List<Integer> escala = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--escala") && i + 1 < args.length) {
+                for (String threads : args[++i].split(",")) {
+                    escala.add(Integer.parseInt(threads.trim()));
+                }
+            } else {
+                opcoesJmh.add(args[i]);
+            }
+        }
+        CommandLineOptions linhaDeComando = new CommandLineOptions(opcoesJmh.toArray(new String[0]));
+        if (escala.isEmpty()) {
+            new Runner(opcoes(linhaDeComando).build()).run();
+            return;
+        }
+        for (int threads : escala) {
+            new Runner(opcoes(linhaDeComando).threads(threads).build()).run();
+        }
+    }
+
+    private static ChainedOptionsBuilder opcoes(CommandLineOptions linhaDeComando) {
+        return new OptionsBuilder().parent(linhaDeComando).addProfiler(GCProfiler.class);
+    }
+}
@@ -0,0 +1,105 @@
+package desempenho;
+
+import interfaces.ArvoreBalanceada;
+import model.ArvoreAVL;
+import model.ArvoreAVLConcorrente;
+import model.ArvoreAVLParticionada;
+import model.ArvoreAVLPersistente;
+import model.ArvoreAVLPrimitiva;
+import model.ArvoreBMais;
+import model.ArvoreBinariaBusca;
+import model.ArvoreRubroNegra;
+import model.ArvoreSincronizada;
+
+/**
+ * Implementações de árvore disponíveis para os benchmarks. Qualquer
+ * {@link ArvoreBalanceada} pode ser acrescentada aqui e passa a ser
+ * selecionável pelo parâmetro {@code implementacao}. As árvores são
+ * criadas sem visualizador.
+ */
+public enum Implementacao {
+    ABB {
+        @Override
+        public ArvoreBalanceada criar() {
+            return adaptar(new ArvoreBinariaBusca());
+        }
+    },
+    AVL {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreAVL();
+        }
+    },
+    AVL_PRIMITIVA {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreAVLPrimitiva();
+        }
+    },
+    AVL_CONCORRENTE {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreAVLConcorrente();
+        }
+    },
+    AVL_PARTICIONADA {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreAVLParticionada();
+        }
+    },
+    AVL_PERSISTENTE {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreAVLPersistente();
+        }
+    },
+    AVL_SINCRONIZADA {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreSincronizada(new ArvoreAVL());
+        }
+    },
+    RUBRO_NEGRA {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreRubroNegra();
+        }
+    },
+    B_MAIS {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreBMais();
+        }
+    };
+
+    /**
+     * Cria uma árvore vazia desta implementação.
+     *
+     * @return nova árvore
+     */
+    public abstract ArvoreBalanceada criar();
+
+    /**
+     * A ABB não é balanceada e por isso não implementa a interface;
+     * o adaptador apenas repassa as três operações.
+     */
+    private static ArvoreBalanceada adaptar(ArvoreBinariaBusca abb) {
+        return new ArvoreBalanceada() {
+            @Override
+            public void inserir(int valor) {
+                abb.inserir(valor);
+            }
+
+            @Override
+            public void remover(int valor) {
+                abb.remover(valor);
+            }
+
+            @Override
+            public boolean contem(int valor) {
+                return abb.contem(valor);
+            }
+        };
+    }
+}
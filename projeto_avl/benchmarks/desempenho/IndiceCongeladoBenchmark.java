@@ -0,0 +1,65 @@
+package desempenho;
+
+import model.ArvoreAVL;
+import model.IndiceCongelado;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compara {@link ArvoreAVL#contem(int)} com
+ * {@link IndiceCongelado#contem(int)} em árvores grandes. As
+ * consultas são uniformes em {@code [0, 2n)}, metade acertos e
+ * metade erros. Com 100 milhões de chaves a preparação precisa de
+ * cerca de 6 GB de heap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Thread)
+public class IndiceCongeladoBenchmark {
+    private static final int CONSULTAS = 1 << 20;
+
+    @Param({"1000000", "10000000", "100000000"})
+    public int tamanho;
+
+    private ArvoreAVL arvore;
+    private IndiceCongelado indice;
+    private int[] consultas;
+    private int cursor;
+
+    @Setup
+    public void preparar() {
+        arvore = ArvoreAVL.construirDeOrdenados(IntStream.range(0, tamanho).map(i -> 2 * i));
+        indice = arvore.congelar();
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        consultas = new int[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            consultas[i] = aleatorio.nextInt(2 * tamanho);
+        }
+    }
+
+    @Benchmark
+    public boolean arvoreContem() {
+        return arvore.contem(consultas[cursor++ & (CONSULTAS - 1)]);
+    }
+
+    @Benchmark
+    public boolean indiceContem() {
+        return indice.contem(consultas[cursor++ & (CONSULTAS - 1)]);
+    }
+}
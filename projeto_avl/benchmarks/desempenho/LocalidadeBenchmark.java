@@ -0,0 +1,82 @@
+package desempenho;
+
+import model.ArvoreAVL;
+import model.CursorArvore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara {@link ArvoreAVL#contem(int)} com a busca a partir do dedo
+ * de um {@link CursorArvore} em consultas com localidade: cada uma
+ * fica a no máximo {@code passo} valores da anterior, em
+ * {@code [0, 2n)}, metade acertos e metade erros. Também mede o
+ * percurso em ordem com {@link CursorArvore#proximo()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class LocalidadeBenchmark {
+    private static final int CONSULTAS = 1 << 20;
+
+    @Param({"1000000"})
+    public int tamanho;
+
+    @Param({"1", "16", "256", "4096"})
+    public int passo;
+
+    private ArvoreAVL arvore;
+    private CursorArvore dedo;
+    private CursorArvore percurso;
+    private int[] consultas;
+    private int indice;
+
+    @Setup
+    public void preparar() {
+        // Inserção embaralhada, para a árvore não ter o formato perfeito
+        // da construção a partir de ordenados
+        arvore = (ArvoreAVL) Povoamento.povoar(Implementacao.AVL, Distribuicao.UNIFORME, tamanho);
+        SplittableRandom aleatorio = new SplittableRandom(7);
+        consultas = new int[CONSULTAS];
+        int atual = tamanho;
+        for (int i = 0; i < CONSULTAS; i++) {
+            atual = Math.floorMod(atual + aleatorio.nextInt(2 * passo + 1) - passo, 2 * tamanho);
+            consultas[i] = atual;
+        }
+        dedo = arvore.cursor();
+        percurso = arvore.cursor();
+    }
+
+    @Benchmark
+    public boolean arvoreContem() {
+        return arvore.contem(consultas[indice++ & (CONSULTAS - 1)]);
+    }
+
+    @Benchmark
+    public boolean cursorContem() {
+        return dedo.contem(consultas[indice++ & (CONSULTAS - 1)]);
+    }
+
+    @Benchmark
+    public boolean cursorProximo() {
+        if (!percurso.proximo()) {
+            percurso.inicio();
+            return percurso.proximo();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,77 @@
+package desempenho;
+
+import model.ArvoreAVLMapa;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contadores por chave: {@code merge(chave, 1, soma)} em
+ * {@link ArvoreAVLMapa} comparado com {@code HashMap<Integer, Long>} e
+ * {@code TreeMap<Integer, Long>}, que embrulham chave e valor. A
+ * coluna de alocação do perfilador de GC mostra o custo dos
+ * embrulhos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class MapaBenchmark {
+    /** Comprimento da sequência de acessos, potência de 2. */
+    private static final int ACESSOS = 1 << 16;
+
+    @Param({"UNIFORME", "ZIPF"})
+    public Distribuicao distribuicao;
+
+    @Param({"1000", "1000000"})
+    public int tamanho;
+
+    private ArvoreAVLMapa mapa;
+    private HashMap<Integer, Long> hash;
+    private TreeMap<Integer, Long> arvorePadrao;
+    private int[] acessos;
+    private int cursor;
+
+    @Setup
+    public void preparar() {
+        mapa = new ArvoreAVLMapa();
+        hash = new HashMap<>();
+        arvorePadrao = new TreeMap<>();
+        for (int chave : Povoamento.chaves(distribuicao, tamanho)) {
+            mapa.put(chave, 0L);
+            hash.put(chave, 0L);
+            arvorePadrao.put(chave, 0L);
+        }
+        acessos = distribuicao.acessos(tamanho, ACESSOS, 42);
+        cursor = 0;
+    }
+
+    @Benchmark
+    public long mergeMapa() {
+        return mapa.merge(2 * acessos[cursor++ & (ACESSOS - 1)], 1L, Long::sum);
+    }
+
+    @Benchmark
+    public Long mergeHashMap() {
+        return hash.merge(2 * acessos[cursor++ & (ACESSOS - 1)], 1L, Long::sum);
+    }
+
+    @Benchmark
+    public Long mergeTreeMap() {
+        return arvorePadrao.merge(2 * acessos[cursor++ & (ACESSOS - 1)], 1L, Long::sum);
+    }
+}
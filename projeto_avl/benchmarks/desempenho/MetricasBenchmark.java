@@ -0,0 +1,77 @@
+package desempenho;
+
+import model.ArvoreAVL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo das métricas de {@link ArvoreAVL}: as mesmas consultas e
+ * modificações com as métricas desabilitadas e habilitadas. A
+ * diferença entre os dois casos é o preço de {@code System.nanoTime()}
+ * e dos {@code LongAdder} por operação.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class MetricasBenchmark {
+    /** Comprimento da sequência de acessos, potência de 2. */
+    private static final int ACESSOS = 1 << 16;
+
+    @Param({"false", "true"})
+    public boolean metricas;
+
+    @Param({"1000", "1000000"})
+    public int tamanho;
+
+    private ArvoreAVL arvore;
+    private int[] acessos;
+    private BitSet impares;
+    private int cursor;
+
+    @Setup
+    public void preparar() {
+        arvore = new ArvoreAVL();
+        for (int chave : Povoamento.chaves(Distribuicao.UNIFORME, tamanho)) {
+            arvore.inserir(chave);
+        }
+        if (metricas) {
+            arvore.habilitarMetricas();
+        }
+        acessos = Distribuicao.UNIFORME.acessos(tamanho, ACESSOS, 42);
+        impares = new BitSet(tamanho);
+        cursor = 0;
+    }
+
+    @Benchmark
+    public boolean contem() {
+        return arvore.contem(2 * acessos[cursor++ & (ACESSOS - 1)]);
+    }
+
+    /** Alterna inserção e remoção de chaves ímpares, mantendo o tamanho estável. */
+    @Benchmark
+    public void inserirRemover() {
+        int posicao = acessos[cursor++ & (ACESSOS - 1)];
+        if (impares.get(posicao)) {
+            arvore.remover(2 * posicao + 1);
+            impares.clear(posicao);
+        } else {
+            arvore.inserir(2 * posicao + 1);
+            impares.set(posicao);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package desempenho;
+
+import interfaces.ArvoreBalanceada;
+import model.ArvoreAVL;
+import model.ArvoreBMais;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * Compara a {@link ArvoreAVL} com a {@link ArvoreBMais} em várias
+ * ordens: consultas uniformes em {@code [0, 2n)}, metade acertos e
+ * metade erros, e percursos de 100 chaves consecutivas. As chaves
+ * pares são inseridas em ordem aleatória, de modo que as páginas da
+ * árvore B+ ficam com a ocupação típica de inserções avulsas. Ao fim
+ * de cada execução, a memória retida por chave é impressa.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class PaginasBenchmark {
+    private static final int CONSULTAS = 1 << 20;
+    private static final int LARGURA_INTERVALO = 200;
+
+    /** {@code AVL} ou {@code B} seguido da ordem da árvore B+. */
+    @Param({"AVL", "B32", "B64", "B128"})
+    public String estrutura;
+
+    @Param({"100000", "1000000", "10000000"})
+    public int tamanho;
+
+    private ArvoreBalanceada arvore;
+    private int[] consultas;
+    private int cursor;
+    private long soma;
+    private final IntConsumer somar = valor -> soma += valor;
+
+    @Setup
+    public void preparar() {
+        arvore = criar();
+        for (int chave : Povoamento.chaves(Distribuicao.UNIFORME, tamanho)) {
+            arvore.inserir(chave);
+        }
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        consultas = new int[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            consultas[i] = aleatorio.nextInt(2 * tamanho);
+        }
+    }
+
+    @Benchmark
+    public boolean contem() {
+        return arvore.contem(consultas[cursor++ & (CONSULTAS - 1)]);
+    }
+
+    @Benchmark
+    public long intervalo() {
+        int de = consultas[cursor++ & (CONSULTAS - 1)];
+        soma = 0;
+        if (arvore instanceof ArvoreBMais) {
+            ((ArvoreBMais) arvore).intervalo(de, de + LARGURA_INTERVALO, somar);
+        } else {
+            ((ArvoreAVL) arvore).intervalo(de, de + LARGURA_INTERVALO, somar);
+        }
+        return soma;
+    }
+
+    /**
+     * Mede a memória retida por uma árvore recém‑montada: a diferença
+     * de heap ocupado, após coletas completas, antes e depois da
+     * montagem.
+     */
+    @TearDown(Level.Trial)
+    public void medirMemoria() {
+        int[] chaves = Povoamento.chaves(Distribuicao.UNIFORME, tamanho);
+        arvore = null;
+        consultas = null;
+        long antes = heapOcupado();
+        ArvoreBalanceada medida = criar();
+        for (int chave : chaves) {
+            medida.inserir(chave);
+        }
+        long depois = heapOcupado();
+        System.out.printf("%n%s n=%d: %.1f bytes/chave%n",
+                estrutura, tamanho, (double) (depois - antes) / tamanho);
+        if (!medida.contem(chaves[0])) {
+            throw new IllegalStateException("Árvore medida perdeu uma chave");
+        }
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    private ArvoreBalanceada criar() {
+        if (estrutura.equals("AVL")) {
+            return new ArvoreAVL();
+        }
+        return new ArvoreBMais(Integer.parseInt(estrutura.substring(1)));
+    }
+
+    private static long heapOcupado() {
+        MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memoria.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,97 @@
+package desempenho;
+
+import model.ArquivoArvore;
+import model.ArvoreAVL;
+import model.IndiceMapeado;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Partida a frio de uma árvore com {@code tamanho} chaves aleatórias:
+ * reconstrução por inserções avulsas, leitura do instantâneo com
+ * montagem linear e abertura do índice mapeado seguida de mil
+ * consultas. Os arquivos são gravados uma vez, em um diretório
+ * temporário, e seus tamanhos são impressos ao final.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PersistenciaBenchmark {
+    private static final int CONSULTAS = 1000;
+
+    @Param({"1000000", "10000000"})
+    public int tamanho;
+
+    private int[] chaves;
+    private Path diretorio;
+    private Path instantaneo;
+    private Path indice;
+
+    @Setup(Level.Trial)
+    public void gravar() throws IOException {
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        chaves = new int[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            chaves[i] = aleatorio.nextInt();
+        }
+        ArvoreAVL arvore = ArvoreAVL.construirDeValores(chaves);
+        diretorio = Files.createTempDirectory("persistencia");
+        instantaneo = diretorio.resolve("arvore.avl");
+        indice = diretorio.resolve("arvore.idx");
+        ArquivoArvore.salvar(arvore, instantaneo);
+        ArquivoArvore.salvarIndice(arvore.congelar(), indice);
+    }
+
+    @Benchmark
+    public ArvoreAVL reconstruir() {
+        ArvoreAVL arvore = new ArvoreAVL();
+        for (int chave : chaves) {
+            arvore.inserir(chave);
+        }
+        return arvore;
+    }
+
+    @Benchmark
+    public ArvoreAVL carregarInstantaneo() throws IOException {
+        return ArquivoArvore.carregar(instantaneo);
+    }
+
+    @Benchmark
+    public int abrirIndice() throws IOException {
+        IndiceMapeado mapeado = ArquivoArvore.abrirIndice(indice);
+        int encontrados = 0;
+        for (int i = 0; i < CONSULTAS; i++) {
+            encontrados += mapeado.contem(chaves[i]) ? 1 : 0;
+        }
+        return encontrados;
+    }
+
+    @TearDown(Level.Trial)
+    public void apagar() throws IOException {
+        System.out.printf("%ninstantâneo: %d bytes, índice: %d bytes%n",
+                Files.size(instantaneo), Files.size(indice));
+        Files.delete(instantaneo);
+        Files.delete(indice);
+        Files.delete(diretorio);
+    }
+}
@@ -0,0 +1,44 @@
+package desempenho;
+
+import interfaces.ArvoreBalanceada;
+
+/**
+ * Montagem das árvores usadas pelos benchmarks. As chaves presentes
+ * são sempre {@code 2 * posicao}, inseridas na ordem definida pela
+ * distribuição.
+ */
+final class Povoamento {
+    /**
+     * Acima deste tamanho, a ABB alimentada em ordem degenera em lista
+     * e a preparação levaria horas.
+     */
+    static final int LIMITE_ABB_ORDENADA = 20_000;
+
+    private Povoamento() {
+    }
+
+    static int[] chaves(Distribuicao distribuicao, int tamanho) {
+        int[] ordem = distribuicao.ordemInsercao(tamanho, 42);
+        for (int i = 0; i < ordem.length; i++) {
+            ordem[i] *= 2;
+        }
+        return ordem;
+    }
+
+    static ArvoreBalanceada povoar(Implementacao implementacao, Distribuicao distribuicao, int tamanho) {
+        exigirViavel(implementacao, distribuicao, tamanho);
+        ArvoreBalanceada arvore = implementacao.criar();
+        for (int chave : chaves(distribuicao, tamanho)) {
+            arvore.inserir(chave);
+        }
+        return arvore;
+    }
+
+    static void exigirViavel(Implementacao implementacao, Distribuicao distribuicao, int tamanho) {
+        boolean ordenada = distribuicao == Distribuicao.ORDENADA || distribuicao == Distribuicao.INVERSA;
+        if (implementacao == Implementacao.ABB && ordenada && tamanho > LIMITE_ABB_ORDENADA) {
+            throw new IllegalStateException("ABB com entrada " + distribuicao
+                    + " é quadrática; limite de " + LIMITE_ABB_ORDENADA + " chaves");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package desempenho;
+
+import model.ArvoreAVL;
+import model.ArvoreBinariaBusca;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rotatividade prolongada: cada operação remove uma chave e insere
+ * outra, mantendo o tamanho constante. O estado é montado uma única
+ * vez por fork, então as iterações acumulam milhões de remoções sobre
+ * a mesma árvore. Ao fim de cada iteração a altura é impressa junto
+ * do limite teórico 1,44·log2(n + 2) − 0,328; se o limite for
+ * ultrapassado, a execução falha.
+ *
+ * <ul>
+ *   <li>{@code JANELA}: remove sempre a menor chave e insere uma maior
+ *       que todas, como uma fila.</li>
+ *   <li>{@code ALEATORIA}: remove uma chave presente sorteada e insere
+ *       uma ausente sorteada.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 10, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RotatividadeBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Arvore {
+        @Param({"JANELA", "ALEATORIA"})
+        public String padrao;
+
+        @Param({"100000", "1000000"})
+        public int tamanho;
+
+        ArvoreAVL arvore;
+        /** Chaves presentes; na janela, usadas como fila circular. */
+        int[] presentes;
+        int inicioFila;
+        int proximaChave;
+        SplittableRandom aleatorio;
+
+        @Setup(Level.Trial)
+        public void preparar() {
+            aleatorio = new SplittableRandom(42);
+            presentes = new int[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                presentes[i] = i;
+            }
+            arvore = ArvoreAVL.construirDeOrdenados(presentes);
+            proximaChave = tamanho;
+        }
+
+        @TearDown(Level.Iteration)
+        public void conferirAltura() {
+            double limite = 1.4404 * (Math.log(tamanho + 2.0) / Math.log(2)) - 0.3277;
+            System.out.printf("%naltura=%d limite=%.1f%n", arvore.altura(), limite);
+            if (arvore.altura() > limite) {
+                throw new IllegalStateException("Altura " + arvore.altura() + " acima do limite AVL " + limite);
+            }
+        }
+    }
+
+    @Benchmark
+    public void removerInserir(Arvore estado) {
+        ArvoreBinariaBusca arvore = estado.arvore;
+        if ("JANELA".equals(estado.padrao)) {
+            int posicao = estado.inicioFila;
+            arvore.remover(estado.presentes[posicao]);
+            arvore.inserir(estado.proximaChave);
+            estado.presentes[posicao] = estado.proximaChave++;
+            estado.inicioFila = posicao + 1 == estado.tamanho ? 0 : posicao + 1;
+        } else {
+            int posicao = estado.aleatorio.nextInt(estado.tamanho);
+            int nova;
+            do {
+                nova = estado.aleatorio.nextInt(Integer.MAX_VALUE);
+            } while (arvore.contem(nova));
+            arvore.remover(estado.presentes[posicao]);
+            arvore.inserir(nova);
+            estado.presentes[posicao] = nova;
+        }
+    }
+}
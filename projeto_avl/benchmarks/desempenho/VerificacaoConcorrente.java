@@ -0,0 +1,217 @@
+package desempenho;
+
+import model.ArvoreAVLConcorrente;
+
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Verificação de {@link ArvoreAVLConcorrente} com leitores e
+ * escritores simultâneos. Não é um benchmark JMH: roda por alguns
+ * segundos e termina com código 1 se encontrar alguma violação.
+ *
+ * As chaves são divididas pelo resto da divisão por 4: as de resto 0
+ * são inseridas antes do início e nunca removidas, as de resto 1 nunca
+ * são inseridas e as demais são inseridas e removidas pelos
+ * escritores, cada um dono de uma parte delas. Os leitores conferem,
+ * durante toda a execução, que {@code contem} sempre encontra as
+ * estáveis e nunca as ausentes, e que cada percurso por intervalo
+ * vem em ordem estritamente crescente, com todas as estáveis da faixa
+ * e nenhuma ausente. No fim, o conteúdo e o tamanho são comparados
+ * com o que cada escritor deixou, e a altura com o limite de uma AVL.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar desempenho.VerificacaoConcorrente [leitores] [escritores] [segundos] [chaves]
+ * </pre>
+ */
+public final class VerificacaoConcorrente {
+    private static final int FAIXA_PERCURSO = 4096;
+
+    private VerificacaoConcorrente() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int leitores = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int escritores = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int segundos = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int chaves = args.length > 3 ? Integer.parseInt(args[3]) : 1 << 16;
+
+        ArvoreAVLConcorrente arvore = new ArvoreAVLConcorrente();
+        for (int chave = 0; chave < chaves; chave += 4) {
+            arvore.inserir(chave);
+        }
+        BitSet[] finais = new BitSet[escritores];
+        AtomicReference<String> falha = new AtomicReference<>();
+        AtomicLong consultas = new AtomicLong();
+        AtomicLong percursos = new AtomicLong();
+        AtomicLong maiorPercursoNanos = new AtomicLong();
+        AtomicLong escritas = new AtomicLong();
+        long fim = System.nanoTime() + TimeUnit.SECONDS.toNanos(segundos);
+        CountDownLatch largada = new CountDownLatch(1);
+        Thread[] threads = new Thread[leitores + escritores];
+
+        for (int e = 0; e < escritores; e++) {
+            int indice = e;
+            finais[e] = new BitSet(chaves);
+            threads[e] = new Thread(() -> {
+                SplittableRandom aleatorio = new SplittableRandom(indice);
+                BitSet presentes = finais[indice];
+                aguardar(largada);
+                long feitas = 0;
+                while (System.nanoTime() < fim && falha.get() == null) {
+                    // Chaves de resto 2 ou 3 cujo grupo de 4 pertence a este escritor
+                    int grupo = aleatorio.nextInt(chaves / 4);
+                    grupo -= grupo % escritores - indice;
+                    int chave = 4 * grupo + 2 + aleatorio.nextInt(2);
+                    if (chave >= chaves) {
+                        continue;
+                    }
+                    if (presentes.get(chave)) {
+                        arvore.remover(chave);
+                        presentes.clear(chave);
+                    } else {
+                        arvore.inserir(chave);
+                        presentes.set(chave);
+                    }
+                    feitas++;
+                }
+                escritas.addAndGet(feitas);
+            }, "escritor-" + e);
+        }
+        for (int l = 0; l < leitores; l++) {
+            int indice = l;
+            threads[escritores + l] = new Thread(() -> {
+                SplittableRandom aleatorio = new SplittableRandom(1000 + indice);
+                aguardar(largada);
+                long feitas = 0;
+                while (System.nanoTime() < fim && falha.get() == null) {
+                    if (aleatorio.nextInt(256) == 0) {
+                        long inicio = System.nanoTime();
+                        int de = aleatorio.nextInt(chaves);
+                        String erro = conferirPercurso(arvore, de, de + FAIXA_PERCURSO, chaves);
+                        if (erro != null) {
+                            falha.compareAndSet(null, erro);
+                        }
+                        maiorPercursoNanos.accumulateAndGet(System.nanoTime() - inicio, Math::max);
+                        percursos.incrementAndGet();
+                        continue;
+                    }
+                    int chave = aleatorio.nextInt(chaves);
+                    boolean encontrada = arvore.contem(chave);
+                    if (chave % 4 == 0 && !encontrada) {
+                        falha.compareAndSet(null, "contem não encontrou a chave estável " + chave);
+                    } else if (chave % 4 == 1 && encontrada) {
+                        falha.compareAndSet(null, "contem encontrou a chave ausente " + chave);
+                    }
+                    feitas++;
+                }
+                consultas.addAndGet(feitas);
+            }, "leitor-" + l);
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        largada.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (falha.get() == null) {
+            falha.set(conferirFinal(arvore, finais, chaves));
+        }
+
+        System.out.printf(Locale.ROOT,
+                "%d leitores, %d escritores, %d s: %d consultas, %d percursos (maior %.1f ms), %d escritas%n",
+                leitores, escritores, segundos, consultas.get(), percursos.get(),
+                maiorPercursoNanos.get() / 1e6, escritas.get());
+        System.out.printf("tamanho final %d, altura %d%n", arvore.tamanho(), arvore.altura());
+        if (falha.get() != null) {
+            System.out.println("FALHA: " + falha.get());
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    /**
+     * Percorre {@code [de, ate]} e confere a ordem, as estáveis e as
+     * ausentes da faixa.
+     *
+     * @return descrição da violação, ou {@code null}
+     */
+    private static String conferirPercurso(ArvoreAVLConcorrente arvore, int de, int ate, int chaves) {
+        long[] anterior = {Long.MIN_VALUE};
+        int[] proximaEstavel = {(de + 3) & ~3};
+        String[] erro = new String[1];
+        arvore.intervalo(de, ate, valor -> {
+            if (erro[0] != null) {
+                return;
+            }
+            if (valor <= anterior[0] || valor < de || valor > ate) {
+                erro[0] = "percurso [" + de + ", " + ate + "] entregou " + valor + " depois de " + anterior[0];
+            } else if (valor % 4 == 1) {
+                erro[0] = "percurso entregou a chave ausente " + valor;
+            } else if (valor > proximaEstavel[0] && proximaEstavel[0] < chaves) {
+                erro[0] = "percurso pulou a chave estável " + proximaEstavel[0];
+            }
+            anterior[0] = valor;
+            if (valor == proximaEstavel[0]) {
+                proximaEstavel[0] += 4;
+            }
+        });
+        if (erro[0] == null && proximaEstavel[0] <= Math.min(ate, chaves - 1)) {
+            erro[0] = "percurso [" + de + ", " + ate + "] terminou sem a chave estável " + proximaEstavel[0];
+        }
+        return erro[0];
+    }
+
+    /**
+     * Com as threads paradas, compara o conteúdo com as chaves
+     * estáveis mais as que cada escritor deixou presentes.
+     *
+     * @return descrição da violação, ou {@code null}
+     */
+    private static String conferirFinal(ArvoreAVLConcorrente arvore, BitSet[] finais, int chaves) {
+        BitSet esperadas = new BitSet(chaves);
+        for (int chave = 0; chave < chaves; chave += 4) {
+            esperadas.set(chave);
+        }
+        for (BitSet presentes : finais) {
+            esperadas.or(presentes);
+        }
+        BitSet obtidas = new BitSet(chaves);
+        arvore.forEach(obtidas::set);
+        for (int chave = 0; chave < chaves; chave++) {
+            if (arvore.contem(chave) != esperadas.get(chave)) {
+                return "contem(" + chave + ") diverge do esperado no fim";
+            }
+        }
+        if (!obtidas.equals(esperadas)) {
+            return "forEach diverge do esperado no fim";
+        }
+        if (arvore.tamanho() != esperadas.cardinality()) {
+            return "tamanho " + arvore.tamanho() + ", esperado " + esperadas.cardinality();
+        }
+        // Nós de roteamento têm dois filhos, portanto são menos que os
+        // presentes: a árvore tem no máximo 2n nós
+        double limite = 1.4404 * (Math.log(2.0 * arvore.tamanho() + 2) / Math.log(2)) - 0.3277;
+        if (arvore.altura() > limite) {
+            return "altura " + arvore.altura() + " acima do limite AVL " + limite;
+        }
+        return null;
+    }
+
+    private static void aguardar(CountDownLatch largada) {
+        try {
+            largada.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
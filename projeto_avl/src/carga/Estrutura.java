@@ -0,0 +1,114 @@
+package carga;
+
+import interfaces.ArvoreBalanceada;
+import model.ArvoreAVL;
+import model.ArvoreAVLConcorrente;
+import model.ArvoreAVLParticionada;
+import model.ArvoreAVLPersistente;
+import model.ArvoreAVLPrimitiva;
+import model.ArvoreBMais;
+import model.ArvoreRubroNegra;
+import model.ArvoreSincronizada;
+
+import java.util.Locale;
+
+/**
+ * Implementações de {@link ArvoreBalanceada} selecionáveis na linha de
+ * comando pelo nome em minúsculas, como {@code avl} ou
+ * {@code rubro-negra}. As árvores são criadas sem observador.
+ */
+public enum Estrutura {
+    AVL {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreAVL();
+        }
+    },
+    /** AVL com o filtro de valores ausentes na frente de {@code contem}. */
+    AVL_FILTRADA {
+        @Override
+        public ArvoreBalanceada criar() {
+            ArvoreAVL arvore = new ArvoreAVL();
+            arvore.habilitarFiltro();
+            return arvore;
+        }
+    },
+    AVL_PRIMITIVA {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreAVLPrimitiva();
+        }
+    },
+    AVL_CONCORRENTE {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreAVLConcorrente();
+        }
+    },
+    AVL_PARTICIONADA {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreAVLParticionada();
+        }
+    },
+    AVL_PERSISTENTE {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreAVLPersistente();
+        }
+    },
+    AVL_SINCRONIZADA {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreSincronizada(new ArvoreAVL());
+        }
+    },
+    RUBRO_NEGRA {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreRubroNegra();
+        }
+    },
+    B_MAIS {
+        @Override
+        public ArvoreBalanceada criar() {
+            return new ArvoreBMais();
+        }
+    };
+
+    /**
+     * Cria uma árvore vazia desta implementação.
+     *
+     * @return nova árvore
+     */
+    public abstract ArvoreBalanceada criar();
+
+    /**
+     * Nome usado na linha de comando.
+     *
+     * @return nome em minúsculas, com hífens
+     */
+    public String nome() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    /**
+     * Localiza a implementação pelo nome da linha de comando.
+     *
+     * @param nome nome da implementação, como {@code b-mais}
+     * @return implementação correspondente
+     * @throws IllegalArgumentException se o nome não for conhecido
+     */
+    public static Estrutura porNome(String nome) {
+        for (Estrutura estrutura : values()) {
+            if (estrutura.nome().equals(nome.trim().toLowerCase(Locale.ROOT))) {
+                return estrutura;
+            }
+        }
+        StringBuilder conhecidos = new StringBuilder();
+        for (Estrutura estrutura : values()) {
+            conhecidos.append(conhecidos.length() == 0 ? "" : ", ").append(estrutura.nome());
+        }
+        throw new IllegalArgumentException("Implementação desconhecida: " + nome + " (use " + conhecidos + ")");
+    }
+}
@@ -0,0 +1,54 @@
+package carga;
+
+import java.util.SplittableRandom;
+
+/**
+ * Gerador de posições em {@code [0, n)} com distribuição de Zipf pelo
+ * método de Gray et al. ("Quickly Generating Billion-Record Synthetic
+ * Databases"), com custo O(n) na criação e O(1) por amostra. A
+ * posição 0 é a mais frequente.
+ */
+public final class GeradorZipf {
+    private final int n;
+    private final double expoente;
+    private final double zetaN;
+    private final double alfa;
+    private final double eta;
+
+    /**
+     * Prepara o gerador para {@code n} posições.
+     *
+     * @param n        quantidade de posições, ao menos 1
+     * @param expoente expoente da distribuição, entre 0 e 1 (exclusivos)
+     */
+    public GeradorZipf(int n, double expoente) {
+        this.n = n;
+        this.expoente = expoente;
+        double zeta = 0;
+        for (int i = 1; i <= n; i++) {
+            zeta += 1.0 / Math.pow(i, expoente);
+        }
+        this.zetaN = zeta;
+        double zeta2 = 1.0 + Math.pow(0.5, expoente);
+        this.alfa = 1.0 / (1.0 - expoente);
+        this.eta = (1 - Math.pow(2.0 / n, 1 - expoente)) / (1 - zeta2 / zetaN);
+    }
+
+    /**
+     * Sorteia a próxima posição.
+     *
+     * @param aleatorio fonte de aleatoriedade
+     * @return posição em {@code [0, n)}
+     */
+    public int proximo(SplittableRandom aleatorio) {
+        double u = aleatorio.nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, expoente)) {
+            return Math.min(1, n - 1);
+        }
+        return Math.min(n - 1, (int) (n * Math.pow(eta * u - eta + 1, alfa)));
+    }
+}
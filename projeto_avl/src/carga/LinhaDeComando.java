@@ -0,0 +1,172 @@
+package carga;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Modo sem interface gráfica de {@code Main}: gera rastros sintéticos
+ * e os reproduz contra uma ou mais implementações, lado a lado.
+ *
+ * <pre>
+ * java Main --gerar zipf.bin --padrao zipf --operacoes 5000000 --chaves 1000000
+ * java Main --replay zipf.bin --impl avl,rubro-negra,b-mais
+ * </pre>
+ */
+public final class LinhaDeComando {
+    private static final String USO = String.join(System.lineSeparator(),
+            "Uso:",
+            "  java Main                 abre o visualizador",
+            "  java Main --replay <rastro> [--impl avl,rubro-negra,...] [--aquecimento N]",
+            "  java Main --gerar <rastro> [--padrao sequencial|aleatorio|zipf|janela]",
+            "            [--operacoes N] [--chaves N] [--mistura I,R,C] [--semente N] [--texto]",
+            "",
+            "Rastros em texto têm uma operação por linha: I <valor>, R <valor> ou C <valor>.");
+
+    private static final int SUCESSO = 0;
+    private static final int FALHA = 1;
+    private static final int USO_INCORRETO = 2;
+
+    private LinhaDeComando() {
+    }
+
+    /**
+     * Executa o comando pedido nos argumentos.
+     *
+     * @param args argumentos de {@code Main}, não vazios
+     * @return código de saída do processo
+     */
+    public static int executar(String[] args) {
+        try {
+            switch (args[0]) {
+                case "--replay":
+                    return reproduzir(args);
+                case "--gerar":
+                    return gerar(args);
+                case "--ajuda":
+                case "-h":
+                    System.out.println(USO);
+                    return SUCESSO;
+                default:
+                    throw new IllegalArgumentException("Opção desconhecida: " + args[0]);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USO);
+            return USO_INCORRETO;
+        } catch (IOException e) {
+            System.err.println("Erro de E/S: " + e);
+            return FALHA;
+        }
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    private static int reproduzir(String[] args) throws IOException {
+        Path rastro = Paths.get(argumento(args, 1, "--replay"));
+        List<Estrutura> estruturas = new ArrayList<>();
+        int aquecimento = 1;
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--impl":
+                    for (String nome : argumento(args, ++i, "--impl").split(",")) {
+                        estruturas.add(Estrutura.porNome(nome));
+                    }
+                    break;
+                case "--aquecimento":
+                    aquecimento = inteiro(args, ++i, "--aquecimento");
+                    break;
+                default:
+                    throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+            }
+        }
+        if (estruturas.isEmpty()) {
+            estruturas.add(Estrutura.AVL);
+        }
+        PrintStream saida = System.out;
+        saida.println("rastro: " + rastro);
+        saida.printf(Locale.ROOT, "%-18s %12s %14s %10s %10s %10s %7s %12s%n",
+                "implementação", "operações", "ops/s", "p50 (ns)", "p99 (ns)", "p999 (ns)", "altura", "encontrados");
+        for (Estrutura estrutura : estruturas) {
+            // Passadas descartadas, cada uma em árvore nova, para o JIT compilar o caminho quente
+            for (int i = 0; i < aquecimento; i++) {
+                ReproducaoRastro.reproduzir(rastro, estrutura.criar());
+            }
+            ReproducaoRastro.Resultado resultado = ReproducaoRastro.reproduzir(rastro, estrutura.criar());
+            saida.printf(Locale.ROOT, "%-18s %12d %14.0f %10d %10d %10d %7s %12d%n",
+                    estrutura.nome(), resultado.operacoes(), resultado.operacoesPorSegundo(),
+                    resultado.percentil(50), resultado.percentil(99), resultado.percentil(99.9),
+                    resultado.altura() < 0 ? "-" : Integer.toString(resultado.altura()),
+                    resultado.encontrados());
+        }
+        return SUCESSO;
+    }
+
+    private static int gerar(String[] args) throws IOException {
+        Path rastro = Paths.get(argumento(args, 1, "--gerar"));
+        PadraoCarga padrao = PadraoCarga.ALEATORIO;
+        long operacoes = 1_000_000;
+        int chaves = 100_000;
+        int[] mistura = {40, 10, 50};
+        long semente = 42;
+        boolean texto = false;
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--padrao":
+                    padrao = padrao(argumento(args, ++i, "--padrao"));
+                    break;
+                case "--operacoes":
+                    operacoes = Long.parseLong(argumento(args, ++i, "--operacoes"));
+                    break;
+                case "--chaves":
+                    chaves = inteiro(args, ++i, "--chaves");
+                    break;
+                case "--mistura":
+                    String[] pesos = argumento(args, ++i, "--mistura").split(",");
+                    if (pesos.length != 3) {
+                        throw new IllegalArgumentException("--mistura espera três pesos: inserções,remoções,consultas");
+                    }
+                    for (int j = 0; j < 3; j++) {
+                        mistura[j] = Integer.parseInt(pesos[j].trim());
+                    }
+                    break;
+                case "--semente":
+                    semente = Long.parseLong(argumento(args, ++i, "--semente"));
+                    break;
+                case "--texto":
+                    texto = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+            }
+        }
+        try (Rastro.Escritor escritor = Rastro.criar(rastro, texto)) {
+            padrao.gerar(escritor, operacoes, chaves, mistura, semente);
+        }
+        System.out.println("Rastro " + padrao.name().toLowerCase(Locale.ROOT) + " gravado em " + rastro);
+        return SUCESSO;
+    }
+
+    private static PadraoCarga padrao(String nome) {
+        try {
+            return PadraoCarga.valueOf(nome.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Padrão desconhecido: " + nome);
+        }
+    }
+
+    private static String argumento(String[] args, int posicao, String opcao) {
+        if (posicao >= args.length) {
+            throw new IllegalArgumentException(opcao + " exige um valor");
+        }
+        return args[posicao];
+    }
+
+    private static int inteiro(String[] args, int posicao, String opcao) {
+        return Integer.parseInt(argumento(args, posicao, opcao));
+    }
+}
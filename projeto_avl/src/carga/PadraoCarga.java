@@ -0,0 +1,106 @@
+package carga;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+/**
+ * Padrões de chaves para rastros sintéticos. O tipo de cada operação
+ * é sorteado pela mistura pedida; o padrão decide o valor.
+ */
+public enum PadraoCarga {
+    /**
+     * Inserções em ordem crescente; remoções e consultas uniformes
+     * entre os valores já inseridos.
+     */
+    SEQUENCIAL,
+    /** Todas as operações uniformes entre as chaves. */
+    ALEATORIO,
+    /**
+     * Todas as operações concentradas em poucas chaves quentes
+     * (s = 0,99), espalhadas por todo o intervalo dos inteiros.
+     */
+    ZIPF,
+    /**
+     * Janela deslizante: inserções em ordem crescente e, quando a
+     * janela passa de {@code chaves} valores, remoção do mais antigo.
+     * As remoções sorteadas também retiram o mais antigo; as consultas
+     * são uniformes dentro da janela.
+     */
+    JANELA;
+
+    private static final double EXPOENTE_ZIPF = 0.99;
+
+    /**
+     * Gera um rastro com este padrão.
+     *
+     * @param destino    escritor do rastro
+     * @param operacoes  quantidade de operações sorteadas
+     * @param chaves     quantidade de chaves distintas ou, em
+     *                   {@link #JANELA}, tamanho da janela
+     * @param mistura    pesos de inserções, remoções e consultas
+     * @param semente    semente do gerador
+     * @throws IOException se a gravação falhar
+     * @throws IllegalArgumentException se os parâmetros forem inválidos
+     */
+    public void gerar(Rastro.Escritor destino, long operacoes, int chaves, int[] mistura, long semente)
+            throws IOException {
+        if (operacoes < 0 || chaves < 1) {
+            throw new IllegalArgumentException("Operações devem ser ≥ 0 e chaves ≥ 1");
+        }
+        if (mistura.length != 3 || mistura[0] < 0 || mistura[1] < 0 || mistura[2] < 0
+                || mistura[0] + mistura[1] + mistura[2] == 0) {
+            throw new IllegalArgumentException("A mistura deve ter três pesos não negativos, não todos nulos");
+        }
+        int total = mistura[0] + mistura[1] + mistura[2];
+        SplittableRandom aleatorio = new SplittableRandom(semente);
+        GeradorZipf zipf = this == ZIPF ? new GeradorZipf(chaves, EXPOENTE_ZIPF) : null;
+        // Valores já inseridos pelos padrões crescentes: [menor, proximo)
+        int proximo = 0;
+        int menor = 0;
+        for (long i = 0; i < operacoes; i++) {
+            int sorteio = aleatorio.nextInt(total);
+            byte tipo = sorteio < mistura[0] ? Rastro.INSERIR
+                    : sorteio < mistura[0] + mistura[1] ? Rastro.REMOVER : Rastro.CONSULTAR;
+            switch (this) {
+                case SEQUENCIAL:
+                    if (tipo == Rastro.INSERIR) {
+                        destino.gravar(tipo, proximo++);
+                    } else {
+                        destino.gravar(tipo, proximo == 0 ? 0 : aleatorio.nextInt(proximo));
+                    }
+                    break;
+                case ALEATORIO:
+                    destino.gravar(tipo, aleatorio.nextInt(chaves));
+                    break;
+                case ZIPF:
+                    destino.gravar(tipo, espalhar(zipf.proximo(aleatorio)));
+                    break;
+                default:
+                    if (tipo == Rastro.INSERIR) {
+                        destino.gravar(tipo, proximo++);
+                        if (proximo - menor > chaves) {
+                            destino.gravar(Rastro.REMOVER, menor++);
+                        }
+                    } else if (tipo == Rastro.REMOVER) {
+                        destino.gravar(tipo, menor < proximo ? menor++ : menor);
+                    } else {
+                        destino.gravar(tipo, menor < proximo ? menor + aleatorio.nextInt(proximo - menor) : menor);
+                    }
+            }
+        }
+    }
+
+    /**
+     * Bijeção dos inteiros (finalização do MurmurHash3) que espalha as
+     * posições quentes, para não coincidirem com as menores chaves.
+     */
+    private static int espalhar(int posicao) {
+        int h = posicao;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
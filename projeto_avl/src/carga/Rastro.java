@@ -0,0 +1,290 @@
+package carga;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Rastros de carga: sequências de inserções, remoções e consultas
+ * gravadas em arquivo para serem reproduzidas contra uma árvore.
+ *
+ * Há dois formatos, reconhecidos pelos primeiros bytes do arquivo:
+ * <ul>
+ *   <li><b>Binário</b>: cabeçalho de 8 bytes (mágico "AVLR" e versão)
+ *   seguido de registros de 5 bytes, o tipo da operação e o valor,
+ *   em ordem de bytes little‑endian.</li>
+ *   <li><b>Texto</b>: uma operação por linha, como {@code I 42},
+ *   {@code R 42} ou {@code C 42}. Só a primeira letra da operação é
+ *   considerada, sem distinguir maiúsculas, de modo que
+ *   {@code inserir}, {@code insert}, {@code remover} ou
+ *   {@code contains} também servem. Linhas vazias e iniciadas por
+ *   {@code #} são ignoradas.</li>
+ * </ul>
+ * Os leitores entregam o rastro em blocos, de modo que rastros
+ * maiores que a memória podem ser reproduzidos.
+ */
+public final class Rastro {
+    public static final byte INSERIR = 0;
+    public static final byte REMOVER = 1;
+    public static final byte CONSULTAR = 2;
+
+    private static final int MAGICO = 0x52_4C_56_41; // "AVLR"
+    private static final int VERSAO = 1;
+    private static final int CABECALHO = 8;
+    private static final int TAMANHO_REGISTRO = 5;
+    private static final int TAMANHO_BUFFER = TAMANHO_REGISTRO << 13;
+
+    private Rastro() {
+    }
+
+    /**
+     * Leitura sequencial de um rastro, em blocos.
+     */
+    public interface Leitor extends Closeable {
+        /**
+         * Lê as próximas operações, até o tamanho dos vetores.
+         *
+         * @param tipos   recebe o tipo de cada operação
+         * @param valores recebe o valor de cada operação
+         * @return quantidade de operações lidas, ou 0 no fim do rastro
+         * @throws IOException se o arquivo não puder ser lido ou estiver malformado
+         */
+        int ler(byte[] tipos, int[] valores) throws IOException;
+    }
+
+    /**
+     * Gravação sequencial de um rastro.
+     */
+    public interface Escritor extends Closeable {
+        /**
+         * Acrescenta uma operação ao rastro.
+         *
+         * @param tipo  {@link #INSERIR}, {@link #REMOVER} ou {@link #CONSULTAR}
+         * @param valor valor da operação
+         * @throws IOException se a gravação falhar
+         */
+        void gravar(byte tipo, int valor) throws IOException;
+    }
+
+    /**
+     * Abre um rastro para leitura, binário ou texto.
+     *
+     * @param arquivo arquivo do rastro
+     * @return leitor posicionado na primeira operação
+     * @throws IOException se o arquivo não puder ser aberto
+     */
+    public static Leitor abrir(Path arquivo) throws IOException {
+        FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+        try {
+            ByteBuffer cabecalho = ByteBuffer.allocate(CABECALHO).order(ByteOrder.LITTLE_ENDIAN);
+            while (cabecalho.hasRemaining() && canal.read(cabecalho) >= 0) {
+                // lê até completar o cabeçalho ou chegar ao fim
+            }
+            cabecalho.flip();
+            if (cabecalho.remaining() < Integer.BYTES || cabecalho.getInt(0) != MAGICO) {
+                canal.close();
+                return new LeitorTexto(arquivo);
+            }
+            if (cabecalho.remaining() < CABECALHO || cabecalho.getInt(Integer.BYTES) != VERSAO) {
+                throw new IOException(arquivo + ": rastro em versão desconhecida");
+            }
+            return new LeitorBinario(arquivo, canal);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Cria um rastro vazio, substituindo o arquivo se existir.
+     *
+     * @param arquivo arquivo de destino
+     * @param texto   {@code true} para o formato texto, {@code false}
+     *                para o binário
+     * @return escritor do rastro, que deve ser fechado ao final
+     * @throws IOException se o arquivo não puder ser criado
+     */
+    public static Escritor criar(Path arquivo, boolean texto) throws IOException {
+        if (texto) {
+            BufferedWriter saida = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8);
+            return new Escritor() {
+                @Override
+                public void gravar(byte tipo, int valor) throws IOException {
+                    saida.write(letra(tipo));
+                    saida.write(' ');
+                    saida.write(Integer.toString(valor));
+                    saida.newLine();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    saida.close();
+                }
+            };
+        }
+        FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGICO).putInt(VERSAO);
+        return new Escritor() {
+            @Override
+            public void gravar(byte tipo, int valor) throws IOException {
+                letra(tipo);
+                if (buffer.remaining() < TAMANHO_REGISTRO) {
+                    esvaziar();
+                }
+                buffer.put(tipo).putInt(valor);
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    esvaziar();
+                } finally {
+                    canal.close();
+                }
+            }
+
+            private void esvaziar() throws IOException {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    canal.write(buffer);
+                }
+                buffer.clear();
+            }
+        };
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    private static char letra(byte tipo) {
+        switch (tipo) {
+            case INSERIR:
+                return 'I';
+            case REMOVER:
+                return 'R';
+            case CONSULTAR:
+                return 'C';
+            default:
+                throw new IllegalArgumentException("Tipo de operação desconhecido: " + tipo);
+        }
+    }
+
+    private static final class LeitorBinario implements Leitor {
+        private final Path arquivo;
+        private final FileChannel canal;
+        private final ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+        private long registro;
+
+        LeitorBinario(Path arquivo, FileChannel canal) throws IOException {
+            this.arquivo = arquivo;
+            this.canal = canal;
+            canal.position(CABECALHO);
+            buffer.flip();
+        }
+
+        @Override
+        public int ler(byte[] tipos, int[] valores) throws IOException {
+            int limite = Math.min(tipos.length, valores.length);
+            int lidos = 0;
+            while (lidos < limite) {
+                if (buffer.remaining() < TAMANHO_REGISTRO && !encher()) {
+                    break;
+                }
+                byte tipo = buffer.get();
+                if (tipo < INSERIR || tipo > CONSULTAR) {
+                    throw new IOException(arquivo + ": tipo de operação inválido no registro " + registro);
+                }
+                tipos[lidos] = tipo;
+                valores[lidos] = buffer.getInt();
+                lidos++;
+                registro++;
+            }
+            return lidos;
+        }
+
+        /** Completa o buffer; retorna {@code false} no fim exato do arquivo. */
+        private boolean encher() throws IOException {
+            buffer.compact();
+            while (buffer.hasRemaining() && canal.read(buffer) >= 0) {
+                // lê até encher o buffer ou chegar ao fim
+            }
+            buffer.flip();
+            if (buffer.remaining() == 0) {
+                return false;
+            }
+            if (buffer.remaining() < TAMANHO_REGISTRO) {
+                throw new EOFException(arquivo + ": registro " + registro + " incompleto");
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            canal.close();
+        }
+    }
+
+    private static final class LeitorTexto implements Leitor {
+        private final Path arquivo;
+        private final BufferedReader entrada;
+        private long linha;
+
+        LeitorTexto(Path arquivo) throws IOException {
+            this.arquivo = arquivo;
+            this.entrada = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int ler(byte[] tipos, int[] valores) throws IOException {
+            int limite = Math.min(tipos.length, valores.length);
+            int lidos = 0;
+            String texto;
+            while (lidos < limite && (texto = entrada.readLine()) != null) {
+                linha++;
+                texto = texto.trim();
+                if (texto.isEmpty() || texto.charAt(0) == '#') {
+                    continue;
+                }
+                String[] partes = texto.split("\\s+");
+                if (partes.length != 2) {
+                    throw new IOException(arquivo + ":" + linha + ": esperado \"<operação> <valor>\"");
+                }
+                switch (Character.toUpperCase(partes[0].charAt(0))) {
+                    case 'I':
+                        tipos[lidos] = INSERIR;
+                        break;
+                    case 'R':
+                        tipos[lidos] = REMOVER;
+                        break;
+                    case 'C':
+                        tipos[lidos] = CONSULTAR;
+                        break;
+                    default:
+                        throw new IOException(arquivo + ":" + linha + ": operação desconhecida " + partes[0]);
+                }
+                try {
+                    valores[lidos] = Integer.parseInt(partes[1]);
+                } catch (NumberFormatException e) {
+                    throw new IOException(arquivo + ":" + linha + ": valor inválido " + partes[1]);
+                }
+                lidos++;
+            }
+            return lidos;
+        }
+
+        @Override
+        public void close() throws IOException {
+            entrada.close();
+        }
+    }
+}
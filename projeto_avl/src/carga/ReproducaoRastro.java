@@ -0,0 +1,139 @@
+package carga;
+
+import interfaces.ArvoreBalanceada;
+import interfaces.ArvoreComAltura;
+import model.HistogramaLatencia;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Reproduz um {@link Rastro} contra uma árvore, sem observador, e mede
+ * a vazão e a latência de cada operação.
+ *
+ * O rastro é lido em blocos e só a aplicação das operações é
+ * cronometrada; a leitura do arquivo fica fora das medições. Cada
+ * operação é medida com {@link System#nanoTime()}, cujo custo (dezenas
+ * de nanossegundos) entra na latência e na vazão informadas. Os
+ * percentis vêm de um {@link HistogramaLatencia} e têm erro relativo
+ * de até 12,5%.
+ */
+public final class ReproducaoRastro {
+    private static final int BLOCO = 1 << 16;
+
+    private ReproducaoRastro() {
+    }
+
+    /**
+     * Aplica todas as operações do rastro à árvore, em ordem.
+     *
+     * @param rastro arquivo do rastro, binário ou texto
+     * @param arvore árvore que recebe as operações
+     * @return medições da reprodução
+     * @throws IOException se o rastro não puder ser lido
+     */
+    public static Resultado reproduzir(Path rastro, ArvoreBalanceada arvore) throws IOException {
+        byte[] tipos = new byte[BLOCO];
+        int[] valores = new int[BLOCO];
+        HistogramaLatencia latencias = new HistogramaLatencia();
+        long operacoes = 0;
+        long encontrados = 0;
+        long nanos = 0;
+        try (Rastro.Leitor leitor = Rastro.abrir(rastro)) {
+            int lidos;
+            while ((lidos = leitor.ler(tipos, valores)) > 0) {
+                long inicioBloco = System.nanoTime();
+                for (int i = 0; i < lidos; i++) {
+                    long inicio = System.nanoTime();
+                    switch (tipos[i]) {
+                        case Rastro.INSERIR:
+                            arvore.inserir(valores[i]);
+                            break;
+                        case Rastro.REMOVER:
+                            arvore.remover(valores[i]);
+                            break;
+                        default:
+                            if (arvore.contem(valores[i])) {
+                                encontrados++;
+                            }
+                    }
+                    latencias.registrar(System.nanoTime() - inicio);
+                }
+                nanos += System.nanoTime() - inicioBloco;
+                operacoes += lidos;
+            }
+        }
+        return new Resultado(operacoes, nanos, encontrados, latencias.copiar(), altura(arvore));
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    /** Altura das implementações que a expõem, ou −1 para as demais. */
+    private static int altura(ArvoreBalanceada arvore) {
+        return arvore instanceof ArvoreComAltura ? ((ArvoreComAltura) arvore).altura() : -1;
+    }
+
+    /**
+     * Medições de uma reprodução.
+     */
+    public static final class Resultado {
+        private final long operacoes;
+        private final long nanos;
+        private final long encontrados;
+        private final long[] latencias;
+        private final int altura;
+
+        Resultado(long operacoes, long nanos, long encontrados, long[] latencias, int altura) {
+            this.operacoes = operacoes;
+            this.nanos = nanos;
+            this.encontrados = encontrados;
+            this.latencias = latencias;
+            this.altura = altura;
+        }
+
+        public long operacoes() {
+            return operacoes;
+        }
+
+        /**
+         * Retorna as operações por segundo, considerando apenas o tempo
+         * gasto aplicando‑as.
+         *
+         * @return vazão em operações por segundo
+         */
+        public double operacoesPorSegundo() {
+            return nanos == 0 ? 0.0 : operacoes * 1e9 / nanos;
+        }
+
+        /**
+         * Retorna o limite superior da faixa de latência que contém o
+         * percentil pedido.
+         *
+         * @param percentil percentil entre 0 e 100
+         * @return latência em nanossegundos
+         */
+        public long percentil(double percentil) {
+            return HistogramaLatencia.percentil(latencias, percentil);
+        }
+
+        /**
+         * Retorna quantas consultas encontraram o valor. Deve ser igual
+         * para todas as implementações que reproduzem o mesmo rastro.
+         *
+         * @return consultas bem‑sucedidas
+         */
+        public long encontrados() {
+            return encontrados;
+        }
+
+        /**
+         * Retorna a altura final da árvore, ou −1 se a implementação
+         * não a expõe.
+         *
+         * @return altura da árvore
+         */
+        public int altura() {
+            return altura;
+        }
+    }
+}
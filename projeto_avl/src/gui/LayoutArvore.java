@@ -0,0 +1,115 @@
+package gui;
+
+import model.No;
+import model.NoRubroNegro;
+
+import java.util.Arrays;
+
+/**
+ * Disposição imutável de uma árvore para desenho.
+ *
+ * Cada nó recebe como coluna a sua posição em ordem e como linha a
+ * sua profundidade, de modo que nós vizinhos nunca se sobrepõem,
+ * qualquer que seja o tamanho da árvore. Os dados ficam em vetores
+ * indexados pela coluna; cada nó também guarda o intervalo de colunas
+ * e a altura da sua sub‑árvore, o que permite descartar sub‑árvores
+ * inteiras fora da área visível ou resumi‑las quando ficam pequenas
+ * demais na tela.
+ *
+ * A disposição é montada em uma passagem linear na thread que alterou
+ * a árvore, no momento do evento, e depois só é lida pelo desenho;
+ * assim o desenho nunca percorre nós que estão sendo modificados.
+ */
+final class LayoutArvore {
+    static final byte COMUM = 0;
+    static final byte VERMELHO = 1;
+    static final byte PRETO = 2;
+
+    /** Disposição de uma árvore vazia. */
+    static final LayoutArvore VAZIO = new LayoutArvore(null, 0);
+
+    final int[] valor;
+    final int[] profundidade;
+    /** Coluna do filho esquerdo, ou −1. */
+    final int[] esquerda;
+    /** Coluna do filho direito, ou −1. */
+    final int[] direita;
+    /** Menor coluna da sub‑árvore. */
+    final int[] primeira;
+    /** Maior coluna da sub‑árvore. */
+    final int[] ultima;
+    /** Altura da sub‑árvore, 1 para uma folha. */
+    final int[] altura;
+    final byte[] cor;
+    final int raiz;
+    private int proxima;
+
+    private LayoutArvore(No raiz, int tamanho) {
+        valor = new int[tamanho];
+        profundidade = new int[tamanho];
+        esquerda = new int[tamanho];
+        direita = new int[tamanho];
+        primeira = new int[tamanho];
+        ultima = new int[tamanho];
+        altura = new int[tamanho];
+        cor = new byte[tamanho];
+        this.raiz = raiz == null ? -1 : dispor(raiz, 0);
+    }
+
+    /**
+     * Monta a disposição da árvore enraizada em {@code raiz}.
+     *
+     * @param raiz raiz da árvore, ou {@code null}
+     * @return disposição da árvore
+     */
+    static LayoutArvore de(No raiz) {
+        return raiz == null ? VAZIO : new LayoutArvore(raiz, contar(raiz));
+    }
+
+    /** Quantidade de nós. */
+    int tamanho() {
+        return valor.length;
+    }
+
+    /** Altura da árvore, 0 se vazia. */
+    int alturaTotal() {
+        return raiz < 0 ? 0 : altura[raiz];
+    }
+
+    /**
+     * Coluna do nó com o valor informado, ou −1. As colunas estão em
+     * ordem crescente de valor.
+     */
+    int colunaDe(int procurado) {
+        int coluna = Arrays.binarySearch(valor, procurado);
+        return coluna >= 0 ? coluna : -1;
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    private static int contar(No no) {
+        return no == null ? 0 : 1 + contar(no.esquerda) + contar(no.direita);
+    }
+
+    /**
+     * Percorre a sub‑árvore em ordem, atribuindo colunas, e retorna a
+     * coluna de {@code no}.
+     */
+    private int dispor(No no, int nivel) {
+        int filhoEsquerdo = no.esquerda == null ? -1 : dispor(no.esquerda, nivel + 1);
+        int coluna = proxima++;
+        int filhoDireito = no.direita == null ? -1 : dispor(no.direita, nivel + 1);
+        valor[coluna] = no.valor;
+        profundidade[coluna] = nivel;
+        esquerda[coluna] = filhoEsquerdo;
+        direita[coluna] = filhoDireito;
+        primeira[coluna] = filhoEsquerdo < 0 ? coluna : primeira[filhoEsquerdo];
+        ultima[coluna] = filhoDireito < 0 ? coluna : ultima[filhoDireito];
+        altura[coluna] = 1 + Math.max(filhoEsquerdo < 0 ? 0 : altura[filhoEsquerdo],
+                filhoDireito < 0 ? 0 : altura[filhoDireito]);
+        if (no instanceof NoRubroNegro) {
+            cor[coluna] = ((NoRubroNegro) no).vermelho ? VERMELHO : PRETO;
+        }
+        return coluna;
+    }
+}
@@ -0,0 +1,278 @@
+package gui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+
+/**
+ * Painel que desenha uma {@link LayoutArvore} com zoom e
+ * deslocamento.
+ *
+ * O desenho desce da raiz descartando toda sub‑árvore cujo retângulo
+ * de colunas e níveis não cruza a área de recorte, de modo que o custo
+ * depende dos nós visíveis e não do tamanho da árvore. Uma sub‑árvore
+ * mais estreita que {@value #LARGURA_RESUMO} pixels na tela é
+ * desenhada como um triângulo que cobre as suas colunas e níveis, em
+ * vez de nó a nó. Rótulos só aparecem quando os nós são grandes o
+ * bastante para contê‑los.
+ *
+ * A roda do mouse aproxima e afasta em torno do cursor, arrastar
+ * desloca a vista e um clique duplo volta a ajustar a árvore inteira
+ * ao painel, modo que vale até a primeira interação.
+ */
+final class PainelArvore extends JPanel {
+    private static final long serialVersionUID = 1L;
+
+    /** Distância horizontal entre colunas vizinhas, sem zoom. */
+    private static final int COLUNA = 36;
+    /** Distância vertical entre níveis, sem zoom. */
+    private static final int LINHA = 60;
+    private static final int RAIO = 15;
+    private static final int MARGEM = 30;
+    private static final int LARGURA_RESUMO = 8;
+    private static final double ZOOM_MINIMO = 1e-5;
+    private static final double ZOOM_MAXIMO = 4;
+    /** Menor raio, em pixels, em que os valores são escritos. */
+    private static final int RAIO_ROTULO = 9;
+
+    private static final Color COR_NO = new Color(230, 230, 250);
+    private static final Color COR_VERMELHO = new Color(200, 40, 40);
+    private static final Color COR_RESUMO = new Color(200, 200, 230);
+
+    private volatile LayoutArvore layout = LayoutArvore.VAZIO;
+    /** Valor e cor do nó destacado; só lidos se a cor não for nula. */
+    private volatile int valorDestaque;
+    private volatile Color corDestaque;
+
+    /** Escala e translação da vista; acessadas só na thread do Swing. */
+    private double zoom = 1;
+    private double deslocamentoX;
+    private double deslocamentoY;
+    /**
+     * Menor distância entre níveis, em pixels, fixada no último ajuste:
+     * numa árvore muito larga o zoom que cabe na horizontal achataria
+     * todos os níveis numa só linha.
+     */
+    private double pisoLinha;
+    private boolean ajusteAutomatico = true;
+
+    private final int[] verticesX = new int[3];
+    private final int[] verticesY = new int[3];
+
+    /** Área visível em coordenadas da disposição, recalculada a cada desenho. */
+    private int colunaMinima;
+    private int colunaMaxima;
+    private int nivelMinimo;
+    private int nivelMaximo;
+
+    PainelArvore() {
+        setBackground(Color.WHITE);
+        MouseAdapter mouse = new MouseAdapter() {
+            private Point anterior;
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                anterior = e.getPoint();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (anterior == null) {
+                    return;
+                }
+                ajusteAutomatico = false;
+                deslocamentoX += e.getX() - anterior.x;
+                deslocamentoY += e.getY() - anterior.y;
+                anterior = e.getPoint();
+                repaint();
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    ajusteAutomatico = true;
+                    repaint();
+                }
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                aproximar(Math.pow(1.15, -e.getPreciseWheelRotation()), e.getX(), e.getY());
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+        addMouseWheelListener(mouse);
+    }
+
+    /**
+     * Passa a desenhar a disposição informada. Pode ser chamado de
+     * qualquer thread.
+     *
+     * @param novo disposição a desenhar
+     */
+    void exibir(LayoutArvore novo) {
+        layout = novo;
+        repaint();
+    }
+
+    /**
+     * Destaca o nó com o valor informado, ou remove o destaque se
+     * {@code cor} for {@code null}. Pode ser chamado de qualquer
+     * thread.
+     *
+     * @param valor valor do nó
+     * @param cor   cor do destaque
+     */
+    void destacar(int valor, Color cor) {
+        valorDestaque = valor;
+        corDestaque = cor;
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        LayoutArvore atual = layout;
+        if (atual.tamanho() == 0) {
+            return;
+        }
+        if (ajusteAutomatico) {
+            ajustar(atual);
+        }
+        Graphics2D g2 = (Graphics2D) g;
+        Rectangle recorte = g2.getClipBounds();
+        if (recorte == null) {
+            recorte = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        double margem = RAIO * zoom;
+        colunaMinima = (int) Math.floor((recorte.x - margem - deslocamentoX) / (COLUNA * zoom));
+        colunaMaxima = (int) Math.ceil((recorte.x + recorte.width + margem - deslocamentoX) / (COLUNA * zoom));
+        nivelMinimo = (int) Math.floor((recorte.y - margem - deslocamentoY) / linha());
+        nivelMaximo = (int) Math.ceil((recorte.y + recorte.height + margem - deslocamentoY) / linha());
+        // Só o texto é suavizado: suavizar círculos grandes e arestas
+        // que atravessam a tela custa dezenas de milissegundos por quadro.
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        int destaque = corDestaque != null ? atual.colunaDe(valorDestaque) : -1;
+        desenharSubarvore(g2, atual, atual.raiz, destaque);
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    private void desenharSubarvore(Graphics2D g, LayoutArvore l, int coluna, int destaque) {
+        int nivel = l.profundidade[coluna];
+        if (l.ultima[coluna] < colunaMinima || l.primeira[coluna] > colunaMaxima
+                || nivel > nivelMaximo || nivel + l.altura[coluna] - 1 < nivelMinimo) {
+            return;
+        }
+        int x = telaX(coluna);
+        int y = telaY(nivel);
+        double largura = (l.ultima[coluna] - l.primeira[coluna] + 1) * COLUNA * zoom;
+        if (l.altura[coluna] > 1 && largura < LARGURA_RESUMO) {
+            desenharResumo(g, l, coluna, x, y);
+            return;
+        }
+        g.setColor(Color.BLACK);
+        if (l.esquerda[coluna] >= 0) {
+            g.drawLine(x, y, telaX(l.esquerda[coluna]), telaY(nivel + 1));
+            desenharSubarvore(g, l, l.esquerda[coluna], destaque);
+            g.setColor(Color.BLACK);
+        }
+        if (l.direita[coluna] >= 0) {
+            g.drawLine(x, y, telaX(l.direita[coluna]), telaY(nivel + 1));
+            desenharSubarvore(g, l, l.direita[coluna], destaque);
+        }
+        desenharNo(g, l, coluna, x, y, coluna == destaque);
+    }
+
+    /**
+     * Desenha um nó. O nó destacado usa a cor de destaque; nós de
+     * árvore rubro‑negra mostram a sua cor.
+     */
+    private void desenharNo(Graphics2D g, LayoutArvore l, int coluna, int x, int y, boolean destacar) {
+        int raio = raio();
+        Color texto;
+        if (destacar) {
+            g.setColor(corDestaque);
+            texto = Color.WHITE;
+        } else if (l.cor[coluna] == LayoutArvore.VERMELHO) {
+            g.setColor(COR_VERMELHO);
+            texto = Color.WHITE;
+        } else if (l.cor[coluna] == LayoutArvore.PRETO) {
+            g.setColor(Color.DARK_GRAY);
+            texto = Color.WHITE;
+        } else {
+            g.setColor(COR_NO);
+            texto = Color.BLACK;
+        }
+        g.fillOval(x - raio, y - raio, 2 * raio, 2 * raio);
+        g.setColor(Color.BLACK);
+        g.drawOval(x - raio, y - raio, 2 * raio, 2 * raio);
+        if (raio >= RAIO_ROTULO) {
+            String rotulo = String.valueOf(l.valor[coluna]);
+            FontMetrics medidas = g.getFontMetrics();
+            g.setColor(texto);
+            g.drawString(rotulo, x - medidas.stringWidth(rotulo) / 2, y + medidas.getAscent() / 2);
+        }
+    }
+
+    /**
+     * Desenha uma sub‑árvore como o triângulo que vai do seu nó até as
+     * suas colunas extremas no nível mais profundo.
+     */
+    private void desenharResumo(Graphics2D g, LayoutArvore l, int coluna, int x, int y) {
+        int fundo = telaY(l.profundidade[coluna] + l.altura[coluna] - 1);
+        int esquerda = telaX(l.primeira[coluna]);
+        int direita = Math.max(telaX(l.ultima[coluna]), esquerda + 1);
+        g.setColor(COR_RESUMO);
+        verticesX[0] = x;
+        verticesX[1] = esquerda;
+        verticesX[2] = direita;
+        verticesY[0] = y;
+        verticesY[1] = fundo;
+        verticesY[2] = fundo;
+        g.fillPolygon(verticesX, verticesY, 3);
+    }
+
+    private void ajustar(LayoutArvore l) {
+        double larguraMundo = (double) l.tamanho() * COLUNA;
+        int niveis = Math.max(1, l.alturaTotal() - 1);
+        double alturaUtil = getHeight() - 2.0 * MARGEM;
+        zoom = Math.min(1, Math.min((getWidth() - 2.0 * MARGEM) / larguraMundo,
+                alturaUtil / (niveis * LINHA)));
+        zoom = Math.max(ZOOM_MINIMO, zoom);
+        pisoLinha = Math.max(0, Math.min(LINHA, alturaUtil / niveis));
+        deslocamentoX = (getWidth() - larguraMundo * zoom) / 2 + COLUNA * zoom / 2;
+        deslocamentoY = MARGEM;
+    }
+
+    /** Multiplica o zoom por {@code fator}, mantendo fixo o ponto sob o cursor. */
+    private void aproximar(double fator, int x, int y) {
+        double novo = Math.max(ZOOM_MINIMO, Math.min(ZOOM_MAXIMO, zoom * fator));
+        double linhaAnterior = linha();
+        deslocamentoX = x - (x - deslocamentoX) * novo / zoom;
+        zoom = novo;
+        deslocamentoY = y - (y - deslocamentoY) * linha() / linhaAnterior;
+        ajusteAutomatico = false;
+        repaint();
+    }
+
+    private int raio() {
+        return Math.max(2, (int) Math.round(RAIO * zoom));
+    }
+
+    private int telaX(int coluna) {
+        return (int) Math.round(deslocamentoX + (double) coluna * COLUNA * zoom);
+    }
+
+    /** Distância entre níveis na tela, em pixels. */
+    private double linha() {
+        return Math.max(LINHA * zoom, pisoLinha);
+    }
+
+    private int telaY(int nivel) {
+        return (int) Math.round(deslocamentoY + nivel * linha());
+    }
+}
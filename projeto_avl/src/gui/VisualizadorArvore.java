@@ -1,36 +1,91 @@
 package gui;
 
 import interfaces.ArvoreBalanceada;
+import interfaces.ObservadorArvore;
+import model.ArvoreAVL;
+import model.ArvoreRubroNegra;
 import model.No;
+import model.TipoRotacao;
 
 import javax.swing.*;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import javax.swing.text.BadLocationException;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Classe responsável por exibir graficamente a árvore e registrar
  * eventos de visualização. Utiliza Swing para desenhar os nós e
  * permite que a execução do algoritmo seja controlada passo a passo
- * por meio de um botão “Próximo Passo”.
+ * por meio de um botão “Próximo Passo” ou avance sozinha, no modo
+ * automático, com um atraso ajustável entre os passos.
+ *
+ * Como {@link ObservadorArvore}, traduz os eventos estruturados da
+ * árvore em desenhos, destaques e pausas.
+ *
+ * As operações pedidas pela interface, unitárias ou em lote, entram
+ * em uma fila e são executadas em ordem por uma única thread, a única
+ * que modifica a árvore. Nessa thread, os redesenhos são agrupados:
+ * a disposição só é recalculada uma vez por quadro da tela, e o
+ * último estado é sempre exibido ao final de cada pausa e quando a
+ * fila esvazia. Os logs visível e de eventos guardam apenas as
+ * entradas mais recentes.
  */
-public class VisualizadorArvore {
+public class VisualizadorArvore implements ObservadorArvore {
+    /** Quantidade de entradas mantidas em {@link #getLogEventos()}. */
+    private static final int LIMITE_EVENTOS = 10_000;
+    /** Quantidade de linhas mantidas na área de logs. */
+    private static final int LIMITE_LINHAS_LOG = 2_000;
+    private static final int ATRASO_PADRAO = 500;
+    private static final int ATRASO_MAXIMO = 2_000;
+    /** Taxa usada quando a da tela não é conhecida, em Hz. */
+    private static final int TAXA_PADRAO = 60;
+
     private JFrame frame;
-    private JPanel painelDesenho;
+    private PainelArvore painelDesenho;
     private JTextField campoValor;
     private JButton botaoInserir;
     private JButton botaoRemover;
+    private JButton botaoLote;
     private JButton botaoProximo;
+    private JCheckBox seletorAutomatico;
+    private JSlider controleAtraso;
+    private JLabel rotuloFila;
+    private JComboBox<String> seletorArvore;
     private JTextArea areaLogs;
-    private ArvoreBalanceada arvore;
-    private CountDownLatch latch;
-    private No raizVisualizada;
-    private No noDestaque;
-    private Color corDestaque;
-    private final List<String> logEventos;
+    private volatile ArvoreBalanceada arvore;
+    private volatile CountDownLatch latch;
+    private volatile boolean automatico;
+    private volatile int atrasoPasso = ATRASO_PADRAO;
+
+    /** Fila de operações e a thread que as executa. */
+    private final ExecutorService operacoes;
+    private volatile Thread threadOperacoes;
+    private final AtomicInteger operacoesPendentes = new AtomicInteger();
+
+    /** Intervalo entre quadros da tela, em nanossegundos. */
+    private volatile long intervaloQuadro = TimeUnit.SECONDS.toNanos(1) / TAXA_PADRAO;
+    /** Estado do quadro ainda não exibido; só acessado pela thread de operações. */
+    private No raizPendente;
+    private boolean quadroPendente;
+    private long ultimoQuadro;
+
+    /** Anéis de log; acessados sob a sua própria trava. */
+    private final ArrayDeque<String> logEventos;
+    private final ArrayDeque<String> linhasPendentes;
 
     /**
      * Constrói a interface gráfica. Os componentes são inicializados
@@ -38,7 +93,14 @@ public class VisualizadorArvore {
      * chamado.
      */
     public VisualizadorArvore() {
-        logEventos = new ArrayList<>();
+        logEventos = new ArrayDeque<>();
+        linhasPendentes = new ArrayDeque<>();
+        operacoes = Executors.newSingleThreadExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "operacoes-arvore");
+            thread.setDaemon(true);
+            threadOperacoes = thread;
+            return thread;
+        });
         SwingUtilities.invokeLater(() -> {
             criarComponentes();
         });
@@ -71,20 +133,28 @@ public class VisualizadorArvore {
     /**
      * Atualiza o desenho da árvore e registra uma mensagem de log.
      * Esta chamada deve ser feita sempre que a estrutura for
-     * modificada de forma significativa.
+     * modificada de forma significativa. A disposição dos nós é
+     * calculada aqui, na thread que modificou a árvore, e o painel
+     * apenas a desenha. Na thread de operações, chamadas mais
+     * próximas que um quadro da tela são agrupadas e só a última é
+     * desenhada.
      *
      * @param novaRaiz nova raiz da árvore a ser desenhada
      * @param mensagem mensagem explicativa para o log
      */
     public void desenharPasso(No novaRaiz, String mensagem) {
         // Guarda evento para testes
-        logEventos.add("desenharPasso:" + mensagem);
-        this.raizVisualizada = novaRaiz;
-        // Adiciona mensagem aos logs na thread da GUI
-        SwingUtilities.invokeLater(() -> {
-            areaLogs.append(mensagem + "\n");
-            painelDesenho.repaint();
-        });
+        registrarEvento("desenharPasso:" + mensagem);
+        anotar(mensagem);
+        if (Thread.currentThread() != threadOperacoes) {
+            exibir(novaRaiz);
+            return;
+        }
+        raizPendente = novaRaiz;
+        quadroPendente = true;
+        if (System.nanoTime() - ultimoQuadro >= intervaloQuadro) {
+            exibirPendente();
+        }
     }
 
     /**
@@ -95,10 +165,10 @@ public class VisualizadorArvore {
      * @param cor cor do destaque
      */
     public void destacarNo(No no, Color cor) {
-        logEventos.add("destacarNo:" + (no == null ? "null" : no.valor));
-        this.noDestaque = no;
-        this.corDestaque = cor;
-        SwingUtilities.invokeLater(() -> painelDesenho.repaint());
+        registrarEvento("destacarNo:" + (no == null ? "null" : no.valor));
+        int valor = no == null ? 0 : no.valor;
+        Color destaque = no == null ? null : (cor != null ? cor : Color.RED);
+        SwingUtilities.invokeLater(() -> painelDesenho.destacar(valor, destaque));
     }
 
     /**
@@ -108,45 +178,105 @@ public class VisualizadorArvore {
      * @param etapa descrição do ponto de lógica
      */
     public void registrarPontoDeLogica(String etapa) {
-        logEventos.add("registrarPontoDeLogica:" + etapa);
+        registrarEvento("registrarPontoDeLogica:" + etapa);
         // Também registra no log visível para ajudar o aluno
-        SwingUtilities.invokeLater(() -> areaLogs.append("[LOG] " + etapa + "\n"));
+        anotar("[LOG] " + etapa);
     }
 
     /**
      * Pausa a execução até que o usuário clique no botão “Próximo
-     * Passo”. Mostra a explicação no log antes de bloquear. Quando o
-     * botão for acionado, a execução continua.
+     * Passo” ou, no modo automático, pelo atraso escolhido. Mostra a
+     * explicação no log antes de bloquear. Ligar o modo automático
+     * durante uma pausa a encerra.
      *
      * @param explicacao texto a ser exibido no log durante a pausa
      */
     public void pausar(String explicacao) {
-        logEventos.add("pausar:" + explicacao);
+        registrarEvento("pausar:" + explicacao);
         // Exibe a explicação na área de logs
-        SwingUtilities.invokeLater(() -> areaLogs.append(explicacao + "\n"));
-        // Cria um novo CountDownLatch e habilita o botão
-        latch = new CountDownLatch(1);
-        SwingUtilities.invokeLater(() -> botaoProximo.setEnabled(true));
+        anotar(explicacao);
+        int atraso = atrasoPasso;
+        boolean manual = !automatico;
+        // Com atraso menor que um quadro, a pausa não seria vista; o
+        // desenho fica a cargo do agrupamento de desenharPasso
+        if (manual || TimeUnit.MILLISECONDS.toNanos(atraso) >= intervaloQuadro) {
+            if (Thread.currentThread() == threadOperacoes) {
+                exibirPendente();
+            }
+        }
+        if (!manual && atraso == 0) {
+            return;
+        }
+        CountDownLatch passo = new CountDownLatch(1);
+        latch = passo;
+        if (manual) {
+            SwingUtilities.invokeLater(() -> botaoProximo.setEnabled(true));
+        }
         try {
-            // Aguarda até que o botão “Próximo Passo” seja pressionado
-            latch.await();
+            if (manual) {
+                // Aguarda até que o botão “Próximo Passo” seja pressionado
+                passo.await();
+            } else {
+                passo.await(atraso, TimeUnit.MILLISECONDS);
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+        latch = null;
         // Ao sair da pausa, desabilita o botão
-        SwingUtilities.invokeLater(() -> botaoProximo.setEnabled(false));
+        if (manual) {
+            SwingUtilities.invokeLater(() -> botaoProximo.setEnabled(false));
+        }
     }
 
     /**
      * Retorna uma lista imutável de eventos registrados. Este método
      * é utilizado pelos testes para verificar chamadas internas. Os
      * eventos incluem "desenharPasso", "destacarNo", "registrarPontoDeLogica"
-     * e "pausar" com informações de contexto.
+     * e "pausar" com informações de contexto. Apenas os
+     * {@value #LIMITE_EVENTOS} eventos mais recentes são mantidos.
      *
      * @return lista de eventos registrados
      */
     public List<String> getLogEventos() {
-        return new ArrayList<>(logEventos);
+        synchronized (logEventos) {
+            return new ArrayList<>(logEventos);
+        }
+    }
+
+    // ---------------------- Eventos da árvore ----------------------
+
+    @Override
+    public void noInserido(No raiz, int valor) {
+        desenharPasso(raiz, "Nó " + valor + " inserido na árvore.");
+    }
+
+    @Override
+    public void noRemovido(No raiz, int valor) {
+        desenharPasso(raiz, "Removido " + valor);
+    }
+
+    @Override
+    public void verificandoBalanceamento(No no) {
+        registrarPontoDeLogica("Verificando FB do nó " + no.valor);
+    }
+
+    @Override
+    public void rotacaoIniciada(No pivo, TipoRotacao tipo, int fatorBalanceamento) {
+        destacarNo(pivo, Color.ORANGE);
+        pausar("Iniciando Rotação " + tipo.descricao() + " no nó " + pivo.valor
+                + " (FB = " + fatorBalanceamento + ")");
+    }
+
+    @Override
+    public void rotacaoConcluida(No raiz, No novaRaiz, TipoRotacao tipo) {
+        desenharPasso(raiz, "Rotação " + tipo.descricao() + " concluída.");
+        pausar("Estrutura rebalanceada.");
+    }
+
+    @Override
+    public void loteAplicado(No raiz, int alterados, boolean insercao) {
+        desenharPasso(raiz, "Lote de " + alterados + " valores " + (insercao ? "inserido." : "removido."));
     }
 
     // ------------------ Construção da interface ------------------
@@ -165,22 +295,37 @@ public class VisualizadorArvore {
         painelEntrada.add(campoValor);
         botaoInserir = new JButton("Inserir");
         botaoRemover = new JButton("Remover");
+        botaoLote = new JButton("Lote...");
         botaoProximo = new JButton("Próximo Passo");
         botaoProximo.setEnabled(false);
         painelEntrada.add(botaoInserir);
         painelEntrada.add(botaoRemover);
+        painelEntrada.add(botaoLote);
         painelEntrada.add(botaoProximo);
-        frame.add(painelEntrada, BorderLayout.NORTH);
+        seletorArvore = new JComboBox<>(new String[] {"AVL", "Rubro-negra"});
+        painelEntrada.add(seletorArvore);
+
+        // Painel do modo automático
+        JPanel painelReproducao = new JPanel();
+        painelReproducao.setLayout(new FlowLayout());
+        seletorAutomatico = new JCheckBox("Automático");
+        painelReproducao.add(seletorAutomatico);
+        painelReproducao.add(new JLabel("Atraso (ms):"));
+        controleAtraso = new JSlider(0, ATRASO_MAXIMO, ATRASO_PADRAO);
+        controleAtraso.setMajorTickSpacing(500);
+        controleAtraso.setPaintLabels(true);
+        painelReproducao.add(controleAtraso);
+        rotuloFila = new JLabel("Fila: 0");
+        painelReproducao.add(rotuloFila);
+
+        JPanel painelControles = new JPanel();
+        painelControles.setLayout(new BoxLayout(painelControles, BoxLayout.Y_AXIS));
+        painelControles.add(painelEntrada);
+        painelControles.add(painelReproducao);
+        frame.add(painelControles, BorderLayout.NORTH);
 
         // Área de desenho
-        painelDesenho = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                desenharArvore((Graphics2D) g);
-            }
-        };
-        painelDesenho.setBackground(Color.WHITE);
+        painelDesenho = new PainelArvore();
         frame.add(painelDesenho, BorderLayout.CENTER);
 
         // Área de logs
@@ -190,6 +335,18 @@ public class VisualizadorArvore {
         scrollLogs.setPreferredSize(new Dimension(800, 150));
         frame.add(scrollLogs, BorderLayout.SOUTH);
 
+        // Logs e contador da fila são atualizados uma vez por quadro
+        int taxa = taxaAtualizacao();
+        intervaloQuadro = TimeUnit.SECONDS.toNanos(1) / taxa;
+        Timer quadros = new Timer(Math.max(1, 1000 / taxa), new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                descarregarLogs();
+                rotuloFila.setText("Fila: " + operacoesPendentes.get());
+            }
+        });
+        quadros.start();
+
         // Listeners dos botões
         botaoInserir.addActionListener(new ActionListener() {
             @Override
@@ -198,10 +355,10 @@ public class VisualizadorArvore {
                 String texto = campoValor.getText().trim();
                 try {
                     int valor = Integer.parseInt(texto);
-                    // Executa a inserção em uma thread separada
-                    new Thread(() -> arvore.inserir(valor)).start();
+                    // Executa a inserção na thread de operações
+                    enfileirar(() -> arvore.inserir(valor));
                 } catch (NumberFormatException ex) {
-                    areaLogs.append("Valor inválido: " + texto + "\n");
+                    anotar("Valor inválido: " + texto);
                 }
                 campoValor.setText("");
             }
@@ -213,81 +370,234 @@ public class VisualizadorArvore {
                 String texto = campoValor.getText().trim();
                 try {
                     int valor = Integer.parseInt(texto);
-                    new Thread(() -> arvore.remover(valor)).start();
+                    enfileirar(() -> arvore.remover(valor));
                 } catch (NumberFormatException ex) {
-                    areaLogs.append("Valor inválido: " + texto + "\n");
+                    anotar("Valor inválido: " + texto);
                 }
                 campoValor.setText("");
             }
         });
+        botaoLote.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (arvore == null) return;
+                abrirLote();
+            }
+        });
+        seletorArvore.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                trocarArvore((String) seletorArvore.getSelectedItem());
+            }
+        });
         botaoProximo.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                if (latch != null) {
-                    latch.countDown();
+                CountDownLatch passo = latch;
+                if (passo != null) {
+                    passo.countDown();
+                }
+            }
+        });
+        seletorAutomatico.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                automatico = seletorAutomatico.isSelected();
+                CountDownLatch passo = latch;
+                if (automatico && passo != null) {
+                    // Encerra a pausa manual em andamento
+                    botaoProximo.setEnabled(false);
+                    passo.countDown();
                 }
             }
         });
+        controleAtraso.addChangeListener(new ChangeListener() {
+            @Override
+            public void stateChanged(ChangeEvent e) {
+                atrasoPasso = controleAtraso.getValue();
+            }
+        });
     }
 
     /**
-     * Desenha a estrutura atual da árvore no painel de desenho.
-     * O método utiliza uma abordagem recursiva para posicionar os
-     * nós em níveis e espaçamentos proporcionais. O nó
-     * destacado, se presente, é desenhado em uma cor distinta.
+     * Abre o diálogo de operações em lote: os valores podem ser
+     * colados ou lidos de um arquivo e são inseridos ou removidos, em
+     * ordem, por uma única tarefa da fila.
      */
-    private void desenharArvore(Graphics2D g) {
-        if (raizVisualizada == null) return;
-        int largura = painelDesenho.getWidth();
-        int altura = painelDesenho.getHeight();
-        desenharNo(g, raizVisualizada, largura / 2, 30, largura / 4);
+    private void abrirLote() {
+        JTextArea entrada = new JTextArea(12, 40);
+        JButton botaoArquivo = new JButton("Abrir arquivo...");
+        botaoArquivo.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                JFileChooser seletor = new JFileChooser();
+                if (seletor.showOpenDialog(frame) == JFileChooser.APPROVE_OPTION) {
+                    try {
+                        entrada.setText(Files.readString(seletor.getSelectedFile().toPath()));
+                    } catch (IOException ex) {
+                        JOptionPane.showMessageDialog(frame, "Não foi possível ler o arquivo: " + ex.getMessage(),
+                                "Operações em lote", JOptionPane.ERROR_MESSAGE);
+                    }
+                }
+            }
+        });
+        JPanel painel = new JPanel(new BorderLayout(0, 5));
+        painel.add(new JLabel("Valores separados por espaços, vírgulas ou quebras de linha:"), BorderLayout.NORTH);
+        painel.add(new JScrollPane(entrada), BorderLayout.CENTER);
+        painel.add(botaoArquivo, BorderLayout.SOUTH);
+
+        String[] opcoes = {"Inserir", "Remover", "Cancelar"};
+        int escolha = JOptionPane.showOptionDialog(frame, painel, "Operações em lote",
+                JOptionPane.DEFAULT_OPTION, JOptionPane.PLAIN_MESSAGE, null, opcoes, opcoes[0]);
+        if (escolha != 0 && escolha != 1) {
+            return;
+        }
+        int[] valores = lerValores(entrada.getText());
+        if (valores == null || valores.length == 0) {
+            return;
+        }
+        boolean insercao = escolha == 0;
+        anotar("Lote de " + valores.length + " valores enfileirado para "
+                + (insercao ? "inserção." : "remoção."));
+        enfileirar(() -> {
+            ArvoreBalanceada alvo = arvore;
+            for (int valor : valores) {
+                if (insercao) {
+                    alvo.inserir(valor);
+                } else {
+                    alvo.remover(valor);
+                }
+            }
+        });
     }
 
     /**
-     * Desenha um nó e suas sub‑árvores recursivamente.
+     * Substitui a árvore controlada por uma nova, vazia, do tipo
+     * escolhido no seletor, tendo este visualizador como observador.
+     * A troca entra na fila, depois das operações já pedidas.
      *
-     * @param g contexto gráfico
-     * @param no nó atual
-     * @param x coordenada x do nó
-     * @param y coordenada y do nó
-     * @param offset deslocamento horizontal para posicionar filhos
+     * @param tipo item selecionado
+     */
+    private void trocarArvore(String tipo) {
+        enfileirar(() -> {
+            if ("Rubro-negra".equals(tipo)) {
+                arvore = new ArvoreRubroNegra(this);
+            } else {
+                arvore = new ArvoreAVL(this);
+            }
+            SwingUtilities.invokeLater(() -> painelDesenho.destacar(0, null));
+            desenharPasso(null, "Nova árvore " + tipo + " vazia.");
+        });
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    /**
+     * Coloca uma operação no fim da fila. Quando a fila esvazia, o
+     * último estado agrupado é desenhado.
+     */
+    private void enfileirar(Runnable operacao) {
+        operacoesPendentes.incrementAndGet();
+        operacoes.execute(() -> {
+            try {
+                operacao.run();
+            } catch (RuntimeException e) {
+                anotar("Erro: " + e);
+            } finally {
+                if (operacoesPendentes.decrementAndGet() == 0) {
+                    exibirPendente();
+                }
+            }
+        });
+    }
+
+    /** Desenha o quadro agrupado, se houver; só na thread de operações. */
+    private void exibirPendente() {
+        if (quadroPendente) {
+            quadroPendente = false;
+            ultimoQuadro = System.nanoTime();
+            exibir(raizPendente);
+            raizPendente = null;
+        }
+    }
+
+    private void exibir(No raiz) {
+        LayoutArvore layout = LayoutArvore.de(raiz);
+        SwingUtilities.invokeLater(() -> painelDesenho.exibir(layout));
+    }
+
+    private void registrarEvento(String evento) {
+        synchronized (logEventos) {
+            if (logEventos.size() == LIMITE_EVENTOS) {
+                logEventos.removeFirst();
+            }
+            logEventos.addLast(evento);
+        }
+    }
+
+    /** Agenda uma linha para a área de logs; descarta as mais antigas se exceder o limite. */
+    private void anotar(String linha) {
+        synchronized (linhasPendentes) {
+            if (linhasPendentes.size() == LIMITE_LINHAS_LOG) {
+                linhasPendentes.removeFirst();
+            }
+            linhasPendentes.addLast(linha);
+        }
+    }
+
+    /**
+     * Acrescenta as linhas agendadas à área de logs e remove as mais
+     * antigas além do limite. Executado na thread do Swing.
      */
-    private void desenharNo(Graphics2D g, No no, int x, int y, int offset) {
-        if (no == null) return;
-        // Desenha conexões com filhos
-        if (no.esquerda != null) {
-            int childX = x - offset;
-            int childY = y + 60;
-            g.setColor(Color.BLACK);
-            g.drawLine(x, y, childX, childY);
-            desenharNo(g, no.esquerda, childX, childY, offset / 2);
+    private void descarregarLogs() {
+        StringBuilder texto = new StringBuilder();
+        synchronized (linhasPendentes) {
+            if (linhasPendentes.isEmpty()) {
+                return;
+            }
+            for (String linha : linhasPendentes) {
+                texto.append(linha).append('\n');
+            }
+            linhasPendentes.clear();
         }
-        if (no.direita != null) {
-            int childX = x + offset;
-            int childY = y + 60;
-            g.setColor(Color.BLACK);
-            g.drawLine(x, y, childX, childY);
-            desenharNo(g, no.direita, childX, childY, offset / 2);
+        areaLogs.append(texto.toString());
+        // A última linha, após a quebra final, está sempre vazia
+        int excesso = areaLogs.getLineCount() - 1 - LIMITE_LINHAS_LOG;
+        if (excesso > 0) {
+            try {
+                areaLogs.replaceRange("", 0, areaLogs.getLineStartOffset(excesso));
+            } catch (BadLocationException e) {
+                throw new IllegalStateException(e);
+            }
         }
-        // Desenha o nó (círculo)
-        int raio = 15;
-        int diametro = raio * 2;
-        // Verifica se este nó deve ser destacado
-        if (no == noDestaque) {
-            g.setColor(corDestaque != null ? corDestaque : Color.RED);
-            g.fillOval(x - raio, y - raio, diametro, diametro);
-            g.setColor(Color.WHITE);
-        } else {
-            g.setColor(new Color(230, 230, 250));
-            g.fillOval(x - raio, y - raio, diametro, diametro);
-            g.setColor(Color.BLACK);
+    }
+
+    /**
+     * Converte o texto do lote em valores, ou retorna {@code null} e
+     * registra o primeiro item inválido.
+     */
+    private int[] lerValores(String texto) {
+        String[] itens = texto.trim().split("[\\s,;]+");
+        int[] valores = new int[itens.length];
+        int quantidade = 0;
+        for (String item : itens) {
+            if (item.isEmpty()) {
+                continue;
+            }
+            try {
+                valores[quantidade++] = Integer.parseInt(item);
+            } catch (NumberFormatException e) {
+                anotar("Valor inválido no lote: " + item);
+                return null;
+            }
         }
-        g.drawOval(x - raio, y - raio, diametro, diametro);
-        // Desenha o valor
-        String texto = String.valueOf(no.valor);
-        FontMetrics fm = g.getFontMetrics();
-        int textoLargura = fm.stringWidth(texto);
-        int textoAltura = fm.getAscent();
-        g.drawString(texto, x - textoLargura / 2, y + textoAltura / 2);
+        return Arrays.copyOf(valores, quantidade);
+    }
+
+    /** Taxa de atualização da tela principal, em Hz. */
+    private static int taxaAtualizacao() {
+        int taxa = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDisplayMode().getRefreshRate();
+        return taxa > 0 ? taxa : TAXA_PADRAO;
     }
 }
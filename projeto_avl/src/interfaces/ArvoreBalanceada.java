@@ -5,8 +5,9 @@ package interfaces;
  *
  * O objetivo desta interface é permitir que diferentes implementações
  * (como AVL, Red‑Black, etc.) sejam utilizadas pela interface gráfica
- * sem conhecer detalhes específicos da estrutura. Os métodos não
- * retornam valores pois a árvore é modificada internamente.
+ * sem conhecer detalhes específicos da estrutura. Os métodos de
+ * modificação não retornam valores pois a árvore é modificada
+ * internamente.
  */
 public interface ArvoreBalanceada {
 
@@ -27,4 +28,64 @@ public interface ArvoreBalanceada {
      * @param valor valor inteiro a ser removido
      */
     void remover(int valor);
+
+    /**
+     * Verifica se um valor está presente na árvore.
+     *
+     * @param valor valor procurado
+     * @return {@code true} se existir, {@code false} caso contrário
+     */
+    boolean contem(int valor);
+
+    /**
+     * Insere um conjunto de valores já ordenados de forma estritamente
+     * crescente. A implementação padrão insere um valor por vez;
+     * estruturas que saibam montar a árvore diretamente a partir de
+     * uma sequência ordenada devem sobrescrever este método.
+     *
+     * @param valoresOrdenados valores em ordem crescente, sem repetição
+     */
+    default void inserirOrdenados(int[] valoresOrdenados) {
+        for (int valor : valoresOrdenados) {
+            inserir(valor);
+        }
+    }
+
+    /**
+     * Insere um lote de valores em qualquer ordem. A implementação
+     * padrão insere um valor por vez; estruturas que consigam
+     * percorrer os prefixos de caminho comuns uma única vez devem
+     * sobrescrever este método.
+     *
+     * @param valores valores a inserir, possivelmente repetidos
+     * @return quantidade de valores que não existiam e foram inseridos
+     */
+    default int inserirLote(int[] valores) {
+        int alterados = 0;
+        for (int valor : valores) {
+            if (!contem(valor)) {
+                inserir(valor);
+                alterados++;
+            }
+        }
+        return alterados;
+    }
+
+    /**
+     * Remove um lote de valores em qualquer ordem. A implementação
+     * padrão remove um valor por vez.
+     *
+     * @param valores valores a remover, possivelmente repetidos
+     * @return quantidade de valores que existiam e foram removidos
+     */
+    default int removerLote(int[] valores) {
+        int alterados = 0;
+        for (int valor : valores) {
+            if (contem(valor)) {
+                remover(valor);
+                alterados++;
+            }
+        }
+        return alterados;
+    }
 }
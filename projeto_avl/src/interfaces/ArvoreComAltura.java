@@ -0,0 +1,16 @@
+package interfaces;
+
+/**
+ * Árvore que informa a própria altura, permitindo que relatórios
+ * comparem implementações diferentes sem conhecer cada uma delas.
+ */
+public interface ArvoreComAltura {
+
+    /**
+     * Retorna a altura da árvore: 0 se vazia, 1 se houver só a raiz.
+     * Estruturas em páginas contam níveis de páginas.
+     *
+     * @return altura da árvore
+     */
+    int altura();
+}
@@ -0,0 +1,52 @@
+package interfaces;
+
+/**
+ * Visão JMX das métricas de uma árvore, registrada por
+ * {@code MetricasArvore.registrarJmx(String)}. Os atributos são lidos
+ * no momento da consulta; altura e tamanho podem refletir uma
+ * modificação ainda em andamento.
+ */
+public interface MetricasArvoreMXBean {
+
+    long getRotacoesLL();
+
+    long getRotacoesRR();
+
+    long getRotacoesLR();
+
+    long getRotacoesRL();
+
+    /** Quantidade de buscas medidas. */
+    long getBuscas();
+
+    /** Média de comparações de chave por busca. */
+    double getComparacoesPorBusca();
+
+    int getTamanho();
+
+    int getAltura();
+
+    /** Altura máxima de uma AVL com o tamanho atual: 1,44·log2(n + 2) − 0,328. */
+    double getAlturaMaximaTeorica();
+
+    /** Consultas por valores ausentes respondidas pelo filtro, sem percorrer a árvore. */
+    long getDescartesFiltro();
+
+    /** Fração das consultas por valores ausentes que passaram pelo filtro. */
+    double getTaxaFalsosPositivosFiltro();
+
+    /** Memória dos baldes do filtro, ou 0 se desabilitado. */
+    long getBytesFiltro();
+
+    /** Uma linha por operação com a contagem e os percentis 50, 99 e 99,9. */
+    String[] getResumoLatencias();
+
+    /**
+     * Percentil de latência de uma operação.
+     *
+     * @param operacao  {@code BUSCA}, {@code INSERCAO} ou {@code REMOCAO}
+     * @param percentil percentil entre 0 e 100
+     * @return limite superior da faixa do percentil, em nanossegundos
+     */
+    long percentilLatenciaNanos(String operacao, double percentil);
+}
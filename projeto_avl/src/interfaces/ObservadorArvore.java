@@ -0,0 +1,79 @@
+package interfaces;
+
+import model.No;
+import model.TipoRotacao;
+
+/**
+ * Interface para acompanhar os passos internos de uma árvore.
+ *
+ * As árvores notificam eventos estruturados (o nó envolvido, o tipo
+ * de rotação, o fator de balanceamento) em vez de mensagens já
+ * formatadas, de modo que cada observador decide se e como
+ * apresentá‑los. Todos os métodos têm implementação vazia; a
+ * constante {@link #NENHUM} é usada quando não há observador e, por
+ * ter corpo vazio, é eliminada pelo compilador JIT, sem custo para
+ * árvores em produção.
+ */
+public interface ObservadorArvore {
+
+    /** Observador que ignora todos os eventos. */
+    ObservadorArvore NENHUM = new ObservadorArvore() {
+    };
+
+    /**
+     * Um valor foi inserido como nova folha, antes do rebalanceamento.
+     *
+     * @param raiz  raiz atual da árvore
+     * @param valor valor inserido
+     */
+    default void noInserido(No raiz, int valor) {
+    }
+
+    /**
+     * Um valor foi removido, antes do rebalanceamento.
+     *
+     * @param raiz  raiz atual da árvore
+     * @param valor valor removido
+     */
+    default void noRemovido(No raiz, int valor) {
+    }
+
+    /**
+     * O fator de balanceamento de um nó está prestes a ser calculado.
+     *
+     * @param no nó verificado
+     */
+    default void verificandoBalanceamento(No no) {
+    }
+
+    /**
+     * Uma rotação está prestes a ser aplicada.
+     *
+     * @param pivo               nó desbalanceado
+     * @param tipo               caso de desbalanceamento
+     * @param fatorBalanceamento fator do pivô (±2)
+     */
+    default void rotacaoIniciada(No pivo, TipoRotacao tipo, int fatorBalanceamento) {
+    }
+
+    /**
+     * Uma rotação terminou e a sub‑árvore já foi religada ao pai.
+     *
+     * @param raiz     raiz atual da árvore
+     * @param novaRaiz nova raiz da sub‑árvore rotacionada
+     * @param tipo     caso de desbalanceamento tratado
+     */
+    default void rotacaoConcluida(No raiz, No novaRaiz, TipoRotacao tipo) {
+    }
+
+    /**
+     * Vários valores foram inseridos ou removidos de uma só vez, por
+     * construção a partir de valores ordenados ou por operação em lote.
+     *
+     * @param raiz      raiz atual da árvore
+     * @param alterados quantidade de valores inseridos ou removidos
+     * @param insercao  {@code true} para inserção, {@code false} para remoção
+     */
+    default void loteAplicado(No raiz, int alterados, boolean insercao) {
+    }
+}
@@ -0,0 +1,388 @@
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * Gravação e leitura de árvores em arquivos binários.
+ *
+ * Há dois formatos, ambos em ordem de bytes little‑endian:
+ * <ul>
+ *   <li><b>Instantâneo</b>: os valores em ordem crescente, o primeiro
+ *   com 4 bytes e os demais como a diferença para o anterior em
+ *   varint (7 bits por byte), seguidos de um CRC‑32 do conteúdo no
+ *   cabeçalho. Chaves próximas ocupam 1 ou 2 bytes cada. A leitura
+ *   mapeia o arquivo em memória e monta a árvore em tempo linear, sem
+ *   inserções avulsas.</li>
+ *   <li><b>Índice</b>: o vetor de um {@link IndiceCongelado}, já na
+ *   disposição de Eytzinger, com 4 bytes por valor. É aberto como
+ *   {@link IndiceMapeado}, consultado diretamente no arquivo mapeado;
+ *   a partida a frio custa faltas de página em vez de uma
+ *   reconstrução.</li>
+ * </ul>
+ * Os arquivos são gravados em um temporário ao lado do destino e
+ * renomeados ao final, de modo que uma falha durante a gravação
+ * preserva a versão anterior. Depois da renomeação o diretório é
+ * sincronizado, para que a nova entrada sobreviva a uma queda.
+ */
+public final class ArquivoArvore {
+    private static final int MAGICO_INSTANTANEO = 0x31_4C_56_41; // "AVL1"
+    private static final int MAGICO_INDICE = 0x49_4C_56_41;      // "AVLI"
+    private static final int VERSAO = 1;
+    /** Mágico, versão, quantidade de valores e CRC‑32 ou reservado. */
+    private static final int CABECALHO = 16;
+    private static final int TAMANHO_BUFFER = 1 << 16;
+    /** Maior trecho do instantâneo mapeado de uma vez. */
+    private static final int JANELA = 1 << 30;
+    /** Maior índice que cabe em um único mapeamento. */
+    private static final int TAMANHO_MAXIMO_INDICE = (Integer.MAX_VALUE - CABECALHO) / Integer.BYTES - 1;
+    private static final boolean WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
+
+    private ArquivoArvore() {
+    }
+
+    /**
+     * Grava os valores da árvore como instantâneo. Apenas as chaves
+     * são gravadas; cargas como as de {@link ArvoreAVLMapa} não.
+     *
+     * @param arvore  árvore a gravar, que não deve ser modificada
+     *                durante a gravação
+     * @param arquivo arquivo de destino, substituído se existir
+     * @throws IOException se a gravação falhar
+     */
+    public static void salvar(ArvoreBinariaBusca arvore, Path arquivo) throws IOException {
+        salvar(arvore::forEach, arquivo);
+    }
+
+    /**
+     * Grava valores já ordenados como instantâneo, sem montar uma
+     * árvore.
+     *
+     * @param valoresOrdenados valores em ordem estritamente crescente
+     * @param arquivo          arquivo de destino, substituído se existir
+     * @throws IOException              se a gravação falhar
+     * @throws IllegalArgumentException se os valores não estiverem
+     *                                  ordenados ou tiverem repetição
+     */
+    public static void salvarOrdenados(int[] valoresOrdenados, Path arquivo) throws IOException {
+        for (int i = 1; i < valoresOrdenados.length; i++) {
+            if (valoresOrdenados[i - 1] >= valoresOrdenados[i]) {
+                throw new IllegalArgumentException("Valores fora de ordem na posição " + i);
+            }
+        }
+        salvar(acao -> {
+            for (int valor : valoresOrdenados) {
+                acao.accept(valor);
+            }
+        }, arquivo);
+    }
+
+    /**
+     * Lê um instantâneo e monta a árvore AVL correspondente em tempo
+     * linear. O arquivo é mapeado em memória e decodificado em uma
+     * passagem; o CRC‑32 é conferido antes da montagem.
+     *
+     * @param arquivo instantâneo gravado por {@link #salvar}
+     * @return nova árvore, sem observador, com os valores do arquivo
+     * @throws IOException se a leitura falhar ou o arquivo estiver
+     *                     corrompido
+     */
+    public static ArvoreAVL carregar(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            Leitor leitor = new Leitor(canal, arquivo);
+            int quantidade = leitor.lerCabecalho(MAGICO_INSTANTANEO);
+            int crcEsperado = leitor.lerInt();
+            leitor.iniciarConteudo();
+            int[] valores = new int[quantidade];
+            long anterior = 0;
+            for (int i = 0; i < quantidade; i++) {
+                long valor = i == 0 ? leitor.lerInt() : anterior + leitor.lerVarint();
+                if ((i > 0 && valor <= anterior) || valor > Integer.MAX_VALUE) {
+                    throw corrompido(arquivo, "valores fora de ordem");
+                }
+                valores[i] = (int) valor;
+                anterior = valor;
+            }
+            if (!leitor.terminou()) {
+                throw corrompido(arquivo, "dados após o último valor");
+            }
+            if (leitor.crc() != crcEsperado) {
+                throw corrompido(arquivo, "CRC‑32 não confere");
+            }
+            return ArvoreAVL.construirDeOrdenados(valores);
+        }
+    }
+
+    /**
+     * Grava o índice na sua disposição de busca, para ser aberto por
+     * {@link #abrirIndice(Path)}.
+     *
+     * @param indice  índice a gravar
+     * @param arquivo arquivo de destino, substituído se existir
+     * @throws IOException              se a gravação falhar
+     * @throws IllegalArgumentException se o índice não couber em um
+     *                                  único mapeamento (cerca de 536
+     *                                  milhões de valores)
+     */
+    public static void salvarIndice(IndiceCongelado indice, Path arquivo) throws IOException {
+        if (indice.tamanho() > TAMANHO_MAXIMO_INDICE) {
+            throw new IllegalArgumentException("Índice mapeado limitado a " + TAMANHO_MAXIMO_INDICE + " valores");
+        }
+        int[] chaves = indice.chaves();
+        Path temporario = temporario(arquivo);
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGICO_INDICE).putInt(VERSAO).putInt(indice.tamanho()).putInt(0);
+            for (int inicio = 0; inicio < chaves.length; ) {
+                int quantidade = Math.min(chaves.length - inicio, buffer.remaining() / Integer.BYTES);
+                buffer.asIntBuffer().put(chaves, inicio, quantidade);
+                buffer.position(buffer.position() + quantidade * Integer.BYTES);
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    canal.write(buffer);
+                }
+                buffer.clear();
+                inicio += quantidade;
+            }
+            canal.force(true);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        sincronizarDiretorio(arquivo.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Mapeia um índice gravado por {@link #salvarIndice} sem copiá‑lo
+     * para o heap. O arquivo não deve ser alterado enquanto o índice
+     * estiver em uso.
+     *
+     * @param arquivo índice a abrir
+     * @return índice somente leitura apoiado no arquivo
+     * @throws IOException se a leitura falhar ou o arquivo não for um
+     *                     índice válido
+     */
+    public static IndiceMapeado abrirIndice(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long bytes = canal.size();
+            if (bytes < CABECALHO + Integer.BYTES || bytes > Integer.MAX_VALUE) {
+                throw corrompido(arquivo, "tamanho inválido");
+            }
+            MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, bytes);
+            mapa.order(ByteOrder.LITTLE_ENDIAN);
+            int tamanho = validarCabecalho(arquivo, MAGICO_INDICE, mapa.getInt(), mapa.getInt(), mapa.getInt());
+            if (bytes != CABECALHO + (tamanho + 1L) * Integer.BYTES) {
+                throw corrompido(arquivo, "tamanho não corresponde ao cabeçalho");
+            }
+            mapa.position(CABECALHO);
+            IntBuffer chaves = mapa.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            return new IndiceMapeado(chaves, tamanho);
+        }
+    }
+
+    /**
+     * Sincroniza as entradas do diretório com o disco, tornando
+     * duráveis criações, renomeações e remoções feitas nele. No
+     * Windows um diretório não pode ser aberto como arquivo e o NTFS
+     * já registra essas alterações em diário, então nada é feito.
+     */
+    static void sincronizarDiretorio(Path diretorio) throws IOException {
+        if (WINDOWS) {
+            return;
+        }
+        try (FileChannel canal = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        }
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    /**
+     * Grava como instantâneo os valores entregues, em ordem crescente,
+     * por {@code percurso}.
+     */
+    private static void salvar(Consumer<IntConsumer> percurso, Path arquivo) throws IOException {
+        Path temporario = temporario(arquivo);
+        CRC32 crc = new CRC32();
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+            canal.position(CABECALHO);
+            int[] gravados = {0};
+            long[] anterior = {0};
+            try {
+                percurso.accept(valor -> {
+                    if (buffer.remaining() < Integer.BYTES + 1) {
+                        descarregar(canal, buffer, crc);
+                    }
+                    if (gravados[0]++ == 0) {
+                        buffer.putInt(valor);
+                    } else {
+                        escreverVarint(buffer, valor - anterior[0]);
+                    }
+                    anterior[0] = valor;
+                });
+                descarregar(canal, buffer, crc);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            buffer.clear();
+            buffer.putInt(MAGICO_INSTANTANEO).putInt(VERSAO).putInt(gravados[0]).putInt((int) crc.getValue());
+            buffer.flip();
+            escreverTudo(canal, buffer, 0);
+            canal.force(true);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        sincronizarDiretorio(arquivo.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Leitura sequencial de um instantâneo mapeado em janelas de até
+     * {@link #JANELA} bytes, acumulando o CRC‑32 do conteúdo.
+     */
+    private static final class Leitor {
+        private final FileChannel canal;
+        private final Path arquivo;
+        private final long bytes;
+        private final CRC32 crc = new CRC32();
+        private MappedByteBuffer janela;
+        private long inicioJanela;
+        private boolean acumulando;
+
+        Leitor(FileChannel canal, Path arquivo) throws IOException {
+            this.canal = canal;
+            this.arquivo = arquivo;
+            this.bytes = canal.size();
+            mapear(0);
+        }
+
+        int lerCabecalho(int magico) throws IOException {
+            if (bytes < CABECALHO) {
+                throw corrompido(arquivo, "menor que o cabeçalho");
+            }
+            int quantidade = validarCabecalho(arquivo, magico, lerInt(), lerInt(), lerInt());
+            if (quantidade > bytes - CABECALHO) {
+                throw corrompido(arquivo, "quantidade de valores incompatível com o tamanho");
+            }
+            return quantidade;
+        }
+
+        /** Passa a acumular o CRC a partir da posição atual. */
+        void iniciarConteudo() {
+            crc.update(janela.duplicate());
+            acumulando = true;
+        }
+
+        int lerInt() throws IOException {
+            return (lerByte() & 0xFF) | (lerByte() & 0xFF) << 8 | (lerByte() & 0xFF) << 16 | lerByte() << 24;
+        }
+
+        long lerVarint() throws IOException {
+            long valor = 0;
+            for (int deslocamento = 0; deslocamento < 35; deslocamento += 7) {
+                byte b = lerByte();
+                valor |= (long) (b & 0x7F) << deslocamento;
+                if (b >= 0) {
+                    return valor;
+                }
+            }
+            throw corrompido(arquivo, "varint com mais de 5 bytes");
+        }
+
+        boolean terminou() {
+            return inicioJanela + janela.position() == bytes;
+        }
+
+        int crc() {
+            return (int) crc.getValue();
+        }
+
+        private byte lerByte() throws IOException {
+            if (!janela.hasRemaining()) {
+                if (inicioJanela + janela.capacity() >= bytes) {
+                    throw corrompido(arquivo, "fim inesperado");
+                }
+                mapear(inicioJanela + janela.capacity());
+                if (acumulando) {
+                    crc.update(janela.duplicate());
+                }
+            }
+            return janela.get();
+        }
+
+        private void mapear(long inicio) throws IOException {
+            inicioJanela = inicio;
+            janela = canal.map(FileChannel.MapMode.READ_ONLY, inicio, Math.min(JANELA, bytes - inicio));
+            janela.order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Confere os três primeiros campos do cabeçalho e retorna a
+     * quantidade de valores.
+     */
+    private static int validarCabecalho(Path arquivo, int esperado, int magico, int versao, int quantidade)
+            throws IOException {
+        if (magico != esperado) {
+            throw corrompido(arquivo, "formato desconhecido");
+        }
+        if (versao != VERSAO) {
+            throw corrompido(arquivo, "versão " + versao + " não suportada");
+        }
+        if (quantidade < 0) {
+            throw corrompido(arquivo, "quantidade negativa");
+        }
+        return quantidade;
+    }
+
+    /**
+     * Grava um valor sem sinal de até 32 bits em grupos de 7 bits,
+     * do menos para o mais significativo; o bit 8 indica que há mais
+     * grupos.
+     */
+    private static void escreverVarint(ByteBuffer buffer, long valor) {
+        while (valor >= 0x80) {
+            buffer.put((byte) (valor | 0x80));
+            valor >>>= 7;
+        }
+        buffer.put((byte) valor);
+    }
+
+    private static void descarregar(FileChannel canal, ByteBuffer buffer, CRC32 crc) {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        try {
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    private static void escreverTudo(FileChannel canal, ByteBuffer buffer, long posicao) throws IOException {
+        while (buffer.hasRemaining()) {
+            posicao += canal.write(buffer, posicao);
+        }
+    }
+
+    private static Path temporario(Path arquivo) {
+        return arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+    }
+
+    private static IOException corrompido(Path arquivo, String motivo) {
+        return new IOException(arquivo + ": arquivo inválido, " + motivo);
+    }
+}
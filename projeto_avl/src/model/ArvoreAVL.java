@@ -1,126 +1,722 @@
 package model;
 
-import gui.VisualizadorArvore;
 import interfaces.ArvoreBalanceada;
-import java.awt.Color;
+import interfaces.ObservadorArvore;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
 
 /**
- * Classe esqueleto para a implementação de uma árvore AVL.
+ * Implementação de uma árvore AVL.
  * Esta classe estende a implementação básica de árvore binária de
- * busca e adiciona um campo para interação com o visualizador.
- * O aluno deverá implementar todos os métodos marcados como
- * {@code TODO ALUNO} para que a árvore funcione corretamente.
+ * busca, rebalanceando os nós no caminho de volta de cada inserção,
+ * e notifica um {@link ObservadorArvore} (como o visualizador) a cada
+ * passo relevante. Sem observador, os eventos vão para
+ * {@link ObservadorArvore#NENHUM} e não custam nada.
  *  Hello stranger, perdido? por favor, leia o roteiro_avl.md antes de qualquer coisa.
  */
 public class ArvoreAVL extends ArvoreBinariaBusca implements ArvoreBalanceada {
-    private final VisualizadorArvore visualizador;
+    /**
+     * Abaixo desta soma de tamanhos, as operações de conjunto seguem
+     * na thread atual: dividir o trabalho custaria mais que fazê‑lo.
+     */
+    private static final int LIMIAR_PARALELO = 1 << 13;
+
+    /** Operações de conjunto baseadas em divisão e junção. */
+    private enum OperacaoConjunto {
+        UNIAO, INTERSECAO, DIFERENCA
+    }
+
+    /** Resultado de {@link #dividir(No, int, Partes)}. */
+    private static final class Partes {
+        No menores;
+        No encontrado;
+        No maiores;
+    }
+
+    private final ObservadorArvore observador;
+    /** Tipo da última rotação aplicada, repassado ao observador. */
+    private TipoRotacao ultimaRotacao;
+    /** Contador de valores alterados durante a operação em lote atual. */
+    private int alteracoesLote;
+    /** Valores ligados ou desligados pela operação em lote atual. */
+    private int[] valoresLote;
+
+    /**
+     * Constrói uma árvore AVL sem observador, para uso sem interface
+     * gráfica.
+     */
+    public ArvoreAVL() {
+        this(null);
+    }
+
+    /**
+     * Constrói uma árvore AVL associada a um observador. O
+     * visualizador, por exemplo, utiliza os eventos para desenhar a
+     * árvore, destacar nós e pausar a execução.
+     *
+     * @param observador observador dos passos, ou {@code null}
+     */
+    public ArvoreAVL(ObservadorArvore observador) {
+        this.observador = observador != null ? observador : ObservadorArvore.NENHUM;
+    }
+
+    /**
+     * Constrói, em tempo linear, uma árvore AVL sem observador a
+     * partir de valores já ordenados. A árvore resultante tem altura
+     * mínima e os campos {@code altura} já calculados.
+     *
+     * @param valoresOrdenados valores em ordem estritamente crescente
+     * @return nova árvore contendo os valores
+     * @throws IllegalArgumentException se os valores não estiverem
+     *                                  ordenados ou tiverem repetição
+     */
+    public static ArvoreAVL construirDeOrdenados(int[] valoresOrdenados) {
+        exigirOrdenados(valoresOrdenados);
+        ArvoreAVL arvore = new ArvoreAVL();
+        arvore.raiz = arvore.construirBalanceada(valoresOrdenados, 0, valoresOrdenados.length);
+        return arvore;
+    }
+
+    /**
+     * Variante de {@link #construirDeOrdenados(int[])} que consome um
+     * {@link IntStream} ordenado e sem repetição.
+     *
+     * @param valoresOrdenados fluxo em ordem estritamente crescente
+     * @return nova árvore contendo os valores
+     */
+    public static ArvoreAVL construirDeOrdenados(IntStream valoresOrdenados) {
+        return construirDeOrdenados(valoresOrdenados.toArray());
+    }
 
     /**
-     * Constrói uma árvore AVL associada a um visualizador. O
-     * visualizador é utilizado para desenhar a árvore, destacar nós
-     * e pausar a execução.
+     * Constrói uma árvore AVL a partir de valores em qualquer ordem.
+     * Os valores são copiados, ordenados e têm as repetições
+     * descartadas antes da construção linear.
      *
-     * @param visualizador instância do visualizador a ser utilizada
+     * @param valores valores em qualquer ordem, possivelmente repetidos
+     * @return nova árvore contendo os valores distintos
      */
-    public ArvoreAVL(VisualizadorArvore visualizador) {
-        this.visualizador = visualizador;
+    public static ArvoreAVL construirDeValores(int[] valores) {
+        return construirDeOrdenados(ordenarSemRepeticao(valores));
     }
 
     /**
-     * Insere um valor na árvore AVL. O aluno deve sobrescrever este
-     * método para realizar a inserção e, em seguida, rebalancear a
-     * árvore sempre que necessário. Utilize os métodos auxiliares
-     * fornecidos abaixo e lembre‑se de acionar o visualizador nos
-     * pontos apropriados (desenho, destaque, pausa e registro de
-     * lógica).
+     * Quando a árvore está vazia, monta‑a diretamente a partir dos
+     * valores ordenados em tempo linear; caso contrário, insere um
+     * valor por vez.
+     *
+     * @param valoresOrdenados valores em ordem estritamente crescente
+     */
+    @Override
+    public void inserirOrdenados(int[] valoresOrdenados) {
+        if (raiz != null) {
+            ArvoreBalanceada.super.inserirOrdenados(valoresOrdenados);
+            return;
+        }
+        exigirOrdenados(valoresOrdenados);
+        raiz = construirBalanceada(valoresOrdenados, 0, valoresOrdenados.length);
+        alteradaEmLote(valoresOrdenados, valoresOrdenados.length, true);
+        observador.loteAplicado(raiz, valoresOrdenados.length, true);
+    }
+
+    /**
+     * Gera um índice imutável com os valores atuais, dispostos em
+     * ordem de busca em largura para consultas sem ponteiros. O
+     * índice não acompanha modificações posteriores da árvore.
+     *
+     * @return índice somente leitura com os valores da árvore
+     */
+    public IndiceCongelado congelar() {
+        int[] valores = new int[tamanho()];
+        int[] posicao = {0};
+        forEach(valor -> valores[posicao[0]++] = valor);
+        return IndiceCongelado.deOrdenados(valores);
+    }
+
+    /**
+     * Insere um valor na árvore AVL. A inserção binária empilha os
+     * ancestrais do novo nó e o caminho é percorrido de volta,
+     * invocando {@link #balancear(No)} em cada nó até que a altura de
+     * uma sub‑árvore deixe de mudar.
      *
      * @param valor valor inteiro a ser inserido
      */
     @Override
     public void inserir(int valor) {
-        /*
-         * TODO ALUNO:
-         * Implemente a lógica de inserção na árvore AVL. Você pode
-         * reutilizar parcialmente o método de inserção da classe
-         * ArvoreBinariaBusca para inserir o nó de forma binária e,
-         * em seguida, invocar o método balancear() para cada nó no
-         * caminho de volta da recursão. Lembre‑se de atualizar as
-         * alturas, chamar registrarPontoDeLogica() antes de calcular
-         * o fator de balanceamento, desenhar o passo após cada
-         * modificação significativa e pausar quando necessário.
-         */
+        long inicio = iniciarMedicao();
+        int topo = inserirFolha(valor);
+        if (topo >= 0) {
+            concluirInsercao(topo, valor);
+        }
+        concluirMedicao(MetricasArvore.Operacao.INSERCAO, inicio);
     }
 
     /**
-     * Remove um valor da árvore AVL. Nesta implementação base,
-     * reutilizamos a remoção da árvore binária de busca e, em
-     * seguida, desenhamos o estado resultante. O aluno pode
-     * aprimorar este método se desejar rebalancear após remoções.
+     * Notifica o observador da folha recém‑ligada e rebalanceia os
+     * {@code topo} ancestrais empilhados pela inserção.
+     *
+     * @param topo  ancestrais empilhados por {@link #inserirFolha(int)}
+     *              ou {@link #inserirOuLocalizar(int)}
+     * @param valor valor inserido
+     */
+    protected final void concluirInsercao(int topo, int valor) {
+        observador.noInserido(raiz, valor);
+        reajustarCaminho(topo, true, 1);
+    }
+
+    /**
+     * Remove um valor da árvore AVL. O nó é desligado em uma única
+     * descida (no caso de dois filhos, o sucessor é desligado na mesma
+     * passada) e o caminho é percorrido de volta, invocando
+     * {@link #balancear(No)} em cada ancestral até que a altura de uma
+     * sub‑árvore deixe de mudar. Diferente da inserção, uma remoção
+     * pode exigir rotações em vários níveis.
      *
      * @param valor valor a ser removido
      */
     @Override
     public void remover(int valor) {
-        super.remover(valor);
-        if (visualizador != null) {
-            visualizador.desenharPasso(raiz, "Removido " + valor);
+        long inicio = iniciarMedicao();
+        int topo = removerNo(valor);
+        if (topo >= 0) {
+            observador.noRemovido(raiz, valor);
+            reajustarCaminho(topo, true, -1);
+        }
+        concluirMedicao(MetricasArvore.Operacao.REMOCAO, inicio);
+    }
+
+    /**
+     * Insere um lote de valores. O lote é ordenado uma única vez e
+     * mesclado à árvore: cada nó visitado divide o lote entre as
+     * sub‑árvores esquerda e direita, de modo que os prefixos de
+     * caminho comuns são percorridos uma só vez e cada sub‑árvore
+     * afetada é rebalanceada uma única vez ao ser reunida.
+     *
+     * @param valores valores a inserir, em qualquer ordem
+     * @return quantidade de valores efetivamente inseridos
+     */
+    @Override
+    public int inserirLote(int[] valores) {
+        int[] lote = ordenarSemRepeticao(valores);
+        alteracoesLote = 0;
+        valoresLote = new int[lote.length];
+        raiz = unirLote(raiz, lote, 0, lote.length);
+        alteradaEmLote(valoresLote, alteracoesLote, true);
+        valoresLote = null;
+        observador.loteAplicado(raiz, alteracoesLote, true);
+        return alteracoesLote;
+    }
+
+    /**
+     * Remove um lote de valores, mesclando o lote ordenado à árvore da
+     * mesma forma que {@link #inserirLote(int[])}.
+     *
+     * @param valores valores a remover, em qualquer ordem
+     * @return quantidade de valores efetivamente removidos
+     */
+    @Override
+    public int removerLote(int[] valores) {
+        int[] lote = ordenarSemRepeticao(valores);
+        alteracoesLote = 0;
+        valoresLote = new int[lote.length];
+        raiz = subtrairLote(raiz, lote, 0, lote.length);
+        alteradaEmLote(valoresLote, alteracoesLote, false);
+        valoresLote = null;
+        observador.loteAplicado(raiz, alteracoesLote, false);
+        return alteracoesLote;
+    }
+
+    /**
+     * Divide a árvore em O(log n): esta árvore fica com os valores
+     * menores ou iguais a {@code chave} e os maiores passam para a
+     * árvore retornada.
+     *
+     * Com o filtro de valores ausentes habilitado, as duas partes o
+     * reconstroem em O(n).
+     *
+     * @param chave valor de corte, presente ou não
+     * @return nova árvore com os valores maiores que {@code chave}
+     */
+    public ArvoreAVL split(int chave) {
+        Partes partes = new Partes();
+        dividir(raiz, chave, partes);
+        raiz = partes.encontrado == null ? partes.menores : juntar(partes.menores, partes.encontrado, null);
+        alteradaEmLote();
+        ArvoreAVL maiores = criarVazia();
+        maiores.raiz = partes.maiores;
+        if (filtroNegativo() != null) {
+            maiores.habilitarFiltro();
+        }
+        return maiores;
+    }
+
+    /**
+     * Junta duas árvores e uma chave intermediária em O(|h1 − h2|),
+     * sendo todos os valores de {@code esquerda} menores que
+     * {@code chave} e todos os de {@code direita} maiores. O resultado
+     * fica em {@code esquerda}, que é retornada; {@code direita} fica
+     * vazia. Com o filtro de valores ausentes habilitado, ele é
+     * reconstruído em O(n).
+     *
+     * @param esquerda árvore com os valores menores
+     * @param chave    valor intermediário
+     * @param direita  árvore com os valores maiores
+     * @return {@code esquerda}, com todos os valores
+     * @throws IllegalArgumentException se a ordem não for respeitada
+     */
+    public static ArvoreAVL join(ArvoreAVL esquerda, int chave, ArvoreAVL direita) {
+        esquerda.exigirCompativel(direita);
+        if (esquerda == direita
+                || (esquerda.raiz != null && maximo(esquerda.raiz) >= chave)
+                || (direita.raiz != null && minimo(direita.raiz) <= chave)) {
+            throw new IllegalArgumentException("Valores fora de ordem em relação à chave " + chave);
         }
+        esquerda.raiz = esquerda.juntar(esquerda.raiz, esquerda.criarNo(chave), direita.raiz);
+        direita.raiz = null;
+        esquerda.alteradaEmLote();
+        direita.alteradaEmLote();
+        return esquerda;
     }
 
     /**
-     * Aplica as rotações e atualizações de altura necessárias para
-     * balancear um nó. Este método deve ser chamado após cada
-     * inserção ou remoção recursiva. Ele verifica o fator de
-     * balanceamento do nó atual e decide qual rotação executar.
+     * Acrescenta a esta árvore os valores de {@code outra}, que fica
+     * vazia, em O(m log(n/m + 1)) para tamanhos m ≤ n. Usa o pool
+     * comum de {@link ForkJoinPool}.
+     *
+     * @param outra árvore cujos valores serão acrescentados
+     */
+    public void uniao(ArvoreAVL outra) {
+        uniao(outra, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Acrescenta a esta árvore os valores de {@code outra}, que fica
+     * vazia. Cada nível divide uma árvore pela raiz da outra e resolve
+     * as duas metades de forma independente; acima de um limiar de
+     * tamanho, as metades são resolvidas em paralelo em {@code pool}.
+     * Valores presentes nas duas árvores ficam com o nó de
+     * {@code outra}.
+     *
+     * @param outra árvore cujos valores serão acrescentados
+     * @param pool  pool que executa as metades em paralelo
+     */
+    public void uniao(ArvoreAVL outra, ForkJoinPool pool) {
+        aplicarConjunto(OperacaoConjunto.UNIAO, outra, pool);
+    }
+
+    /**
+     * Mantém nesta árvore apenas os valores também presentes em
+     * {@code outra}, que fica vazia. Mesmo custo de
+     * {@link #uniao(ArvoreAVL)}.
+     *
+     * @param outra árvore com os valores a manter
+     */
+    public void intersecao(ArvoreAVL outra) {
+        intersecao(outra, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Versão de {@link #intersecao(ArvoreAVL)} que executa em
+     * {@code pool}. Os valores mantidos ficam com o nó de
+     * {@code outra}.
+     *
+     * @param outra árvore com os valores a manter
+     * @param pool  pool que executa as metades em paralelo
+     */
+    public void intersecao(ArvoreAVL outra, ForkJoinPool pool) {
+        aplicarConjunto(OperacaoConjunto.INTERSECAO, outra, pool);
+    }
+
+    /**
+     * Retira desta árvore os valores presentes em {@code outra}, que
+     * fica vazia. Mesmo custo de {@link #uniao(ArvoreAVL)}.
+     *
+     * @param outra árvore com os valores a retirar
+     */
+    public void diferenca(ArvoreAVL outra) {
+        diferenca(outra, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Versão de {@link #diferenca(ArvoreAVL)} que executa em
+     * {@code pool}.
+     *
+     * @param outra árvore com os valores a retirar
+     * @param pool  pool que executa as metades em paralelo
+     */
+    public void diferenca(ArvoreAVL outra, ForkJoinPool pool) {
+        aplicarConjunto(OperacaoConjunto.DIFERENCA, outra, pool);
+    }
+
+    /**
+     * Aplica as rotações necessárias para balancear um nó. Este
+     * método é chamado, com a altura do nó já atualizada, para cada
+     * ancestral no caminho de volta da inserção ou da remoção. Ele
+     * verifica o fator de balanceamento do nó atual e decide qual
+     * rotação executar.
      *
      * @param noAtual nó possivelmente desbalanceado
      * @return nova raiz da sub‑árvore após o balanceamento
      */
-    private No balancear(No noAtual) {
-        /* TODO ALUNO: implemente a verificação do fator de
-         * balanceamento e aplique rotações quando o valor for ±2.
-         * Use visualizador.destacarNo(), visualizador.pausar() e
-         * visualizador.desenharPasso() conforme indicado no roteiro.
-         */
+    @Override
+    protected No balancear(No noAtual) {
+        int fator = fatorBalanceamento(noAtual);
+        if (fator < -1) {
+            if (fatorBalanceamento(noAtual.esquerda) > 0) {
+                iniciarRotacao(noAtual, TipoRotacao.LR, fator);
+                // Verificação: O filho direito era o nó de valor 20.
+                noAtual.esquerda = rotacaoEsquerda(noAtual.esquerda);
+                return rotacaoDireita(noAtual);
+            }
+            iniciarRotacao(noAtual, TipoRotacao.LL, fator);
+            return rotacaoDireita(noAtual);
+        }
+        if (fator > 1) {
+            if (fatorBalanceamento(noAtual.direita) < 0) {
+                iniciarRotacao(noAtual, TipoRotacao.RL, fator);
+                noAtual.direita = rotacaoDireita(noAtual.direita);
+                return rotacaoEsquerda(noAtual);
+            }
+            iniciarRotacao(noAtual, TipoRotacao.RR, fator);
+            return rotacaoEsquerda(noAtual);
+        }
         return noAtual;
     }
 
+    /**
+     * Notifica o observador depois que a sub‑árvore rotacionada foi
+     * religada ao pai, quando a árvore inteira já está consistente.
+     *
+     * @param novaRaiz nova raiz da sub‑árvore rotacionada
+     */
+    @Override
+    protected void subarvoreReestruturada(No novaRaiz) {
+        observador.rotacaoConcluida(raiz, novaRaiz, ultimaRotacao);
+    }
+
+    /**
+     * Mescla os valores {@code lote[de..ate)} à sub‑árvore enraizada
+     * em {@code noAtual}. Intervalos vazios retornam a sub‑árvore
+     * intacta e sub‑árvores vazias são montadas em tempo linear.
+     */
+    private No unirLote(No noAtual, int[] lote, int de, int ate) {
+        if (de >= ate) {
+            return noAtual;
+        }
+        if (noAtual == null) {
+            System.arraycopy(lote, de, valoresLote, alteracoesLote, ate - de);
+            alteracoesLote += ate - de;
+            return construirBalanceada(lote, de, ate);
+        }
+        int posicao = Arrays.binarySearch(lote, de, ate, noAtual.valor);
+        int fimEsquerda = posicao >= 0 ? posicao : -posicao - 1;
+        int inicioDireita = posicao >= 0 ? posicao + 1 : fimEsquerda;
+        No esquerda = unirLote(noAtual.esquerda, lote, de, fimEsquerda);
+        No direita = unirLote(noAtual.direita, lote, inicioDireita, ate);
+        return juntar(esquerda, noAtual, direita);
+    }
+
+    /**
+     * Retira os valores {@code lote[de..ate)} da sub‑árvore enraizada
+     * em {@code noAtual}.
+     */
+    private No subtrairLote(No noAtual, int[] lote, int de, int ate) {
+        if (noAtual == null || de >= ate) {
+            return noAtual;
+        }
+        int posicao = Arrays.binarySearch(lote, de, ate, noAtual.valor);
+        int fimEsquerda = posicao >= 0 ? posicao : -posicao - 1;
+        int inicioDireita = posicao >= 0 ? posicao + 1 : fimEsquerda;
+        No esquerda = subtrairLote(noAtual.esquerda, lote, de, fimEsquerda);
+        No direita = subtrairLote(noAtual.direita, lote, inicioDireita, ate);
+        if (posicao >= 0) {
+            valoresLote[alteracoesLote++] = noAtual.valor;
+            return juntarSemMeio(esquerda, direita);
+        }
+        return juntar(esquerda, noAtual, direita);
+    }
+
+    /**
+     * Reúne duas árvores AVL e um nó intermediário, sendo todos os
+     * valores de {@code esquerda} menores que {@code meio.valor} e
+     * todos os de {@code direita} maiores. Desce pela borda da árvore
+     * mais alta até encontrar uma sub‑árvore de altura compatível e
+     * rebalanceia apenas os nós dessa borda no caminho de volta. Não
+     * notifica o observador, pois pode rodar em várias threads.
+     *
+     * @return raiz da árvore reunida
+     */
+    private No juntar(No esquerda, No meio, No direita) {
+        int alturaEsquerda = altura(esquerda);
+        int alturaDireita = altura(direita);
+        if (alturaEsquerda > alturaDireita + 1) {
+            esquerda.direita = juntar(esquerda.direita, meio, direita);
+            atualizarNo(esquerda);
+            return reequilibrar(esquerda);
+        }
+        if (alturaDireita > alturaEsquerda + 1) {
+            direita.esquerda = juntar(esquerda, meio, direita.esquerda);
+            atualizarNo(direita);
+            return reequilibrar(direita);
+        }
+        meio.esquerda = esquerda;
+        meio.direita = direita;
+        atualizarNo(meio);
+        return meio;
+    }
+
+    /**
+     * Reúne duas árvores AVL sem nó intermediário, promovendo o maior
+     * valor da árvore esquerda.
+     */
+    private No juntarSemMeio(No esquerda, No direita) {
+        if (esquerda == null) {
+            return direita;
+        }
+        if (direita == null) {
+            return esquerda;
+        }
+        No maior = esquerda;
+        while (maior.direita != null) {
+            maior = maior.direita;
+        }
+        return juntar(removerMaximo(esquerda), maior, direita);
+    }
+
+    /**
+     * Desliga o maior nó da sub‑árvore, rebalanceando a borda direita.
+     */
+    private No removerMaximo(No noAtual) {
+        if (noAtual.direita == null) {
+            return noAtual.esquerda;
+        }
+        noAtual.direita = removerMaximo(noAtual.direita);
+        atualizarNo(noAtual);
+        return reequilibrar(noAtual);
+    }
+
+    /**
+     * Versão de {@link #balancear(No)} sem notificações nem métricas,
+     * usada pelas junções.
+     */
+    private No reequilibrar(No noAtual) {
+        int fator = altura(noAtual.direita) - altura(noAtual.esquerda);
+        if (fator < -1) {
+            if (altura(noAtual.esquerda.direita) > altura(noAtual.esquerda.esquerda)) {
+                noAtual.esquerda = rotacaoEsquerda(noAtual.esquerda);
+            }
+            return rotacaoDireita(noAtual);
+        }
+        if (fator > 1) {
+            if (altura(noAtual.direita.esquerda) > altura(noAtual.direita.direita)) {
+                noAtual.direita = rotacaoDireita(noAtual.direita);
+            }
+            return rotacaoEsquerda(noAtual);
+        }
+        return noAtual;
+    }
+
+    /**
+     * Separa a sub‑árvore em valores menores e maiores que
+     * {@code chave}, juntando de volta as sobras de cada nível no
+     * caminho de subida. O nó com a própria chave, se houver, fica
+     * isolado em {@code partes.encontrado}.
+     */
+    private void dividir(No noAtual, int chave, Partes partes) {
+        if (noAtual == null) {
+            partes.menores = null;
+            partes.encontrado = null;
+            partes.maiores = null;
+            return;
+        }
+        No esquerda = noAtual.esquerda;
+        No direita = noAtual.direita;
+        if (chave < noAtual.valor) {
+            dividir(esquerda, chave, partes);
+            partes.maiores = juntar(partes.maiores, noAtual, direita);
+        } else if (chave > noAtual.valor) {
+            dividir(direita, chave, partes);
+            partes.menores = juntar(esquerda, noAtual, partes.menores);
+        } else {
+            partes.menores = esquerda;
+            partes.maiores = direita;
+            noAtual.esquerda = null;
+            noAtual.direita = null;
+            atualizarNo(noAtual);
+            partes.encontrado = noAtual;
+        }
+    }
+
+    /**
+     * Aplica uma operação de conjunto com {@code outra}, que é
+     * esvaziada, e notifica o observador uma única vez.
+     */
+    private void aplicarConjunto(OperacaoConjunto operacao, ArvoreAVL outra, ForkJoinPool pool) {
+        exigirCompativel(outra);
+        if (outra == this) {
+            if (operacao == OperacaoConjunto.DIFERENCA) {
+                int removidos = tamanho();
+                raiz = null;
+                alteradaEmLote();
+                observador.loteAplicado(raiz, removidos, false);
+            }
+            return;
+        }
+        int tamanhoAnterior = tamanho();
+        No a = raiz;
+        No b = outra.raiz;
+        outra.raiz = null;
+        raiz = tamanho(a) + tamanho(b) > LIMIAR_PARALELO
+                ? pool.invoke(new TarefaConjunto(operacao, a, b))
+                : combinar(operacao, a, b);
+        alteradaEmLote();
+        outra.alteradaEmLote();
+        int variacao = tamanho() - tamanhoAnterior;
+        observador.loteAplicado(raiz, Math.abs(variacao), variacao >= 0);
+    }
+
+    /**
+     * Divide {@code a} pela raiz de {@code b}, resolve as metades
+     * menores e maiores de forma independente (em paralelo acima do
+     * limiar, quando executado dentro de um {@link ForkJoinPool}) e
+     * junta os resultados com a raiz de {@code b} ou sem ela.
+     */
+    private No combinar(OperacaoConjunto operacao, No a, No b) {
+        if (a == null) {
+            return operacao == OperacaoConjunto.UNIAO ? b : null;
+        }
+        if (b == null) {
+            return operacao == OperacaoConjunto.INTERSECAO ? null : a;
+        }
+        boolean paralelo = tamanho(a) + tamanho(b) > LIMIAR_PARALELO;
+        No esquerdaB = b.esquerda;
+        No direitaB = b.direita;
+        Partes partes = new Partes();
+        dividir(a, b.valor, partes);
+        No esquerda;
+        No direita;
+        if (paralelo) {
+            ForkJoinTask<No> tarefa = new TarefaConjunto(operacao, partes.menores, esquerdaB).fork();
+            direita = combinar(operacao, partes.maiores, direitaB);
+            esquerda = tarefa.join();
+        } else {
+            esquerda = combinar(operacao, partes.menores, esquerdaB);
+            direita = combinar(operacao, partes.maiores, direitaB);
+        }
+        switch (operacao) {
+            case UNIAO:
+                return juntar(esquerda, b, direita);
+            case INTERSECAO:
+                return partes.encontrado != null ? juntar(esquerda, b, direita) : juntarSemMeio(esquerda, direita);
+            default:
+                return juntarSemMeio(esquerda, direita);
+        }
+    }
+
+    /** Metade de uma operação de conjunto executada no pool. */
+    private final class TarefaConjunto extends RecursiveTask<No> {
+        private static final long serialVersionUID = 1L;
+
+        private final OperacaoConjunto operacao;
+        private final No a;
+        private final No b;
+
+        TarefaConjunto(OperacaoConjunto operacao, No a, No b) {
+            this.operacao = operacao;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        protected No compute() {
+            return combinar(operacao, a, b);
+        }
+    }
+
+    /**
+     * Cria uma árvore vazia do mesmo tipo desta, sem observador, para
+     * receber valores separados por {@link #split(int)}.
+     *
+     * @return árvore vazia
+     */
+    protected ArvoreAVL criarVazia() {
+        return new ArvoreAVL();
+    }
+
+    /**
+     * Garante que os nós das duas árvores possam ser misturados.
+     */
+    private void exigirCompativel(ArvoreAVL outra) {
+        if (outra.getClass() != getClass()) {
+            throw new IllegalArgumentException("Árvores de tipos diferentes: "
+                    + getClass().getSimpleName() + " e " + outra.getClass().getSimpleName());
+        }
+    }
+
+    private static int minimo(No no) {
+        while (no.esquerda != null) {
+            no = no.esquerda;
+        }
+        return no.valor;
+    }
+
+    private static int maximo(No no) {
+        while (no.direita != null) {
+            no = no.direita;
+        }
+        return no.valor;
+    }
+
+    /**
+     * Registra o tipo da rotação, conta‑a nas métricas e notifica o
+     * observador antes de aplicá‑la.
+     */
+    private void iniciarRotacao(No pivo, TipoRotacao tipo, int fator) {
+        ultimaRotacao = tipo;
+        MetricasArvore metricas = metricas();
+        if (metricas != null) {
+            metricas.registrarRotacao(tipo);
+        }
+        observador.rotacaoIniciada(pivo, tipo, fator);
+    }
+
     /**
      * Executa uma rotação simples à direita no nó pivô. Após a
-     * rotação, atualize as alturas dos nós e retorne a nova raiz da
-     * sub‑árvore. Utilize nomes de parâmetros semânticos como
-     * sugerido no roteiro.
+     * rotação, as alturas e os tamanhos dos nós são atualizados e a
+     * nova raiz da sub‑árvore é retornada.
      *
      * @param pivoDesbalanceado nó que está desbalanceado e será
      *                          pivotado
      * @return nova raiz da sub‑árvore após a rotação
      */
     private No rotacaoDireita(No pivoDesbalanceado) {
-        /* TODO ALUNO: implemente a rotação simples à direita. Não
-         * esqueça de atualizar as alturas e utilizar o visualizador
-         * para destacar o pivô e pausar a execução antes e após a
-         * rotação.
-         */
-        return pivoDesbalanceado;
+        No filhoEsquerdo = pivoDesbalanceado.esquerda;
+        pivoDesbalanceado.esquerda = filhoEsquerdo.direita;
+        filhoEsquerdo.direita = pivoDesbalanceado;
+        atualizarNo(pivoDesbalanceado);
+        atualizarNo(filhoEsquerdo);
+        return filhoEsquerdo;
     }
 
     /**
      * Executa uma rotação simples à esquerda no nó pivô. Após a
-     * rotação, atualize as alturas dos nós e retorne a nova raiz da
-     * sub‑árvore. Utilize nomes de parâmetros semânticos como
-     * sugerido no roteiro.
+     * rotação, as alturas e os tamanhos dos nós são atualizados e a
+     * nova raiz da sub‑árvore é retornada.
      *
      * @param pivoDesbalanceado nó que está desbalanceado e será
      *                          pivotado
      * @return nova raiz da sub‑árvore após a rotação
      */
     private No rotacaoEsquerda(No pivoDesbalanceado) {
-        /* TODO ALUNO: implemente a rotação simples à esquerda. Não
-         * esqueça de atualizar as alturas e utilizar o visualizador
-         * para destacar o pivô e pausar a execução antes e após a
-         * rotação.
-         */
-        return pivoDesbalanceado;
+        No filhoDireito = pivoDesbalanceado.direita;
+        pivoDesbalanceado.direita = filhoDireito.esquerda;
+        filhoDireito.esquerda = pivoDesbalanceado;
+        atualizarNo(pivoDesbalanceado);
+        atualizarNo(filhoDireito);
+        return filhoDireito;
     }
 
     /**
@@ -136,20 +732,42 @@ public class ArvoreAVL extends ArvoreBinariaBusca implements ArvoreBalanceada {
     }
 
     /**
-     * Calcula o fator de balanceamento de um nó. O aluno deve
-     * implementar este método conforme instruído no roteiro,
-     * lembrando de chamar registrarPontoDeLogica() antes de
-     * computar o valor.
+     * Calcula o fator de balanceamento de um nó, notificando o
+     * observador antes de computar o valor.
      *
      * @param pontoAtual nó cuja diferença de alturas dos filhos será
      *                   calculada
      * @return fator de balanceamento (altura direita − altura esquerda)
      */
     private int fatorBalanceamento(No pontoAtual) {
-        /* TODO ALUNO: chame visualizador.registrarPontoDeLogica()
-         * antes de calcular e retorne a diferença entre as alturas
-         * dos filhos direito e esquerdo.
-         */
-        return 0;
+        observador.verificandoBalanceamento(pontoAtual);
+        return altura(pontoAtual.direita) - altura(pontoAtual.esquerda);
+    }
+
+    /**
+     * Garante que os valores estejam em ordem estritamente crescente.
+     */
+    private static void exigirOrdenados(int[] valores) {
+        for (int i = 1; i < valores.length; i++) {
+            if (valores[i - 1] >= valores[i]) {
+                throw new IllegalArgumentException(
+                        "Valores fora de ordem ou repetidos na posição " + i);
+            }
+        }
+    }
+
+    /**
+     * Retorna uma cópia ordenada dos valores sem repetições.
+     */
+    private static int[] ordenarSemRepeticao(int[] valores) {
+        int[] copia = valores.clone();
+        Arrays.sort(copia);
+        int distintos = 0;
+        for (int i = 0; i < copia.length; i++) {
+            if (distintos == 0 || copia[distintos - 1] != copia[i]) {
+                copia[distintos++] = copia[i];
+            }
+        }
+        return distintos == copia.length ? copia : Arrays.copyOf(copia, distintos);
     }
 }
@@ -0,0 +1,494 @@
+package model;
+
+import interfaces.ArvoreBalanceada;
+import interfaces.ArvoreComAltura;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+/**
+ * Árvore AVL segura para uso concorrente, com leitores sem trava e
+ * escritores que travam apenas os nós que alteram.
+ *
+ * Cada nó carrega um número de versão. Um escritor torna a versão
+ * ímpar antes de alterar um nó cuja sub‑árvore perde valores (o pivô
+ * de uma rotação ou um nó desligado da árvore) e a torna par
+ * novamente ao terminar. Os leitores descem validando, a cada passo,
+ * que o nó atual manteve a versão lida e que o filho seguido continua
+ * ligado a ele; se alguma validação falhar, a busca recomeça da raiz.
+ *
+ * Os escritores descem da mesma forma, sem trava, e só então travam
+ * o monitor dos nós que vão alterar, sempre do ancestral para o
+ * descendente e revalidando a ligação entre eles depois de cada
+ * trava: a inserção trava o pai da nova folha; a remoção, o próprio
+ * nó; cada rotação, o pai, o pivô e os filhos que mudam de lugar.
+ * Escritores em regiões diferentes da árvore não disputam trava
+ * alguma. Para isso a remoção de um nó com dois filhos só desmarca o
+ * valor, deixando um nó de roteamento que é desligado quando fica com
+ * um filho ou nenhum, e o balanceamento é relaxado: cada escritor
+ * corrige alturas e aplica rotações subindo a partir do nó alterado,
+ * e a árvore volta a ser uma AVL estrita assim que as escritas em
+ * andamento terminam.
+ *
+ * Os percursos por intervalo também não usam trava: validam cada nó
+ * ao passar por ele e, se algum tiver sido reestruturado, retomam a
+ * partir do último valor entregue, sem repetir nem perder valores.
+ * Os valores duplicados não são inseridos novamente.
+ */
+public class ArvoreAVLConcorrente implements ArvoreBalanceada, ArvoreComAltura {
+    private static final int CAPACIDADE_PILHA = 64;
+
+    /**
+     * Nó com chave imutável, ligações voláteis e versão para
+     * validação otimista. As ligações para os filhos só mudam com o
+     * monitor do nó; a ligação para o pai é só uma indicação,
+     * conferida depois de travar.
+     */
+    private static final class NoVersionado {
+        final int valor;
+        volatile NoVersionado esquerda;
+        volatile NoVersionado direita;
+        volatile NoVersionado pai;
+        volatile long versao;
+        volatile int altura = 1;
+        /** Falso nos nós de roteamento, cujo valor foi removido. */
+        volatile boolean presente = true;
+        /** Verdadeiro depois que o nó sai da árvore; nunca volta. */
+        volatile boolean desligado;
+
+        NoVersionado(int valor, NoVersionado pai) {
+            this.valor = valor;
+            this.pai = pai;
+        }
+
+        NoVersionado filho(boolean esquerdo) {
+            return esquerdo ? esquerda : direita;
+        }
+    }
+
+    /**
+     * Sentinela acima da raiz, que fica em {@code cabeca.direita}:
+     * todo nó da árvore tem um pai a travar. A versão da sentinela
+     * nunca muda.
+     */
+    private final NoVersionado cabeca = new NoVersionado(Integer.MIN_VALUE, null);
+    private final LongAdder tamanho = new LongAdder();
+
+    /**
+     * Insere um valor na árvore, rebalanceando o caminho a partir da
+     * nova folha. Se o valor já existir, nada é feito.
+     *
+     * @param valor valor inteiro a ser inserido
+     */
+    @Override
+    public void inserir(int valor) {
+        while (true) {
+            NoVersionado no = cabeca;
+            long versao = 0;
+            boolean esquerdo = false;
+            NoVersionado filho = cabeca.direita;
+            boolean valido = true;
+            // Desce como contem, guardando o último nó e a sua versão
+            while (filho != null && filho.valor != valor) {
+                long versaoFilho = filho.versao;
+                if ((versaoFilho & 1) != 0 || no.filho(esquerdo) != filho || no.versao != versao) {
+                    valido = false;
+                    break;
+                }
+                no = filho;
+                versao = versaoFilho;
+                esquerdo = valor < no.valor;
+                filho = no.filho(esquerdo);
+            }
+            if (!valido) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (filho != null) {
+                synchronized (filho) {
+                    if (filho.desligado) {
+                        continue;
+                    }
+                    if (!filho.presente) {
+                        filho.presente = true;
+                        tamanho.increment();
+                    }
+                }
+                return;
+            }
+            NoVersionado novo;
+            synchronized (no) {
+                // A versão inalterada garante que a faixa do nó ainda
+                // contém o valor; o filho nulo, que a vaga está livre.
+                if (no.desligado || no.versao != versao || no.filho(esquerdo) != null) {
+                    continue;
+                }
+                novo = new NoVersionado(valor, no);
+                if (esquerdo) {
+                    no.esquerda = novo;
+                } else {
+                    no.direita = novo;
+                }
+            }
+            tamanho.increment();
+            reparar(no);
+            return;
+        }
+    }
+
+    /**
+     * Remove um valor da árvore, se presente. O nó é desligado se
+     * tiver no máximo um filho; caso contrário, fica como nó de
+     * roteamento até perder um dos filhos.
+     *
+     * @param valor valor a ser removido
+     */
+    @Override
+    public void remover(int valor) {
+        while (true) {
+            NoVersionado no = localizar(valor);
+            if (no == null) {
+                return;
+            }
+            synchronized (no) {
+                if (no.desligado) {
+                    continue;
+                }
+                if (!no.presente) {
+                    return;
+                }
+                no.presente = false;
+                tamanho.decrement();
+            }
+            if (no.esquerda == null || no.direita == null) {
+                reparar(no);
+            }
+            return;
+        }
+    }
+
+    /**
+     * Verifica se um valor está presente na árvore sem adquirir
+     * travas. Se um escritor reestruturar o trecho percorrido, a
+     * busca recomeça a partir da raiz.
+     *
+     * @param valor valor procurado
+     * @return {@code true} se existir, {@code false} caso contrário
+     */
+    @Override
+    public boolean contem(int valor) {
+        NoVersionado no = localizar(valor);
+        return no != null && no.presente;
+    }
+
+    /**
+     * Entrega todos os valores da árvore, em ordem crescente, ao
+     * consumidor informado. Ver {@link #intervalo(int, int, IntConsumer)}.
+     *
+     * @param acao consumidor dos valores
+     */
+    public void forEach(IntConsumer acao) {
+        intervalo(Integer.MIN_VALUE, Integer.MAX_VALUE, acao);
+    }
+
+    /**
+     * Entrega, em ordem crescente, os valores do intervalo fechado
+     * {@code [de, ate]} sem adquirir travas e sem copiá‑los.
+     *
+     * O percurso guarda, com a versão lida, cada ancestral do qual
+     * desceu pela esquerda e o valida ao voltar a ele. Se um desses
+     * nós tiver sido reestruturado, a sub‑árvore que faltava pode ter
+     * mudado de lugar: o percurso desce de novo a partir da raiz até o
+     * menor valor maior que o último entregue. Escritas em outras
+     * regiões não interrompem o percurso. Cada valor presente durante
+     * todo o percurso é entregue exatamente uma vez; valores inseridos
+     * ou removidos no meio podem ou não aparecer.
+     *
+     * @param de   limite inferior, inclusivo
+     * @param ate  limite superior, inclusivo
+     * @param acao consumidor dos valores
+     */
+    public void intervalo(int de, int ate, IntConsumer acao) {
+        NoVersionado[] pilha = new NoVersionado[CAPACIDADE_PILHA];
+        long[] versoes = new long[CAPACIDADE_PILHA];
+        long proximo = de;
+        retomada:
+        while (proximo <= ate) {
+            int topo = 0;
+            NoVersionado no = cabeca;
+            long versao = 0;
+            boolean esquerdo = false;
+            while (true) {
+                // Desce a partir de no (já validado) pelo lado escolhido,
+                // empilhando os nós dos quais segue pela esquerda
+                NoVersionado filho = no.filho(esquerdo);
+                while (filho != null) {
+                    long versaoFilho = filho.versao;
+                    if ((versaoFilho & 1) != 0 || no.filho(esquerdo) != filho || no.versao != versao) {
+                        Thread.onSpinWait();
+                        continue retomada;
+                    }
+                    no = filho;
+                    versao = versaoFilho;
+                    esquerdo = no.valor >= proximo;
+                    if (esquerdo) {
+                        if (topo == pilha.length) {
+                            pilha = Arrays.copyOf(pilha, topo * 2);
+                            versoes = Arrays.copyOf(versoes, topo * 2);
+                        }
+                        pilha[topo] = no;
+                        versoes[topo++] = versao;
+                    }
+                    filho = no.filho(esquerdo);
+                }
+                if (no.versao != versao) {
+                    continue retomada;
+                }
+                if (topo == 0) {
+                    return;
+                }
+                no = pilha[--topo];
+                versao = versoes[topo];
+                boolean presente = no.presente;
+                if (no.versao != versao) {
+                    // A sub‑árvore direita pode não ser mais a que faltava
+                    continue retomada;
+                }
+                if (no.valor > ate) {
+                    return;
+                }
+                proximo = no.valor + 1L;
+                if (presente) {
+                    acao.accept(no.valor);
+                }
+                esquerdo = false;
+            }
+        }
+    }
+
+    /**
+     * Retorna o número de valores armazenados. Com escritas
+     * concorrentes, o resultado é aproximado.
+     *
+     * @return quantidade de valores na árvore
+     */
+    public int tamanho() {
+        return (int) tamanho.sum();
+    }
+
+    /**
+     * Retorna a altura da árvore, contando os nós de roteamento: 0 se
+     * vazia, 1 se houver só a raiz. Com escritas concorrentes, pode
+     * refletir um rebalanceamento ainda em andamento.
+     *
+     * @return altura da árvore
+     */
+    @Override
+    public int altura() {
+        return altura(cabeca.direita);
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    /**
+     * Busca otimista do nó com o valor, presente ou de roteamento.
+     *
+     * @return nó com o valor, ou {@code null} se não houver
+     */
+    private NoVersionado localizar(int valor) {
+        tentativa:
+        while (true) {
+            NoVersionado no = cabeca;
+            long versao = 0;
+            boolean esquerdo = false;
+            while (true) {
+                NoVersionado filho = no.filho(esquerdo);
+                if (filho == null) {
+                    if (no.versao == versao) {
+                        return null;
+                    }
+                    continue tentativa;
+                }
+                long versaoFilho = filho.versao;
+                if ((versaoFilho & 1) != 0 || no.filho(esquerdo) != filho || no.versao != versao) {
+                    Thread.onSpinWait();
+                    continue tentativa;
+                }
+                if (filho.valor == valor) {
+                    return filho;
+                }
+                no = filho;
+                versao = versaoFilho;
+                esquerdo = valor < no.valor;
+            }
+        }
+    }
+
+    /**
+     * Sobe a partir do nó alterado, travando a cada passo o pai e o
+     * nó: desliga nós de roteamento com no máximo um filho, aplica
+     * rotações onde o fator de balanceamento chegou a ±2 e corrige
+     * alturas, parando quando uma altura não muda.
+     */
+    private void reparar(NoVersionado no) {
+        // Depois de uma rotação, a nova raiz da sub‑árvore já tem a
+        // altura certa, mas o pai dela ainda precisa ser corrigido
+        boolean forcarSubida = false;
+        while (no != cabeca) {
+            NoVersionado pai = no.pai;
+            synchronized (pai) {
+                if (no.desligado) {
+                    return;
+                }
+                if (pai.desligado || (pai.esquerda != no && pai.direita != no)) {
+                    // Uma rotação trocou o pai; lê de novo
+                    continue;
+                }
+                synchronized (no) {
+                    if (desligavel(no)) {
+                        desligar(pai, no);
+                        no = pai;
+                        continue;
+                    }
+                    int fator = altura(no.direita) - altura(no.esquerda);
+                    if (fator < -1 || fator > 1) {
+                        NoVersionado novaRaiz = rotacionar(pai, no, fator < -1);
+                        forcarSubida = true;
+                        // O pivô desceu e pode ter ficado com um filho só
+                        no = desligavel(no) ? no : novaRaiz;
+                        continue;
+                    }
+                    int altura = 1 + Math.max(altura(no.esquerda), altura(no.direita));
+                    if (altura == no.altura && !forcarSubida) {
+                        return;
+                    }
+                    no.altura = altura;
+                    forcarSubida = false;
+                }
+            }
+            no = pai;
+        }
+    }
+
+    /** Nó de roteamento que pode sair da árvore, com no máximo um filho. */
+    private static boolean desligavel(NoVersionado no) {
+        return !no.presente && (no.esquerda == null || no.direita == null);
+    }
+
+    /**
+     * Tira da árvore um nó de roteamento com no máximo um filho,
+     * ligando o filho ao pai. O nó é marcado durante a troca e depois
+     * fica desligado para sempre. Exige os monitores do pai e do nó.
+     */
+    private void desligar(NoVersionado pai, NoVersionado no) {
+        NoVersionado filho = no.esquerda != null ? no.esquerda : no.direita;
+        marcar(no);
+        religar(pai, no, filho);
+        if (filho != null) {
+            filho.pai = pai;
+        }
+        no.desligado = true;
+        desmarcar(no);
+    }
+
+    /**
+     * Aplica a rotação simples ou dupla que reduz o lado mais alto do
+     * nó, travando os filhos envolvidos depois do pai e do nó, que já
+     * devem estar travados.
+     *
+     * @param paraDireita {@code true} se o lado esquerdo for o mais alto
+     * @return nova raiz da sub‑árvore
+     */
+    private NoVersionado rotacionar(NoVersionado pai, NoVersionado no, boolean paraDireita) {
+        NoVersionado filho = paraDireita ? no.esquerda : no.direita;
+        synchronized (filho) {
+            int fatorFilho = altura(filho.direita) - altura(filho.esquerda);
+            boolean dupla = paraDireita ? fatorFilho > 0 : fatorFilho < 0;
+            if (!dupla) {
+                return paraDireita ? rotacaoDireita(pai, no) : rotacaoEsquerda(pai, no);
+            }
+            NoVersionado neto = paraDireita ? filho.direita : filho.esquerda;
+            synchronized (neto) {
+                if (paraDireita) {
+                    rotacaoEsquerda(no, filho);
+                    return rotacaoDireita(pai, no);
+                }
+                rotacaoDireita(no, filho);
+                return rotacaoEsquerda(pai, no);
+            }
+        }
+    }
+
+    /**
+     * Rotação simples à direita. O pivô perde o filho esquerdo e a
+     * sub‑árvore dele, por isso fica marcado durante a troca. Exige os
+     * monitores do pai, do pivô e do filho esquerdo.
+     */
+    private NoVersionado rotacaoDireita(NoVersionado pai, NoVersionado pivo) {
+        NoVersionado filhoEsquerdo = pivo.esquerda;
+        NoVersionado meio = filhoEsquerdo.direita;
+        marcar(pivo);
+        pivo.esquerda = meio;
+        if (meio != null) {
+            meio.pai = pivo;
+        }
+        filhoEsquerdo.direita = pivo;
+        pivo.pai = filhoEsquerdo;
+        religar(pai, pivo, filhoEsquerdo);
+        filhoEsquerdo.pai = pai;
+        atualizarAltura(pivo);
+        atualizarAltura(filhoEsquerdo);
+        desmarcar(pivo);
+        return filhoEsquerdo;
+    }
+
+    /**
+     * Rotação simples à esquerda, simétrica a
+     * {@link #rotacaoDireita(NoVersionado, NoVersionado)}.
+     */
+    private NoVersionado rotacaoEsquerda(NoVersionado pai, NoVersionado pivo) {
+        NoVersionado filhoDireito = pivo.direita;
+        NoVersionado meio = filhoDireito.esquerda;
+        marcar(pivo);
+        pivo.direita = meio;
+        if (meio != null) {
+            meio.pai = pivo;
+        }
+        filhoDireito.esquerda = pivo;
+        pivo.pai = filhoDireito;
+        religar(pai, pivo, filhoDireito);
+        filhoDireito.pai = pai;
+        atualizarAltura(pivo);
+        atualizarAltura(filhoDireito);
+        desmarcar(pivo);
+        return filhoDireito;
+    }
+
+    /** Torna ímpar a versão do nó: leitores que passarem por ele repetem a busca. */
+    private static void marcar(NoVersionado no) {
+        no.versao++;
+    }
+
+    /** Torna a versão do nó par novamente, diferente da lida antes da marcação. */
+    private static void desmarcar(NoVersionado no) {
+        no.versao++;
+    }
+
+    /** Troca o filho {@code antigo} de {@code pai} pelo nó {@code novo}. */
+    private static void religar(NoVersionado pai, NoVersionado antigo, NoVersionado novo) {
+        if (pai.esquerda == antigo) {
+            pai.esquerda = novo;
+        } else {
+            pai.direita = novo;
+        }
+    }
+
+    private static void atualizarAltura(NoVersionado no) {
+        no.altura = 1 + Math.max(altura(no.esquerda), altura(no.direita));
+    }
+
+    private static int altura(NoVersionado no) {
+        return (no == null) ? 0 : no.altura;
+    }
+}
@@ -0,0 +1,213 @@
+package model;
+
+import interfaces.ObservadorArvore;
+
+import java.util.OptionalInt;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Mapa ordenado de chaves {@code int} para valores {@code long}, sem
+ * objetos de embrulho.
+ *
+ * É a própria {@link ArvoreAVL}, com rotações, remoção e operações de
+ * ordem herdadas: cada nó carrega um {@code long} ao lado da chave. As
+ * rotações religam nós sem copiar chaves, portanto o valor acompanha a
+ * chave; a única cópia acontece quando a remoção de um nó com dois
+ * filhos promove o sucessor, tratada em {@link #copiarCarga(No, No)}.
+ * Chaves inseridas pelos métodos de conjunto ({@code inserir},
+ * {@code inserirLote}, {@code join}, ...) recebem o valor 0; em
+ * {@code uniao} e {@code intersecao}, prevalece o valor da outra
+ * árvore.
+ */
+public class ArvoreAVLMapa extends ArvoreAVL {
+
+    /**
+     * Consumidor de entradas do mapa, sem embrulhar chave nem valor.
+     */
+    @FunctionalInterface
+    public interface ConsumidorEntrada {
+        void aceitar(int chave, long valor);
+    }
+
+    /** Nó que carrega o valor associado à chave. */
+    private static final class NoMapa extends No {
+        long dado;
+
+        NoMapa(int chave) {
+            super(chave);
+        }
+    }
+
+    /**
+     * Cria um mapa vazio sem observador.
+     */
+    public ArvoreAVLMapa() {
+        super();
+    }
+
+    /**
+     * Cria um mapa vazio que notifica o observador a cada passo da
+     * árvore.
+     *
+     * @param observador observador dos passos, ou {@code null}
+     */
+    public ArvoreAVLMapa(ObservadorArvore observador) {
+        super(observador);
+    }
+
+    /**
+     * Retorna o valor associado à chave, ou 0 se ela não existir.
+     *
+     * @param chave chave procurada
+     * @return valor associado ou 0
+     */
+    public long get(int chave) {
+        return getOrDefault(chave, 0L);
+    }
+
+    /**
+     * Retorna o valor associado à chave, ou {@code padrao} se ela não
+     * existir.
+     *
+     * @param chave  chave procurada
+     * @param padrao valor retornado na ausência da chave
+     * @return valor associado ou {@code padrao}
+     */
+    public long getOrDefault(int chave, long padrao) {
+        No no = buscar(chave);
+        return no == null ? padrao : ((NoMapa) no).dado;
+    }
+
+    /**
+     * Associa o valor à chave, inserindo‑a se necessário.
+     *
+     * @param chave chave
+     * @param valor novo valor
+     * @return valor anterior, ou 0 se a chave não existia
+     */
+    public long put(int chave, long valor) {
+        long inicio = iniciarMedicao();
+        int topo = inserirOuLocalizar(chave);
+        NoMapa no = (NoMapa) noLocalizado(topo);
+        long anterior = no.dado;
+        no.dado = valor;
+        if (topo >= 0) {
+            concluirInsercao(topo, chave);
+        }
+        concluirMedicao(MetricasArvore.Operacao.INSERCAO, inicio);
+        return anterior;
+    }
+
+    /**
+     * Associa {@code valor} à chave se ela não existir; caso contrário,
+     * substitui o valor atual por {@code funcao(atual, valor)}. Para
+     * contadores, {@code merge(chave, 1, Long::sum)}. Diferente de
+     * {@link java.util.Map#merge}, nenhum resultado remove a chave.
+     *
+     * @param chave  chave
+     * @param valor  valor inserido ou combinado
+     * @param funcao combinação do valor atual com {@code valor}
+     * @return valor associado após a operação
+     */
+    public long merge(int chave, long valor, LongBinaryOperator funcao) {
+        long inicio = iniciarMedicao();
+        int topo = inserirOuLocalizar(chave);
+        NoMapa no = (NoMapa) noLocalizado(topo);
+        if (topo >= 0) {
+            no.dado = valor;
+            concluirInsercao(topo, chave);
+        } else {
+            no.dado = funcao.applyAsLong(no.dado, valor);
+        }
+        concluirMedicao(MetricasArvore.Operacao.INSERCAO, inicio);
+        return no.dado;
+    }
+
+    /**
+     * Retorna a maior chave menor ou igual a {@code chave}.
+     *
+     * @param chave chave de referência, presente ou não
+     * @return chave encontrada, ou vazio se todas forem maiores
+     */
+    public OptionalInt floorKey(int chave) {
+        boolean encontrou = false;
+        int melhor = 0;
+        No corrente = raiz;
+        while (corrente != null) {
+            if (corrente.valor == chave) {
+                return OptionalInt.of(chave);
+            }
+            if (corrente.valor < chave) {
+                encontrou = true;
+                melhor = corrente.valor;
+                corrente = corrente.direita;
+            } else {
+                corrente = corrente.esquerda;
+            }
+        }
+        return encontrou ? OptionalInt.of(melhor) : OptionalInt.empty();
+    }
+
+    /**
+     * Retorna a menor chave maior ou igual a {@code chave}.
+     *
+     * @param chave chave de referência, presente ou não
+     * @return chave encontrada, ou vazio se todas forem menores
+     */
+    public OptionalInt ceilingKey(int chave) {
+        boolean encontrou = false;
+        int melhor = 0;
+        No corrente = raiz;
+        while (corrente != null) {
+            if (corrente.valor == chave) {
+                return OptionalInt.of(chave);
+            }
+            if (corrente.valor > chave) {
+                encontrou = true;
+                melhor = corrente.valor;
+                corrente = corrente.esquerda;
+            } else {
+                corrente = corrente.direita;
+            }
+        }
+        return encontrou ? OptionalInt.of(melhor) : OptionalInt.empty();
+    }
+
+    /**
+     * Entrega todas as entradas, em ordem crescente de chave.
+     *
+     * @param acao consumidor das entradas
+     */
+    public void forEachEntrada(ConsumidorEntrada acao) {
+        intervaloEntradas(Integer.MIN_VALUE, Integer.MAX_VALUE, acao);
+    }
+
+    /**
+     * Entrega, em ordem crescente, as entradas com chave no intervalo
+     * fechado {@code [de, ate]}.
+     *
+     * @param de   limite inferior, inclusivo
+     * @param ate  limite superior, inclusivo
+     * @param acao consumidor das entradas
+     */
+    public void intervaloEntradas(int de, int ate, ConsumidorEntrada acao) {
+        percorrer(de, ate, no -> acao.aceitar(no.valor, ((NoMapa) no).dado));
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    @Override
+    protected ArvoreAVL criarVazia() {
+        return new ArvoreAVLMapa();
+    }
+
+    @Override
+    protected No criarNo(int valor) {
+        return new NoMapa(valor);
+    }
+
+    @Override
+    protected void copiarCarga(No destino, No origem) {
+        ((NoMapa) destino).dado = ((NoMapa) origem).dado;
+    }
+}
@@ -0,0 +1,510 @@
+package model;
+
+import interfaces.ArvoreBalanceada;
+import interfaces.ArvoreComAltura;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntConsumer;
+
+/**
+ * Árvore particionada por faixas de chaves para escritas paralelas.
+ *
+ * O espaço de chaves é dividido em faixas contíguas, cada uma com a
+ * sua própria {@link ArvoreAVL} e a sua própria
+ * {@link ReentrantReadWriteLock}; escritores em faixas diferentes não
+ * disputam trava alguma. Uma operação localiza a faixa pela leitura
+ * otimista dos limites e só então trava a partição.
+ *
+ * Quando uma partição cresce muito além da menor das vizinhas, os
+ * limites são deslocados para igualar todas as partições: valores
+ * passam de uma partição à vizinha por {@link ArvoreAVL#split(int)} e
+ * {@link ArvoreAVL#join(ArvoreAVL, int, ArvoreAVL)}, em tempo
+ * logarítmico, e os movimentos se encadeiam até as partições mais
+ * distantes, inclusive as vazias. Assim, chaves concentradas em uma
+ * faixa estreita acabam distribuídas entre todas. Percursos em ordem
+ * e {@link #rank(int)} atravessam as partições em sequência, com os
+ * limites congelados durante o percurso. Os valores duplicados não
+ * são inseridos novamente.
+ */
+public class ArvoreAVLParticionada implements ArvoreBalanceada, ArvoreComAltura {
+    /** Múltiplo do tamanho da vizinha a partir do qual uma partição cede valores. */
+    private static final int FATOR_DESEQUILIBRIO = 2;
+    /** Abaixo deste tamanho uma partição nunca cede valores. */
+    private static final int TAMANHO_MINIMO = 1 << 12;
+
+    /** Faixa de chaves com a sua árvore e a sua trava. */
+    private static final class Particao {
+        final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+        /** Protegida por {@link #trava}; trocada ao mover valores. */
+        ArvoreAVL arvore = new ArvoreAVL();
+        /** Cópia do tamanho da árvore, lida sem trava pela heurística. */
+        volatile int tamanho;
+        /** Tamanho em que a partição volta a comparar‑se com a menor vizinha. */
+        int proximaVerificacao = TAMANHO_MINIMO;
+    }
+
+    private final Particao[] particoes;
+    /**
+     * {@code limites[i]} é a menor chave da partição {@code i}; o
+     * primeiro é sempre {@link Integer#MIN_VALUE}. Alterados apenas
+     * com a trava de escrita de {@link #disposicao}.
+     */
+    private final int[] limites;
+    private final StampedLock disposicao = new StampedLock();
+
+    /**
+     * Cria uma árvore vazia com quatro partições por processador
+     * disponível, dividindo igualmente todo o intervalo de
+     * {@code int}.
+     */
+    public ArvoreAVLParticionada() {
+        this(4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Cria uma árvore vazia dividindo igualmente todo o intervalo de
+     * {@code int}.
+     *
+     * @param particoes quantidade de partições
+     * @throws IllegalArgumentException se {@code particoes < 1}
+     */
+    public ArvoreAVLParticionada(int particoes) {
+        this(particoes, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Cria uma árvore vazia dividindo igualmente a faixa em que se
+     * esperam as chaves. Chaves fora da faixa continuam aceitas, na
+     * primeira ou na última partição.
+     *
+     * @param particoes quantidade de partições
+     * @param de        menor chave esperada
+     * @param ate       maior chave esperada
+     * @throws IllegalArgumentException se {@code particoes < 1} ou se
+     *                                  a faixa tiver menos chaves que
+     *                                  partições
+     */
+    public ArvoreAVLParticionada(int particoes, int de, int ate) {
+        long largura = (long) ate - de + 1;
+        if (particoes < 1 || largura < particoes) {
+            throw new IllegalArgumentException("Não é possível dividir [" + de + ", " + ate + "] em "
+                    + particoes + " partições");
+        }
+        this.particoes = new Particao[particoes];
+        this.limites = new int[particoes];
+        for (int i = 0; i < particoes; i++) {
+            this.particoes[i] = new Particao();
+            this.limites[i] = (int) (de + largura * i / particoes);
+        }
+        this.limites[0] = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Insere um valor na partição da sua faixa. Se a partição crescer
+     * muito além de uma vizinha, as partições são igualadas.
+     *
+     * @param valor valor inteiro a ser inserido
+     */
+    @Override
+    public void inserir(int valor) {
+        inserirContando(valor);
+    }
+
+    /**
+     * Remove um valor da partição da sua faixa, se presente.
+     *
+     * @param valor valor a ser removido
+     */
+    @Override
+    public void remover(int valor) {
+        removerContando(valor);
+    }
+
+    /**
+     * Verifica se um valor está presente, travando apenas a partição
+     * da sua faixa para leitura.
+     *
+     * @param valor valor procurado
+     * @return {@code true} se existir, {@code false} caso contrário
+     */
+    @Override
+    public boolean contem(int valor) {
+        Particao particao = travar(valor, false);
+        try {
+            return particao.arvore.contem(valor);
+        } finally {
+            particao.trava.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int inserirLote(int[] valores) {
+        int alterados = 0;
+        for (int valor : valores) {
+            alterados += inserirContando(valor);
+        }
+        return alterados;
+    }
+
+    @Override
+    public int removerLote(int[] valores) {
+        int alterados = 0;
+        for (int valor : valores) {
+            alterados += removerContando(valor);
+        }
+        return alterados;
+    }
+
+    /**
+     * Retorna o número de valores somando o tamanho das partições.
+     * Com escritas concorrentes, o resultado é aproximado.
+     *
+     * @return quantidade de valores
+     */
+    public int tamanho() {
+        int total = 0;
+        for (Particao particao : particoes) {
+            total += particao.tamanho;
+        }
+        return total;
+    }
+
+    /**
+     * Retorna a altura da partição mais alta, lida sob a trava de
+     * leitura de cada uma. As partições ficam lado a lado e são
+     * localizadas por busca nos limites, sem níveis de árvore acima
+     * delas.
+     *
+     * @return altura da maior partição
+     */
+    @Override
+    public int altura() {
+        int maior = 0;
+        for (Particao particao : particoes) {
+            Lock leitura = particao.trava.readLock();
+            leitura.lock();
+            try {
+                maior = Math.max(maior, particao.arvore.altura());
+            } finally {
+                leitura.unlock();
+            }
+        }
+        return maior;
+    }
+
+    /**
+     * Retorna a quantidade de partições.
+     *
+     * @return quantidade de partições
+     */
+    public int particoes() {
+        return particoes.length;
+    }
+
+    /**
+     * Retorna o tamanho atual de cada partição, em ordem de faixa.
+     *
+     * @return tamanhos das partições
+     */
+    public int[] tamanhosParticoes() {
+        int[] tamanhos = new int[particoes.length];
+        for (int i = 0; i < particoes.length; i++) {
+            tamanhos[i] = particoes[i].tamanho;
+        }
+        return tamanhos;
+    }
+
+    /**
+     * Conta quantos valores são estritamente menores que
+     * {@code valor}: soma o tamanho das partições anteriores à faixa
+     * de {@code valor} e o posto dentro dela. Os limites não mudam
+     * durante a contagem; cada partição é lida sob a sua trava.
+     *
+     * @param valor valor de referência, presente ou não
+     * @return posição que {@code valor} ocupa ou ocuparia na ordem
+     */
+    public int rank(int valor) {
+        long selo = disposicao.readLock();
+        try {
+            int indice = indiceDe(valor);
+            int menores = 0;
+            for (int i = 0; i <= indice; i++) {
+                Lock leitura = particoes[i].trava.readLock();
+                leitura.lock();
+                try {
+                    ArvoreAVL arvore = particoes[i].arvore;
+                    menores += i < indice ? arvore.tamanho() : arvore.rank(valor);
+                } finally {
+                    leitura.unlock();
+                }
+            }
+            return menores;
+        } finally {
+            disposicao.unlockRead(selo);
+        }
+    }
+
+    /**
+     * Entrega todos os valores, em ordem crescente.
+     *
+     * @param acao consumidor dos valores; não deve modificar a árvore
+     */
+    public void forEach(IntConsumer acao) {
+        intervalo(Integer.MIN_VALUE, Integer.MAX_VALUE, acao);
+    }
+
+    /**
+     * Entrega, em ordem crescente, os valores do intervalo fechado
+     * {@code [de, ate]}, percorrendo as partições da faixa uma após a
+     * outra. Cada partição é lida sob a sua trava de leitura, portanto
+     * o resultado é consistente por partição, e não entre partições,
+     * quando há escritas concorrentes.
+     *
+     * @param de   limite inferior, inclusivo
+     * @param ate  limite superior, inclusivo
+     * @param acao consumidor dos valores; não deve modificar a árvore
+     */
+    public void intervalo(int de, int ate, IntConsumer acao) {
+        if (de > ate) {
+            return;
+        }
+        long selo = disposicao.readLock();
+        try {
+            for (int i = indiceDe(de), ultima = indiceDe(ate); i <= ultima; i++) {
+                Lock leitura = particoes[i].trava.readLock();
+                leitura.lock();
+                try {
+                    particoes[i].arvore.intervalo(de, ate, acao);
+                } finally {
+                    leitura.unlock();
+                }
+            }
+        } finally {
+            disposicao.unlockRead(selo);
+        }
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    private int inserirContando(int valor) {
+        Particao particao = travar(valor, true);
+        boolean verificar;
+        int alterados;
+        try {
+            ArvoreAVL arvore = particao.arvore;
+            int antes = arvore.tamanho();
+            arvore.inserir(valor);
+            int depois = arvore.tamanho();
+            particao.tamanho = depois;
+            alterados = depois - antes;
+            verificar = depois >= particao.proximaVerificacao;
+            if (verificar) {
+                particao.proximaVerificacao = depois + Math.max(TAMANHO_MINIMO, depois / 8);
+            }
+        } finally {
+            particao.trava.writeLock().unlock();
+        }
+        if (verificar) {
+            redistribuir(particao);
+        }
+        return alterados;
+    }
+
+    private int removerContando(int valor) {
+        Particao particao = travar(valor, true);
+        try {
+            ArvoreAVL arvore = particao.arvore;
+            int antes = arvore.tamanho();
+            arvore.remover(valor);
+            particao.tamanho = arvore.tamanho();
+            return antes - particao.tamanho;
+        } finally {
+            particao.trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Localiza e trava a partição de {@code valor}. Primeiro tenta uma
+     * leitura otimista dos limites, validada depois de obtida a trava
+     * da partição: a partir daí, nenhuma redistribuição que envolva a
+     * partição pode prosseguir. Se a validação falhar, repete a busca
+     * com a trava de leitura dos limites.
+     */
+    private Particao travar(int valor, boolean escrita) {
+        long selo = disposicao.tryOptimisticRead();
+        if (selo != 0) {
+            Particao particao = particoes[indiceDe(valor)];
+            Lock trava = escrita ? particao.trava.writeLock() : particao.trava.readLock();
+            trava.lock();
+            if (disposicao.validate(selo)) {
+                return particao;
+            }
+            trava.unlock();
+        }
+        selo = disposicao.readLock();
+        try {
+            Particao particao = particoes[indiceDe(valor)];
+            (escrita ? particao.trava.writeLock() : particao.trava.readLock()).lock();
+            return particao;
+        } finally {
+            disposicao.unlockRead(selo);
+        }
+    }
+
+    /** Índice da última partição cujo limite é menor ou igual a {@code valor}. */
+    private int indiceDe(int valor) {
+        int baixo = 0;
+        int alto = limites.length - 1;
+        while (baixo < alto) {
+            int meio = (baixo + alto + 1) >>> 1;
+            if (limites[meio] <= valor) {
+                baixo = meio;
+            } else {
+                alto = meio - 1;
+            }
+        }
+        return baixo;
+    }
+
+    /**
+     * Se a partição tiver mais que {@value #FATOR_DESEQUILIBRIO} vezes
+     * o tamanho da menor vizinha (mais uma folga de
+     * {@value #TAMANHO_MINIMO}), iguala todas as partições. Se outra
+     * redistribuição estiver em andamento, desiste: a partição tornará
+     * a verificar mais adiante.
+     */
+    private void redistribuir(Particao particao) {
+        long selo = disposicao.tryWriteLock();
+        if (selo == 0) {
+            return;
+        }
+        try {
+            int indice = 0;
+            while (particoes[indice] != particao) {
+                indice++;
+            }
+            int vizinha = escolherVizinha(indice);
+            if (vizinha >= 0 && particao.tamanho
+                    > (long) FATOR_DESEQUILIBRIO * particoes[vizinha].tamanho + TAMANHO_MINIMO) {
+                igualar();
+            }
+        } finally {
+            disposicao.unlockWrite(selo);
+        }
+    }
+
+    /**
+     * Desloca os limites para que cada partição fique com a média. O
+     * fluxo em cada fronteira é a diferença entre os valores à
+     * esquerda dela e o que deveria haver ali; os fluxos para a
+     * direita são aplicados da esquerda para a direita e os demais no
+     * sentido inverso, de modo que uma partição sempre recebe da
+     * vizinha antes de repassar à seguinte.
+     */
+    private void igualar() {
+        int quantidade = particoes.length;
+        long total = tamanho();
+        long[] fluxos = new long[quantidade];
+        long acumulado = 0;
+        for (int i = 1; i < quantidade; i++) {
+            acumulado += particoes[i - 1].tamanho;
+            fluxos[i] = acumulado - total * i / quantidade;
+        }
+        for (int i = 1; i < quantidade; i++) {
+            if (fluxos[i] > 0) {
+                mover(i - 1, i, fluxos[i]);
+            }
+        }
+        for (int i = quantidade - 1; i > 0; i--) {
+            if (fluxos[i] < 0) {
+                mover(i, i - 1, -fluxos[i]);
+            }
+        }
+    }
+
+    /**
+     * Passa até {@code quantidade} valores da partição {@code origem}
+     * para a vizinha adjacente {@code destino}, com ambas travadas. A
+     * origem fica com pelo menos um valor, que define o seu limite.
+     */
+    private void mover(int origem, int destino, long quantidade) {
+        int primeira = Math.min(origem, destino);
+        Lock esquerda = particoes[primeira].trava.writeLock();
+        Lock direita = particoes[primeira + 1].trava.writeLock();
+        esquerda.lock();
+        direita.lock();
+        try {
+            int movidos = (int) Math.min(quantidade, particoes[origem].arvore.tamanho() - 1L);
+            if (movidos > 0) {
+                if (destino > origem) {
+                    moverParaDireita(origem, movidos);
+                } else {
+                    moverParaEsquerda(origem, movidos);
+                }
+            }
+        } finally {
+            direita.unlock();
+            esquerda.unlock();
+        }
+    }
+
+    private int escolherVizinha(int indice) {
+        if (particoes.length == 1) {
+            return -1;
+        }
+        if (indice == 0) {
+            return 1;
+        }
+        if (indice == particoes.length - 1) {
+            return indice - 1;
+        }
+        return particoes[indice - 1].tamanho <= particoes[indice + 1].tamanho ? indice - 1 : indice + 1;
+    }
+
+    /**
+     * Passa os {@code quantidade} maiores valores da partição
+     * {@code indice} para a seguinte. O maior deles serve de chave
+     * intermediária do {@code join} com a árvore da vizinha.
+     */
+    private void moverParaDireita(int indice, int quantidade) {
+        Particao origem = particoes[indice];
+        Particao destino = particoes[indice + 1];
+        ArvoreAVL arvore = origem.arvore;
+        int maior = arvore.select(arvore.tamanho() - 1);
+        arvore.remover(maior);
+        ArvoreAVL movidos = quantidade > 1
+                ? arvore.split(arvore.select(arvore.tamanho() - quantidade))
+                : new ArvoreAVL();
+        destino.arvore = ArvoreAVL.join(movidos, maior, destino.arvore);
+        limites[indice + 1] = arvore.select(arvore.tamanho() - 1) + 1;
+        atualizarTamanhos(origem, destino);
+    }
+
+    /**
+     * Passa os {@code quantidade} menores valores da partição
+     * {@code indice} para a anterior. O menor deles serve de chave
+     * intermediária do {@code join} com a árvore da vizinha.
+     */
+    private void moverParaEsquerda(int indice, int quantidade) {
+        Particao origem = particoes[indice];
+        Particao destino = particoes[indice - 1];
+        ArvoreAVL arvore = origem.arvore;
+        int menor = arvore.select(0);
+        arvore.remover(menor);
+        ArvoreAVL restantes = quantidade > 1 ? arvore.split(arvore.select(quantidade - 2)) : arvore;
+        ArvoreAVL movidos = quantidade > 1 ? arvore : new ArvoreAVL();
+        ArvoreAVL.join(destino.arvore, menor, movidos);
+        origem.arvore = restantes;
+        limites[indice] = restantes.select(0);
+        atualizarTamanhos(origem, destino);
+    }
+
+    private static void atualizarTamanhos(Particao... alteradas) {
+        for (Particao particao : alteradas) {
+            particao.tamanho = particao.arvore.tamanho();
+            particao.proximaVerificacao = particao.tamanho + Math.max(TAMANHO_MINIMO, particao.tamanho / 8);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package model;
+
+import interfaces.ArvoreBalanceada;
+import interfaces.ArvoreComAltura;
+import interfaces.ObservadorArvore;
+
+/**
+ * Árvore AVL persistente por cópia de caminho.
+ *
+ * Inserções e remoções nunca alteram um nó já publicado: copiam
+ * apenas os O(log n) nós do caminho da raiz até o ponto modificado
+ * (e os nós envolvidos em rotações) e, ao final, trocam a raiz de uma
+ * só vez. Cada raiz publicada é, portanto, uma versão imutável da
+ * árvore, obtida em O(1) por {@link #snapshot()}. Consultas e
+ * observadores percorrem essas versões sem travas; os escritores são
+ * serializados entre si. Os valores duplicados não são inseridos
+ * novamente.
+ */
+public class ArvoreAVLPersistente implements ArvoreBalanceada, ArvoreComAltura {
+    private final ObservadorArvore observador;
+    private volatile No raiz;
+
+    /**
+     * Cria uma árvore persistente vazia sem observador.
+     */
+    public ArvoreAVLPersistente() {
+        this(null);
+    }
+
+    /**
+     * Cria uma árvore persistente vazia. A cada modificação o
+     * observador recebe a nova versão, que não muda enquanto é
+     * percorrida (por exemplo, desenhada pelo visualizador).
+     *
+     * @param observador observador a notificar, ou {@code null}
+     */
+    public ArvoreAVLPersistente(ObservadorArvore observador) {
+        this.observador = observador != null ? observador : ObservadorArvore.NENHUM;
+    }
+
+    /**
+     * Insere um valor copiando o caminho até a nova folha e publica a
+     * nova versão. Se o valor já existir, nada é copiado.
+     *
+     * @param valor valor inteiro a ser inserido
+     */
+    @Override
+    public synchronized void inserir(int valor) {
+        No atual = raiz;
+        No nova = inserir(atual, valor);
+        if (nova != atual) {
+            raiz = nova;
+            observador.noInserido(nova, valor);
+        }
+    }
+
+    /**
+     * Remove um valor copiando o caminho até ele e publica a nova
+     * versão. Se o valor não existir, nada é copiado.
+     *
+     * @param valor valor a ser removido
+     */
+    @Override
+    public synchronized void remover(int valor) {
+        No atual = raiz;
+        No nova = remover(atual, valor);
+        if (nova != atual) {
+            raiz = nova;
+            observador.noRemovido(nova, valor);
+        }
+    }
+
+    /**
+     * Verifica, sem travas, se um valor está presente na versão atual.
+     *
+     * @param valor valor procurado
+     * @return {@code true} se existir, {@code false} caso contrário
+     */
+    @Override
+    public boolean contem(int valor) {
+        return snapshot().contem(valor);
+    }
+
+    /**
+     * Retorna a altura da versão atual: 0 se vazia, 1 se houver só a
+     * raiz.
+     *
+     * @return altura da árvore
+     */
+    @Override
+    public int altura() {
+        return altura(raiz);
+    }
+
+    /**
+     * Retorna a versão atual da árvore em O(1). A versão retornada não
+     * é afetada por modificações posteriores.
+     *
+     * @return versão congelada da árvore
+     */
+    public Instantaneo snapshot() {
+        return new Instantaneo(raiz);
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    /**
+     * Retorna a sub‑árvore com o valor inserido. Se o valor já
+     * existir, a própria sub‑árvore é retornada, sem cópias.
+     */
+    private No inserir(No noAtual, int valor) {
+        if (noAtual == null) {
+            return new No(valor);
+        }
+        if (valor < noAtual.valor) {
+            No esquerda = inserir(noAtual.esquerda, valor);
+            return esquerda == noAtual.esquerda ? noAtual
+                    : balancear(criar(noAtual.valor, esquerda, noAtual.direita));
+        }
+        if (valor > noAtual.valor) {
+            No direita = inserir(noAtual.direita, valor);
+            return direita == noAtual.direita ? noAtual
+                    : balancear(criar(noAtual.valor, noAtual.esquerda, direita));
+        }
+        // valor duplicado; não insere novamente
+        return noAtual;
+    }
+
+    /**
+     * Retorna a sub‑árvore sem o valor. Se o valor não existir, a
+     * própria sub‑árvore é retornada, sem cópias.
+     */
+    private No remover(No noAtual, int valor) {
+        if (noAtual == null) {
+            return null;
+        }
+        if (valor < noAtual.valor) {
+            No esquerda = remover(noAtual.esquerda, valor);
+            return esquerda == noAtual.esquerda ? noAtual
+                    : balancear(criar(noAtual.valor, esquerda, noAtual.direita));
+        }
+        if (valor > noAtual.valor) {
+            No direita = remover(noAtual.direita, valor);
+            return direita == noAtual.direita ? noAtual
+                    : balancear(criar(noAtual.valor, noAtual.esquerda, direita));
+        }
+        if (noAtual.esquerda == null) {
+            return noAtual.direita;
+        }
+        if (noAtual.direita == null) {
+            return noAtual.esquerda;
+        }
+        // Dois filhos: o sucessor ocupa o lugar do nó em uma cópia
+        No sucessor = noAtual.direita;
+        while (sucessor.esquerda != null) {
+            sucessor = sucessor.esquerda;
+        }
+        return balancear(criar(sucessor.valor, noAtual.esquerda, removerMinimo(noAtual.direita)));
+    }
+
+    private No removerMinimo(No noAtual) {
+        if (noAtual.esquerda == null) {
+            return noAtual.direita;
+        }
+        return balancear(criar(noAtual.valor, removerMinimo(noAtual.esquerda), noAtual.direita));
+    }
+
+    /**
+     * Aplica a rotação adequada a um nó recém‑criado cujo fator de
+     * balanceamento chegou a ±2.
+     */
+    private No balancear(No noAtual) {
+        int fator = altura(noAtual.direita) - altura(noAtual.esquerda);
+        if (fator < -1) {
+            No esquerda = noAtual.esquerda;
+            if (altura(esquerda.direita) > altura(esquerda.esquerda)) {
+                return rotacaoDireita(criar(noAtual.valor, rotacaoEsquerda(esquerda), noAtual.direita));
+            }
+            return rotacaoDireita(noAtual);
+        }
+        if (fator > 1) {
+            No direita = noAtual.direita;
+            if (altura(direita.esquerda) > altura(direita.direita)) {
+                return rotacaoEsquerda(criar(noAtual.valor, noAtual.esquerda, rotacaoDireita(direita)));
+            }
+            return rotacaoEsquerda(noAtual);
+        }
+        return noAtual;
+    }
+
+    /**
+     * Rotação simples à direita que cria novos nós para o pivô e seu
+     * filho esquerdo, preservando a versão anterior.
+     */
+    private No rotacaoDireita(No pivo) {
+        No filhoEsquerdo = pivo.esquerda;
+        No novoPivo = criar(pivo.valor, filhoEsquerdo.direita, pivo.direita);
+        return criar(filhoEsquerdo.valor, filhoEsquerdo.esquerda, novoPivo);
+    }
+
+    /**
+     * Rotação simples à esquerda que cria novos nós para o pivô e seu
+     * filho direito, preservando a versão anterior.
+     */
+    private No rotacaoEsquerda(No pivo) {
+        No filhoDireito = pivo.direita;
+        No novoPivo = criar(pivo.valor, pivo.esquerda, filhoDireito.esquerda);
+        return criar(filhoDireito.valor, novoPivo, filhoDireito.direita);
+    }
+
+    /**
+     * Cria um nó com os filhos informados e a altura e o tamanho já
+     * calculados.
+     */
+    private static No criar(int valor, No esquerda, No direita) {
+        No no = new No(valor);
+        no.esquerda = esquerda;
+        no.direita = direita;
+        no.altura = 1 + Math.max(altura(esquerda), altura(direita));
+        no.tamanho = 1 + ArvoreBinariaBusca.tamanho(esquerda) + ArvoreBinariaBusca.tamanho(direita);
+        return no;
+    }
+
+    private static int altura(No no) {
+        return (no == null) ? 0 : no.altura;
+    }
+}
@@ -0,0 +1,312 @@
+package model;
+
+import interfaces.ArvoreBalanceada;
+import interfaces.ArvoreComAltura;
+
+import java.util.Arrays;
+
+/**
+ * Implementação de árvore AVL sem objetos por nó.
+ *
+ * Em vez de instanciar um {@link No} a cada inserção, os nós são
+ * "slots" identificados por índices inteiros. As chaves, os índices
+ * dos filhos e as alturas ficam em vetores paralelos que crescem
+ * conforme a necessidade. O slot 0 é reservado como sentinela para
+ * representar o filho nulo (altura 0), o que evita testes especiais
+ * nas rotações. Slots liberados por {@link #remover(int)} são
+ * encadeados em uma lista livre e reaproveitados pelas próximas
+ * inserções.
+ *
+ * Cada chave ocupa 13 bytes (três {@code int} e um {@code byte} de
+ * altura) contra cerca de 32 bytes de um {@link No}, e chaves
+ * inseridas em sequência ficam próximas na memória. Os valores
+ * duplicados não são inseridos novamente.
+ */
+public class ArvoreAVLPrimitiva implements ArvoreBalanceada, ArvoreComAltura {
+    /** Índice sentinela que representa o filho nulo. */
+    private static final int NULO = 0;
+    private static final int CAPACIDADE_INICIAL = 16;
+    /** Altura máxima de uma AVL com até 2^31 chaves é inferior a 64. */
+    private static final int ALTURA_MAXIMA = 64;
+
+    private int[] chaves;
+    private int[] esquerda;
+    private int[] direita;
+    private byte[] alturas;
+    private int raiz = NULO;
+    /** Próximo slot nunca utilizado. */
+    private int proximoSlot = 1;
+    /** Cabeça da lista de slots livres, encadeada pelo vetor esquerda. */
+    private int livres = NULO;
+    private int tamanho;
+    /** Pilha de ancestrais reutilizada entre operações. */
+    private final int[] caminho = new int[ALTURA_MAXIMA];
+
+    /**
+     * Cria uma árvore vazia com a capacidade inicial padrão.
+     */
+    public ArvoreAVLPrimitiva() {
+        this(CAPACIDADE_INICIAL);
+    }
+
+    /**
+     * Cria uma árvore vazia capaz de armazenar {@code capacidade}
+     * chaves antes de precisar crescer os vetores.
+     *
+     * @param capacidade número de chaves esperado
+     */
+    public ArvoreAVLPrimitiva(int capacidade) {
+        int slots = Math.max(capacidade, 1) + 1;
+        chaves = new int[slots];
+        esquerda = new int[slots];
+        direita = new int[slots];
+        alturas = new byte[slots];
+    }
+
+    /**
+     * Insere um valor na árvore e rebalanceia o caminho percorrido.
+     * Se o valor já existir, nada é feito.
+     *
+     * @param valor valor inteiro a ser inserido
+     */
+    @Override
+    public void inserir(int valor) {
+        if (raiz == NULO) {
+            raiz = alocarSlot(valor);
+            tamanho++;
+            return;
+        }
+        int topo = 0;
+        int corrente = raiz;
+        while (corrente != NULO) {
+            int chave = chaves[corrente];
+            if (valor == chave) {
+                // valor duplicado; não insere novamente
+                return;
+            }
+            caminho[topo++] = corrente;
+            corrente = valor < chave ? esquerda[corrente] : direita[corrente];
+        }
+        int novo = alocarSlot(valor);
+        int pai = caminho[topo - 1];
+        if (valor < chaves[pai]) {
+            esquerda[pai] = novo;
+        } else {
+            direita[pai] = novo;
+        }
+        tamanho++;
+        rebalancearCaminho(topo);
+    }
+
+    /**
+     * Remove um valor da árvore, se presente, e rebalanceia o caminho
+     * percorrido. O slot liberado volta para a lista livre.
+     *
+     * @param valor valor a ser removido
+     */
+    @Override
+    public void remover(int valor) {
+        int topo = 0;
+        int corrente = raiz;
+        while (corrente != NULO && chaves[corrente] != valor) {
+            caminho[topo++] = corrente;
+            corrente = valor < chaves[corrente] ? esquerda[corrente] : direita[corrente];
+        }
+        if (corrente == NULO) {
+            return;
+        }
+        if (esquerda[corrente] != NULO && direita[corrente] != NULO) {
+            // Dois filhos: o sucessor é desligado na mesma descida e
+            // sua chave ocupa o slot do nó removido.
+            caminho[topo++] = corrente;
+            int sucessor = direita[corrente];
+            while (esquerda[sucessor] != NULO) {
+                caminho[topo++] = sucessor;
+                sucessor = esquerda[sucessor];
+            }
+            chaves[corrente] = chaves[sucessor];
+            substituirFilho(caminho[topo - 1], sucessor, direita[sucessor]);
+            liberarSlot(sucessor);
+        } else {
+            int filho = esquerda[corrente] != NULO ? esquerda[corrente] : direita[corrente];
+            if (topo == 0) {
+                raiz = filho;
+            } else {
+                substituirFilho(caminho[topo - 1], corrente, filho);
+            }
+            liberarSlot(corrente);
+        }
+        tamanho--;
+        rebalancearCaminho(topo);
+    }
+
+    /**
+     * Verifica se um valor está presente na árvore.
+     *
+     * @param valor valor procurado
+     * @return {@code true} se existir, {@code false} caso contrário
+     */
+    @Override
+    public boolean contem(int valor) {
+        int corrente = raiz;
+        while (corrente != NULO) {
+            int chave = chaves[corrente];
+            if (valor == chave) {
+                return true;
+            }
+            corrente = valor < chave ? esquerda[corrente] : direita[corrente];
+        }
+        return false;
+    }
+
+    /**
+     * Retorna o número de chaves armazenadas.
+     *
+     * @return quantidade de chaves na árvore
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Retorna a altura da árvore, considerando a árvore vazia como 0.
+     *
+     * @return altura da raiz
+     */
+    @Override
+    public int altura() {
+        return alturas[raiz];
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    /**
+     * Percorre a pilha de ancestrais de baixo para cima, atualizando
+     * alturas e aplicando rotações. A subida termina assim que uma
+     * sub‑árvore mantém a altura que tinha antes da operação.
+     */
+    private void rebalancearCaminho(int topo) {
+        for (int i = topo - 1; i >= 0; i--) {
+            int no = caminho[i];
+            int alturaAnterior = alturas[no];
+            int novaRaiz = balancear(no);
+            if (i == 0) {
+                raiz = novaRaiz;
+            } else if (novaRaiz != no) {
+                substituirFilho(caminho[i - 1], no, novaRaiz);
+            }
+            if (alturas[novaRaiz] == alturaAnterior) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Atualiza a altura do slot e aplica a rotação adequada quando o
+     * fator de balanceamento chega a ±2.
+     *
+     * @return slot que passa a ser a raiz da sub‑árvore
+     */
+    private int balancear(int no) {
+        atualizarAltura(no);
+        int fator = fatorBalanceamento(no);
+        if (fator < -1) {
+            if (fatorBalanceamento(esquerda[no]) > 0) {
+                esquerda[no] = rotacaoEsquerda(esquerda[no]);
+            }
+            return rotacaoDireita(no);
+        }
+        if (fator > 1) {
+            if (fatorBalanceamento(direita[no]) < 0) {
+                direita[no] = rotacaoDireita(direita[no]);
+            }
+            return rotacaoEsquerda(no);
+        }
+        return no;
+    }
+
+    private int rotacaoDireita(int pivo) {
+        int novaRaiz = esquerda[pivo];
+        esquerda[pivo] = direita[novaRaiz];
+        direita[novaRaiz] = pivo;
+        atualizarAltura(pivo);
+        atualizarAltura(novaRaiz);
+        return novaRaiz;
+    }
+
+    private int rotacaoEsquerda(int pivo) {
+        int novaRaiz = direita[pivo];
+        direita[pivo] = esquerda[novaRaiz];
+        esquerda[novaRaiz] = pivo;
+        atualizarAltura(pivo);
+        atualizarAltura(novaRaiz);
+        return novaRaiz;
+    }
+
+    private int fatorBalanceamento(int no) {
+        return alturas[direita[no]] - alturas[esquerda[no]];
+    }
+
+    private void atualizarAltura(int no) {
+        alturas[no] = (byte) (1 + Math.max(alturas[esquerda[no]], alturas[direita[no]]));
+    }
+
+    /**
+     * Troca a referência de {@code pai} para o filho {@code antigo}
+     * pelo slot {@code novo}.
+     */
+    private void substituirFilho(int pai, int antigo, int novo) {
+        if (esquerda[pai] == antigo) {
+            esquerda[pai] = novo;
+        } else {
+            direita[pai] = novo;
+        }
+    }
+
+    /**
+     * Obtém um slot para a chave, reaproveitando a lista livre antes
+     * de crescer os vetores.
+     */
+    private int alocarSlot(int valor) {
+        int slot;
+        if (livres != NULO) {
+            slot = livres;
+            livres = esquerda[slot];
+        } else {
+            if (proximoSlot == chaves.length) {
+                crescer();
+            }
+            slot = proximoSlot++;
+        }
+        chaves[slot] = valor;
+        esquerda[slot] = NULO;
+        direita[slot] = NULO;
+        alturas[slot] = 1;
+        return slot;
+    }
+
+    /**
+     * Devolve o slot à lista livre, usando o vetor esquerda como
+     * ponteiro para o próximo slot livre.
+     */
+    private void liberarSlot(int slot) {
+        esquerda[slot] = livres;
+        direita[slot] = NULO;
+        alturas[slot] = 0;
+        livres = slot;
+    }
+
+    /**
+     * Aumenta a capacidade dos vetores em 50%.
+     */
+    private void crescer() {
+        int capacidade = chaves.length + (chaves.length >> 1) + 1;
+        if (capacidade < 0) {
+            capacidade = Integer.MAX_VALUE - 8;
+        }
+        chaves = Arrays.copyOf(chaves, capacidade);
+        esquerda = Arrays.copyOf(esquerda, capacidade);
+        direita = Arrays.copyOf(direita, capacidade);
+        alturas = Arrays.copyOf(alturas, capacidade);
+    }
+}
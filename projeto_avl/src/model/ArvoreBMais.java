@@ -0,0 +1,451 @@
+package model;
+
+import interfaces.ArvoreBalanceada;
+import interfaces.ArvoreComAltura;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Árvore B+ de inteiros com páginas largas.
+ *
+ * Cada página guarda até {@code ordem} chaves ordenadas em um
+ * {@code int[]}, de modo que uma consulta percorre cerca de
+ * log_ordem(n) páginas em vez de log2(n) nós: com ordem 64 e 10
+ * milhões de chaves, 4 ou 5 páginas contra cerca de 24 nós da
+ * {@link ArvoreAVL}. Dentro da página a posição é obtida contando,
+ * sem desvios, as chaves menores que a procurada, laço que o
+ * compilador JIT pode vetorizar. Os valores ficam apenas nas folhas,
+ * encadeadas em ordem crescente para percursos por intervalo. Os
+ * valores duplicados não são inseridos novamente.
+ *
+ * Toda página, exceto a raiz, mantém pelo menos metade da capacidade;
+ * a remoção empresta chaves de uma irmã ou funde as duas quando isso
+ * não é possível.
+ */
+public class ArvoreBMais implements ArvoreBalanceada, ArvoreComAltura {
+    /** Ordem usada pelo construtor sem parâmetros. */
+    public static final int ORDEM_PADRAO = 64;
+    private static final int ORDEM_MINIMA = 4;
+
+    /** Página da árvore: as chaves ocupam {@code chaves[0..quantidade)}. */
+    private abstract static class Pagina {
+        final int[] chaves;
+        int quantidade;
+
+        Pagina(int capacidade) {
+            chaves = new int[capacidade];
+        }
+    }
+
+    /** Folha com até {@code ordem} valores e a ligação para a seguinte. */
+    private static final class Folha extends Pagina {
+        Folha proxima;
+
+        Folha(int ordem) {
+            // uma posição extra acomoda a chave que provoca a divisão
+            super(ordem + 1);
+        }
+    }
+
+    /**
+     * Página interna com até {@code ordem} filhos. O filho {@code i}
+     * contém as chaves menores que {@code chaves[i]} e maiores ou
+     * iguais a {@code chaves[i - 1]}.
+     */
+    private static final class Interna extends Pagina {
+        final Pagina[] filhos;
+
+        Interna(int ordem) {
+            super(ordem);
+            filhos = new Pagina[ordem + 1];
+        }
+    }
+
+    private final int ordem;
+    private final int minimoFolha;
+    private final int minimoInterna;
+    private Pagina raiz;
+    private int tamanho;
+    private int altura;
+
+    /** Separador promovido pela última divisão de página. */
+    private int separador;
+    /** Indica se a última inserção ou remoção alterou a árvore. */
+    private boolean alterou;
+
+    /**
+     * Cria uma árvore B+ vazia com a ordem padrão de
+     * {@value #ORDEM_PADRAO} chaves por página.
+     */
+    public ArvoreBMais() {
+        this(ORDEM_PADRAO);
+    }
+
+    /**
+     * Cria uma árvore B+ vazia.
+     *
+     * @param ordem máximo de chaves por folha e de filhos por página
+     *              interna; valores entre 32 e 128 aproveitam melhor a
+     *              cache
+     * @throws IllegalArgumentException se {@code ordem} for menor que 4
+     */
+    public ArvoreBMais(int ordem) {
+        if (ordem < ORDEM_MINIMA) {
+            throw new IllegalArgumentException("Ordem deve ser ao menos " + ORDEM_MINIMA + ": " + ordem);
+        }
+        this.ordem = ordem;
+        this.minimoFolha = ordem / 2;
+        this.minimoInterna = (ordem + 1) / 2 - 1;
+        this.raiz = new Folha(ordem);
+        this.altura = 1;
+    }
+
+    /**
+     * Insere um valor na folha correspondente, dividindo as páginas
+     * que excederem a capacidade no caminho de volta.
+     *
+     * @param valor valor inteiro a ser inserido
+     */
+    @Override
+    public void inserir(int valor) {
+        alterou = false;
+        Pagina nova = inserir(raiz, valor);
+        if (!alterou) {
+            return;
+        }
+        tamanho++;
+        if (nova != null) {
+            Interna novaRaiz = new Interna(ordem);
+            novaRaiz.chaves[0] = separador;
+            novaRaiz.filhos[0] = raiz;
+            novaRaiz.filhos[1] = nova;
+            novaRaiz.quantidade = 1;
+            raiz = novaRaiz;
+            altura++;
+        }
+    }
+
+    /**
+     * Remove um valor, se presente, corrigindo as páginas que ficarem
+     * abaixo da ocupação mínima no caminho de volta.
+     *
+     * @param valor valor a ser removido
+     */
+    @Override
+    public void remover(int valor) {
+        alterou = false;
+        remover(raiz, valor);
+        if (!alterou) {
+            return;
+        }
+        tamanho--;
+        if (raiz instanceof Interna && raiz.quantidade == 0) {
+            raiz = ((Interna) raiz).filhos[0];
+            altura--;
+        }
+    }
+
+    /**
+     * Verifica se um valor está presente, descendo uma página por
+     * nível.
+     *
+     * @param valor valor procurado
+     * @return {@code true} se existir, {@code false} caso contrário
+     */
+    @Override
+    public boolean contem(int valor) {
+        Folha folha = folhaDe(valor);
+        int posicao = menores(folha, valor);
+        return posicao < folha.quantidade && folha.chaves[posicao] == valor;
+    }
+
+    /**
+     * Retorna o número de valores armazenados na árvore.
+     *
+     * @return quantidade de valores
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Retorna a quantidade de níveis de páginas, 1 quando só há a
+     * raiz.
+     *
+     * @return altura em páginas
+     */
+    @Override
+    public int altura() {
+        return altura;
+    }
+
+    /**
+     * Retorna a ordem da árvore.
+     *
+     * @return máximo de chaves por folha
+     */
+    public int ordem() {
+        return ordem;
+    }
+
+    /**
+     * Entrega todos os valores, em ordem crescente.
+     *
+     * @param acao consumidor dos valores
+     */
+    public void forEach(IntConsumer acao) {
+        intervalo(Integer.MIN_VALUE, Integer.MAX_VALUE, acao);
+    }
+
+    /**
+     * Entrega, em ordem crescente, os valores do intervalo fechado
+     * {@code [de, ate]}. Uma única descida localiza a primeira folha;
+     * as demais são lidas sequencialmente pelo encadeamento.
+     *
+     * @param de   limite inferior, inclusivo
+     * @param ate  limite superior, inclusivo
+     * @param acao consumidor dos valores
+     */
+    public void intervalo(int de, int ate, IntConsumer acao) {
+        if (de > ate) {
+            return;
+        }
+        Folha folha = folhaDe(de);
+        int posicao = menores(folha, de);
+        while (folha != null) {
+            for (; posicao < folha.quantidade; posicao++) {
+                int valor = folha.chaves[posicao];
+                if (valor > ate) {
+                    return;
+                }
+                acao.accept(valor);
+            }
+            folha = folha.proxima;
+            posicao = 0;
+        }
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    /**
+     * Desce da raiz até a folha que contém ou conteria {@code valor}.
+     */
+    private Folha folhaDe(int valor) {
+        Pagina pagina = raiz;
+        while (pagina instanceof Interna) {
+            pagina = ((Interna) pagina).filhos[menoresOuIguais(pagina, valor)];
+        }
+        return (Folha) pagina;
+    }
+
+    /**
+     * Quantidade de chaves da página menores que {@code valor}: a
+     * posição de {@code valor} em uma folha.
+     */
+    private static int menores(Pagina pagina, int valor) {
+        int[] chaves = pagina.chaves;
+        int contagem = 0;
+        for (int i = 0; i < pagina.quantidade; i++) {
+            contagem += chaves[i] < valor ? 1 : 0;
+        }
+        return contagem;
+    }
+
+    /**
+     * Quantidade de chaves da página menores ou iguais a
+     * {@code valor}: o filho a seguir em uma página interna.
+     */
+    private static int menoresOuIguais(Pagina pagina, int valor) {
+        int[] chaves = pagina.chaves;
+        int contagem = 0;
+        for (int i = 0; i < pagina.quantidade; i++) {
+            contagem += chaves[i] <= valor ? 1 : 0;
+        }
+        return contagem;
+    }
+
+    /**
+     * Insere na sub‑árvore e retorna a nova página irmã criada por uma
+     * divisão, ou {@code null}; o separador da irmã fica em
+     * {@link #separador}.
+     */
+    private Pagina inserir(Pagina pagina, int valor) {
+        if (pagina instanceof Folha) {
+            Folha folha = (Folha) pagina;
+            int posicao = menores(folha, valor);
+            if (posicao < folha.quantidade && folha.chaves[posicao] == valor) {
+                // valor duplicado; não insere novamente
+                return null;
+            }
+            inserirEm(folha.chaves, folha.quantidade, posicao, valor);
+            folha.quantidade++;
+            alterou = true;
+            return folha.quantidade > ordem ? dividir(folha) : null;
+        }
+        Interna interna = (Interna) pagina;
+        int indice = menoresOuIguais(interna, valor);
+        Pagina nova = inserir(interna.filhos[indice], valor);
+        if (nova == null) {
+            return null;
+        }
+        inserirEm(interna.chaves, interna.quantidade, indice, separador);
+        inserirEm(interna.filhos, interna.quantidade + 1, indice + 1, nova);
+        interna.quantidade++;
+        return interna.quantidade >= ordem ? dividir(interna) : null;
+    }
+
+    private Folha dividir(Folha folha) {
+        Folha direita = new Folha(ordem);
+        int ficam = folha.quantidade / 2;
+        direita.quantidade = folha.quantidade - ficam;
+        System.arraycopy(folha.chaves, ficam, direita.chaves, 0, direita.quantidade);
+        folha.quantidade = ficam;
+        direita.proxima = folha.proxima;
+        folha.proxima = direita;
+        separador = direita.chaves[0];
+        return direita;
+    }
+
+    /**
+     * Divide uma página interna com {@code ordem} chaves: a do meio
+     * sobe como separador e as seguintes vão para a nova página.
+     */
+    private Interna dividir(Interna interna) {
+        Interna direita = new Interna(ordem);
+        int meio = interna.quantidade / 2;
+        separador = interna.chaves[meio];
+        direita.quantidade = interna.quantidade - meio - 1;
+        System.arraycopy(interna.chaves, meio + 1, direita.chaves, 0, direita.quantidade);
+        System.arraycopy(interna.filhos, meio + 1, direita.filhos, 0, direita.quantidade + 1);
+        Arrays.fill(interna.filhos, meio + 1, interna.quantidade + 1, null);
+        interna.quantidade = meio;
+        return direita;
+    }
+
+    /**
+     * Remove da sub‑árvore. Separadores de valores removidos podem
+     * permanecer nas páginas internas: continuam delimitando
+     * corretamente as sub‑árvores.
+     */
+    private void remover(Pagina pagina, int valor) {
+        if (pagina instanceof Folha) {
+            int posicao = menores(pagina, valor);
+            if (posicao < pagina.quantidade && pagina.chaves[posicao] == valor) {
+                removerEm(pagina.chaves, pagina.quantidade, posicao);
+                pagina.quantidade--;
+                alterou = true;
+            }
+            return;
+        }
+        Interna interna = (Interna) pagina;
+        int indice = menoresOuIguais(interna, valor);
+        Pagina filho = interna.filhos[indice];
+        remover(filho, valor);
+        if (alterou && filho.quantidade < (filho instanceof Folha ? minimoFolha : minimoInterna)) {
+            corrigirFilho(interna, indice);
+        }
+    }
+
+    /**
+     * Repõe a ocupação mínima do filho {@code indice}: empresta uma
+     * chave da irmã esquerda ou direita, se ela puder ceder, ou funde
+     * o filho com uma delas.
+     */
+    private void corrigirFilho(Interna pai, int indice) {
+        if (indice > 0 && podeCeder(pai.filhos[indice - 1])) {
+            emprestarDaEsquerda(pai, indice);
+        } else if (indice < pai.quantidade && podeCeder(pai.filhos[indice + 1])) {
+            emprestarDaDireita(pai, indice);
+        } else if (indice > 0) {
+            fundir(pai, indice - 1);
+        } else {
+            fundir(pai, indice);
+        }
+    }
+
+    private boolean podeCeder(Pagina pagina) {
+        return pagina.quantidade > (pagina instanceof Folha ? minimoFolha : minimoInterna);
+    }
+
+    private void emprestarDaEsquerda(Interna pai, int indice) {
+        Pagina esquerda = pai.filhos[indice - 1];
+        Pagina filho = pai.filhos[indice];
+        if (filho instanceof Folha) {
+            inserirEm(filho.chaves, filho.quantidade, 0, esquerda.chaves[esquerda.quantidade - 1]);
+            pai.chaves[indice - 1] = filho.chaves[0];
+        } else {
+            Interna internaEsquerda = (Interna) esquerda;
+            Interna internaFilho = (Interna) filho;
+            inserirEm(filho.chaves, filho.quantidade, 0, pai.chaves[indice - 1]);
+            inserirEm(internaFilho.filhos, filho.quantidade + 1, 0, internaEsquerda.filhos[esquerda.quantidade]);
+            pai.chaves[indice - 1] = esquerda.chaves[esquerda.quantidade - 1];
+            internaEsquerda.filhos[esquerda.quantidade] = null;
+        }
+        filho.quantidade++;
+        esquerda.quantidade--;
+    }
+
+    private void emprestarDaDireita(Interna pai, int indice) {
+        Pagina filho = pai.filhos[indice];
+        Pagina direita = pai.filhos[indice + 1];
+        if (filho instanceof Folha) {
+            filho.chaves[filho.quantidade] = direita.chaves[0];
+            removerEm(direita.chaves, direita.quantidade, 0);
+            pai.chaves[indice] = direita.chaves[0];
+        } else {
+            Interna internaFilho = (Interna) filho;
+            Interna internaDireita = (Interna) direita;
+            filho.chaves[filho.quantidade] = pai.chaves[indice];
+            internaFilho.filhos[filho.quantidade + 1] = internaDireita.filhos[0];
+            pai.chaves[indice] = direita.chaves[0];
+            removerEm(direita.chaves, direita.quantidade, 0);
+            removerEm(internaDireita.filhos, direita.quantidade + 1, 0);
+        }
+        filho.quantidade++;
+        direita.quantidade--;
+    }
+
+    /**
+     * Funde o filho {@code indice + 1} no filho {@code indice} e
+     * retira o separador entre eles do pai.
+     */
+    private void fundir(Interna pai, int indice) {
+        Pagina esquerda = pai.filhos[indice];
+        Pagina direita = pai.filhos[indice + 1];
+        if (esquerda instanceof Folha) {
+            System.arraycopy(direita.chaves, 0, esquerda.chaves, esquerda.quantidade, direita.quantidade);
+            esquerda.quantidade += direita.quantidade;
+            ((Folha) esquerda).proxima = ((Folha) direita).proxima;
+        } else {
+            Interna internaEsquerda = (Interna) esquerda;
+            esquerda.chaves[esquerda.quantidade] = pai.chaves[indice];
+            System.arraycopy(direita.chaves, 0, esquerda.chaves, esquerda.quantidade + 1, direita.quantidade);
+            System.arraycopy(((Interna) direita).filhos, 0, internaEsquerda.filhos,
+                    esquerda.quantidade + 1, direita.quantidade + 1);
+            esquerda.quantidade += direita.quantidade + 1;
+        }
+        removerEm(pai.chaves, pai.quantidade, indice);
+        removerEm(pai.filhos, pai.quantidade + 1, indice + 1);
+        pai.quantidade--;
+    }
+
+    private static void inserirEm(int[] vetor, int quantidade, int posicao, int valor) {
+        System.arraycopy(vetor, posicao, vetor, posicao + 1, quantidade - posicao);
+        vetor[posicao] = valor;
+    }
+
+    private static void inserirEm(Pagina[] vetor, int quantidade, int posicao, Pagina valor) {
+        System.arraycopy(vetor, posicao, vetor, posicao + 1, quantidade - posicao);
+        vetor[posicao] = valor;
+    }
+
+    private static void removerEm(int[] vetor, int quantidade, int posicao) {
+        System.arraycopy(vetor, posicao + 1, vetor, posicao, quantidade - posicao - 1);
+    }
+
+    private static void removerEm(Pagina[] vetor, int quantidade, int posicao) {
+        System.arraycopy(vetor, posicao + 1, vetor, posicao, quantidade - posicao - 1);
+        vetor[quantidade - 1] = null;
+    }
+}
@@ -1,5 +1,13 @@
 package model;
 
+import interfaces.ArvoreComAltura;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 /**
  * Implementação básica de uma árvore binária de busca (ABB).
  *
@@ -7,21 +15,49 @@ package model;
  * qualquer mecanismo de balanceamento. Ela serve de base para
  * estruturas como as árvores AVL. Os valores duplicados não são
  * inseridos novamente.
+ *
+ * As operações são iterativas: os ancestrais visitados ficam em uma
+ * pilha explícita reutilizada, de modo que uma ABB degenerada por
+ * entradas ordenadas não estoura a pilha de chamadas.
  */
-public class ArvoreBinariaBusca {
+public class ArvoreBinariaBusca implements ArvoreComAltura {
     /** Nó raiz da árvore. Protegido para permitir acesso pelas
      * subclasses. */
     protected No raiz;
 
+    /** Capacidade inicial da pilha de ancestrais; basta para qualquer
+     * AVL e só cresce quando a ABB degenera. */
+    private static final int CAPACIDADE_CAMINHO = 64;
+
+    /** Pilha de ancestrais reutilizada por inserção e remoção. */
+    private No[] caminho = new No[CAPACIDADE_CAMINHO];
+
+    /** Métricas de operação, ou {@code null} enquanto desabilitadas. */
+    private MetricasArvore metricas;
+
+    /** Filtro de valores ausentes, ou {@code null} enquanto desabilitado. */
+    private FiltroNegativo filtro;
+
+    /**
+     * Contagem de modificações estruturais, usada pelos cursores para
+     * saber que o caminho guardado deixou de valer.
+     */
+    int modificacoes;
+
     /**
      * Insere um valor na árvore. Se a árvore estiver vazia, o novo
      * nó torna‑se a raiz. Caso contrário, a inserção é feita
-     * recursivamente respeitando a ordenação da ABB.
+     * iterativamente respeitando a ordenação da ABB.
      *
      * @param valor valor inteiro a ser inserido
      */
     public void inserir(int valor) {
-        raiz = inserir(raiz, valor);
+        long inicio = iniciarMedicao();
+        int topo = inserirFolha(valor);
+        if (topo > 0) {
+            reajustarCaminho(topo, true, 1);
+        }
+        concluirMedicao(MetricasArvore.Operacao.INSERCAO, inicio);
     }
 
     /**
@@ -32,7 +68,12 @@ public class ArvoreBinariaBusca {
      * @param valor valor a ser removido
      */
     public void remover(int valor) {
-        raiz = remover(raiz, valor);
+        long inicio = iniciarMedicao();
+        int topo = removerNo(valor);
+        if (topo > 0) {
+            reajustarCaminho(topo, false, -1);
+        }
+        concluirMedicao(MetricasArvore.Operacao.REMOCAO, inicio);
     }
 
     /**
@@ -42,87 +83,675 @@ public class ArvoreBinariaBusca {
      * @return {@code true} se existir, {@code false} caso contrário
      */
     public boolean contem(int valor) {
-        return buscar(raiz, valor) != null;
+        if (metricas != null) {
+            return contemMedindo(valor);
+        }
+        if (filtro != null && !filtro.talvezContenha(valor)) {
+            return false;
+        }
+        return buscar(valor) != null;
+    }
+
+    /**
+     * Coloca um {@link FiltroNegativo} na frente de {@link #contem(int)},
+     * montado com os valores atuais. Daí em diante, a maioria das
+     * consultas por valores ausentes é respondida pelo filtro, sem
+     * percorrer a árvore; inserções e remoções passam a atualizá‑lo,
+     * a um custo de algumas dezenas de nanossegundos, mais as
+     * reconstruções ao crescer, amortizadas. Os lotes da AVL o
+     * atualizam só com os valores alterados; {@code split},
+     * {@code join} e as operações de conjunto o reconstroem em O(n).
+     * Chamadas seguintes não fazem nada.
+     */
+    public void habilitarFiltro() {
+        if (filtro == null) {
+            reconstruirFiltro(tamanho());
+        }
+    }
+
+    /**
+     * Retira o filtro de valores ausentes, se houver.
+     */
+    public void desabilitarFiltro() {
+        filtro = null;
+    }
+
+    /**
+     * Retorna o filtro de valores ausentes, para consultar a ocupação,
+     * a memória e a taxa de falsos positivos esperada. O filtro é
+     * substituído quando a árvore o reconstrói.
+     *
+     * @return filtro atual, ou {@code null} se desabilitado
+     */
+    public FiltroNegativo filtroNegativo() {
+        return filtro;
+    }
+
+    /**
+     * Passa a medir as operações desta árvore e retorna os contadores.
+     * Chamadas seguintes retornam os mesmos contadores. Sem esta
+     * chamada, as operações não pagam nada além de um teste de
+     * referência nula.
+     *
+     * @return métricas da árvore
+     */
+    public MetricasArvore habilitarMetricas() {
+        if (metricas == null) {
+            metricas = new MetricasArvore(this);
+        }
+        return metricas;
+    }
+
+    /**
+     * Retorna uma cópia das métricas atuais.
+     *
+     * @return retrato das métricas
+     * @throws IllegalStateException se as métricas não foram habilitadas
+     */
+    public RetratoMetricas snapshotMetricas() {
+        if (metricas == null) {
+            throw new IllegalStateException("Métricas não habilitadas; use habilitarMetricas()");
+        }
+        return metricas.retrato();
+    }
+
+    /**
+     * Retorna a altura da árvore: 0 se vazia, 1 se houver só a raiz.
+     *
+     * @return altura da árvore
+     */
+    @Override
+    public int altura() {
+        return altura(raiz);
+    }
+
+    /**
+     * Retorna o número de valores armazenados na árvore.
+     *
+     * @return quantidade de valores
+     */
+    public int tamanho() {
+        return tamanho(raiz);
+    }
+
+    /**
+     * Conta quantos valores da árvore são estritamente menores que
+     * {@code valor}, em tempo proporcional à altura.
+     *
+     * @param valor valor de referência, presente ou não na árvore
+     * @return posição que {@code valor} ocupa ou ocuparia na ordem
+     */
+    public int rank(int valor) {
+        int menores = 0;
+        No corrente = raiz;
+        while (corrente != null) {
+            if (valor <= corrente.valor) {
+                corrente = corrente.esquerda;
+            } else {
+                menores += tamanho(corrente.esquerda) + 1;
+                corrente = corrente.direita;
+            }
+        }
+        return menores;
+    }
+
+    /**
+     * Retorna o valor que ocupa a posição {@code posicao} na ordem
+     * crescente, contando a partir de 0, em tempo proporcional à
+     * altura. Para valores presentes, {@code select(rank(v)) == v}.
+     *
+     * @param posicao posição desejada, entre 0 e {@code tamanho() - 1}
+     * @return valor na posição
+     * @throws IndexOutOfBoundsException se a posição não existir
+     */
+    public int select(int posicao) {
+        if (posicao < 0 || posicao >= tamanho()) {
+            throw new IndexOutOfBoundsException("Posição " + posicao + " fora de [0, " + tamanho() + ")");
+        }
+        No corrente = raiz;
+        while (true) {
+            int tamanhoEsquerda = tamanho(corrente.esquerda);
+            if (posicao < tamanhoEsquerda) {
+                corrente = corrente.esquerda;
+            } else if (posicao > tamanhoEsquerda) {
+                posicao -= tamanhoEsquerda + 1;
+                corrente = corrente.direita;
+            } else {
+                return corrente.valor;
+            }
+        }
+    }
+
+    /**
+     * Conta os valores no intervalo fechado {@code [de, ate]} em tempo
+     * proporcional à altura.
+     *
+     * @param de  limite inferior, inclusivo
+     * @param ate limite superior, inclusivo
+     * @return quantidade de valores no intervalo, 0 se {@code de > ate}
+     */
+    public int contarIntervalo(int de, int ate) {
+        if (de > ate) {
+            return 0;
+        }
+        return contarMenoresOuIguais(ate) - rank(de);
+    }
+
+    /**
+     * Entrega todos os valores da árvore, em ordem crescente, ao
+     * consumidor informado.
+     *
+     * @param acao consumidor dos valores
+     */
+    public void forEach(IntConsumer acao) {
+        intervalo(Integer.MIN_VALUE, Integer.MAX_VALUE, acao);
+    }
+
+    /**
+     * Entrega, em ordem crescente, os valores do intervalo fechado
+     * {@code [de, ate]}. O percurso desce apenas pelos ramos que podem
+     * conter valores do intervalo, sem criar objetos por valor (veja
+     * {@link #percorrer(int, int, Consumer)}).
+     *
+     * @param de   limite inferior, inclusivo
+     * @param ate  limite superior, inclusivo
+     * @param acao consumidor dos valores
+     */
+    public void intervalo(int de, int ate, IntConsumer acao) {
+        percorrer(de, ate, no -> acao.accept(no.valor));
+    }
+
+    /**
+     * Retorna um fluxo ordenado com os valores da árvore. O fluxo é
+     * sustentado por um spliterator que se divide nas raízes das
+     * sub‑árvores, de modo que {@code stream().parallel()} reparte o
+     * percurso entre vários núcleos. A árvore não deve ser modificada
+     * enquanto o fluxo é consumido.
+     *
+     * @return fluxo de valores em ordem crescente
+     */
+    public IntStream stream() {
+        return StreamSupport.intStream(new SpliteratorArvore(raiz), false);
+    }
+
+    /**
+     * Cria um cursor posicionado antes do primeiro valor. Buscas pelo
+     * cursor partem da última posição visitada, e não da raiz, o que
+     * favorece acessos próximos ao anterior.
+     *
+     * @return novo cursor sobre esta árvore
+     */
+    public CursorArvore cursor() {
+        return new CursorArvore(this);
     }
 
     // ---------------- Métodos auxiliares ------------------
 
     /**
-     * Insere recursivamente um valor na sub‑árvore enraizada em
-     * {@code noAtual} e retorna a nova sub‑árvore. Atualiza a altura
-     * de cada nó no caminho.
+     * Retorna as métricas habilitadas, ou {@code null}.
      */
-    private No inserir(No noAtual, int valor) {
-        if (noAtual == null) {
-            return new No(valor);
+    protected final MetricasArvore metricas() {
+        return metricas;
+    }
+
+    /**
+     * Marca o início de uma operação medida.
+     *
+     * @return instante atual em nanossegundos, ou 0 sem métricas
+     */
+    protected final long iniciarMedicao() {
+        return metricas != null ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Registra a latência de uma operação iniciada por
+     * {@link #iniciarMedicao()}, se as métricas estiverem habilitadas.
+     */
+    protected final void concluirMedicao(MetricasArvore.Operacao operacao, long inicio) {
+        if (metricas != null) {
+            metricas.registrarLatencia(operacao, System.nanoTime() - inicio);
         }
-        if (valor < noAtual.valor) {
-            noAtual.esquerda = inserir(noAtual.esquerda, valor);
-        } else if (valor > noAtual.valor) {
-            noAtual.direita = inserir(noAtual.direita, valor);
-        } else {
-            // valor duplicado; não insere novamente
-            return noAtual;
+    }
+
+    /**
+     * Busca contando os nós visitados (uma comparação de chave por
+     * nó) e registrando a latência.
+     */
+    private boolean contemMedindo(int valor) {
+        long inicio = System.nanoTime();
+        if (filtro != null && !filtro.talvezContenha(valor)) {
+            metricas.registrarDescarteFiltro();
+            metricas.registrarBusca(0);
+            metricas.registrarLatencia(MetricasArvore.Operacao.BUSCA, System.nanoTime() - inicio);
+            return false;
         }
-        // Atualiza altura considerando alturas dos filhos
-        noAtual.altura = 1 + Math.max(altura(noAtual.esquerda), altura(noAtual.direita));
-        return noAtual;
+        int comparacoes = 0;
+        No corrente = raiz;
+        while (corrente != null) {
+            comparacoes++;
+            if (corrente.valor == valor) {
+                break;
+            }
+            corrente = valor < corrente.valor ? corrente.esquerda : corrente.direita;
+        }
+        if (filtro != null && corrente == null) {
+            metricas.registrarFalsoPositivoFiltro();
+        }
+        metricas.registrarBusca(comparacoes);
+        metricas.registrarLatencia(MetricasArvore.Operacao.BUSCA, System.nanoTime() - inicio);
+        return corrente != null;
     }
 
     /**
-     * Remove recursivamente um valor na sub‑árvore enraizada em
-     * {@code noAtual} e retorna a nova sub‑árvore. Atualiza a altura
-     * conforme necessário.
+     * Registra uma modificação que não passou por
+     * {@link #inserirFolha(int)} nem {@link #removerNo(int)} e que
+     * trocou valores com outra árvore, como split e join: invalida os
+     * cursores e reconstrói o filtro.
      */
-    private No remover(No noAtual, int valor) {
-        if (noAtual == null) {
-            return null;
+    final void alteradaEmLote() {
+        modificacoes++;
+        if (filtro != null) {
+            reconstruirFiltro(tamanho());
         }
-        if (valor < noAtual.valor) {
-            noAtual.esquerda = remover(noAtual.esquerda, valor);
-        } else if (valor > noAtual.valor) {
-            noAtual.direita = remover(noAtual.direita, valor);
+    }
+
+    /**
+     * Registra um lote de valores já ligados ou desligados: invalida os
+     * cursores e atualiza o filtro apenas com esses valores, em
+     * O(quantidade) em vez de percorrer a árvore.
+     *
+     * @param valores    valores alterados em {@code [0, quantidade)}
+     * @param quantidade quantidade de valores alterados
+     * @param inseridos  {@code true} se os valores entraram na árvore
+     */
+    final void alteradaEmLote(int[] valores, int quantidade, boolean inseridos) {
+        modificacoes++;
+        if (filtro == null) {
+            return;
+        }
+        if (!inseridos) {
+            for (int i = 0; i < quantidade; i++) {
+                filtro.remover(valores[i]);
+            }
+            if (filtro.ociosoDemais()) {
+                reconstruirFiltro(filtro.tamanho());
+            }
+            return;
+        }
+        for (int i = 0; i < quantidade; i++) {
+            if (!filtro.inserir(valores[i])) {
+                // A árvore já tem o lote inteiro, que entra na reconstrução
+                reconstruirFiltro(tamanho());
+                return;
+            }
+        }
+    }
+
+    /** Acrescenta ao filtro um valor recém‑ligado, dobrando‑o se estiver cheio. */
+    private void anotarInsercao(int valor) {
+        if (filtro != null && !filtro.inserir(valor)) {
+            // paraValores reserva o dobro do pedido: metade da capacidade
+            // atual resulta exatamente no dobro dos baldes
+            reconstruirFiltro(filtro.capacidade() / 2);
+        }
+    }
+
+    /** Retira do filtro um valor recém‑desligado, encolhendo‑o se ficar ocioso. */
+    private void anotarRemocao(int valor) {
+        if (filtro != null) {
+            filtro.remover(valor);
+            if (filtro.ociosoDemais()) {
+                reconstruirFiltro(filtro.tamanho());
+            }
+        }
+    }
+
+    /**
+     * Monta um filtro novo com os valores da árvore, dimensionado para
+     * {@code valores}. Se algum valor não couber, o que só acontece
+     * com muito azar abaixo de metade da ocupação, tenta com o dobro.
+     */
+    private void reconstruirFiltro(int valores) {
+        int dimensao = valores;
+        while (true) {
+            FiltroNegativo novo = FiltroNegativo.paraValores(dimensao);
+            boolean[] cheio = new boolean[1];
+            percorrer(Integer.MIN_VALUE, Integer.MAX_VALUE, no -> {
+                if (!cheio[0] && !novo.inserir(no.valor)) {
+                    cheio[0] = true;
+                }
+            });
+            if (!cheio[0]) {
+                filtro = novo;
+                return;
+            }
+            dimensao = Math.max(2 * dimensao, 1);
+        }
+    }
+
+    /**
+     * Percorre em ordem os nós com valores no intervalo fechado
+     * {@code [de, ate]}. O percurso desce apenas pelos ramos que podem
+     * conter valores do intervalo e usa uma pilha explícita própria da
+     * chamada, de modo que não altera o estado da árvore: leitores
+     * concorrentes sob uma trava de leitura e percursos aninhados
+     * (iniciados pelo próprio consumidor) não interferem entre si.
+     *
+     * @param de   limite inferior, inclusivo
+     * @param ate  limite superior, inclusivo
+     * @param acao consumidor dos nós
+     */
+    protected final void percorrer(int de, int ate, Consumer<No> acao) {
+        if (de > ate) {
+            return;
+        }
+        No[] pilha = new No[CAPACIDADE_CAMINHO];
+        int topo = 0;
+        No corrente = raiz;
+        while (true) {
+            while (corrente != null) {
+                if (corrente.valor < de) {
+                    corrente = corrente.direita;
+                } else {
+                    if (topo == pilha.length) {
+                        pilha = Arrays.copyOf(pilha, topo * 2);
+                    }
+                    pilha[topo++] = corrente;
+                    corrente = corrente.esquerda;
+                }
+            }
+            if (topo == 0) {
+                break;
+            }
+            No no = pilha[--topo];
+            if (no.valor > ate) {
+                break;
+            }
+            acao.accept(no);
+            corrente = no.direita;
+        }
+    }
+
+    /**
+     * Conta quantos valores da árvore são menores ou iguais a
+     * {@code valor}.
+     */
+    private int contarMenoresOuIguais(int valor) {
+        int contagem = 0;
+        No corrente = raiz;
+        while (corrente != null) {
+            if (valor < corrente.valor) {
+                corrente = corrente.esquerda;
+            } else {
+                contagem += tamanho(corrente.esquerda) + 1;
+                corrente = corrente.direita;
+            }
+        }
+        return contagem;
+    }
+
+    /**
+     * Desce a partir da raiz até a posição do valor, empilhando os
+     * ancestrais em {@link #caminho}, e liga um novo nó folha.
+     *
+     * @param valor valor a ser inserido
+     * @return quantidade de ancestrais empilhados (0 se o nó virou a
+     *         raiz) ou −1 se o valor já existia
+     */
+    protected final int inserirFolha(int valor) {
+        int topo = inserirOuLocalizar(valor);
+        return topo >= 0 ? topo : -1;
+    }
+
+    /**
+     * Como {@link #inserirFolha(int)}, mas guarda logo acima dos
+     * ancestrais o nó do valor, criado ou já existente, para que
+     * {@link #noLocalizado(int)} o devolva sem uma segunda descida.
+     *
+     * @param valor valor a ser inserido ou localizado
+     * @return quantidade de ancestrais empilhados se o nó foi criado,
+     *         ou {@code −1 − quantidade} se o valor já existia
+     */
+    protected final int inserirOuLocalizar(int valor) {
+        if (raiz == null) {
+            raiz = criarNo(valor);
+            return ligado(0, raiz);
+        }
+        int topo = 0;
+        No corrente = raiz;
+        while (true) {
+            empilhar(topo++, corrente);
+            if (valor < corrente.valor) {
+                if (corrente.esquerda == null) {
+                    corrente.esquerda = criarNo(valor);
+                    return ligado(topo, corrente.esquerda);
+                }
+                corrente = corrente.esquerda;
+            } else if (valor > corrente.valor) {
+                if (corrente.direita == null) {
+                    corrente.direita = criarNo(valor);
+                    return ligado(topo, corrente.direita);
+                }
+                corrente = corrente.direita;
+            } else {
+                // valor já existente, que fica no topo do caminho
+                return -topo;
+            }
+        }
+    }
+
+    /**
+     * Nó do valor tratado pela última chamada de
+     * {@link #inserirOuLocalizar(int)}, antes de qualquer rebalanceamento
+     * do caminho.
+     *
+     * @param topo retorno de {@link #inserirOuLocalizar(int)}
+     * @return nó criado ou já existente
+     */
+    protected final No noLocalizado(int topo) {
+        return caminho[topo >= 0 ? topo : -1 - topo];
+    }
+
+    /**
+     * Desliga da árvore o nó que contém {@code valor}, empilhando em
+     * {@link #caminho} os ancestrais cujas alturas podem ter mudado.
+     * No caso de dois filhos, o nó recebe o valor do sucessor, que é
+     * desligado na mesma descida.
+     *
+     * @param valor valor a ser removido
+     * @return quantidade de ancestrais empilhados ou −1 se o valor não
+     *         existia
+     */
+    protected final int removerNo(int valor) {
+        int topo = 0;
+        No corrente = raiz;
+        while (corrente != null && corrente.valor != valor) {
+            empilhar(topo++, corrente);
+            corrente = valor < corrente.valor ? corrente.esquerda : corrente.direita;
+        }
+        if (corrente == null) {
+            return -1;
+        }
+        modificacoes++;
+        if (corrente.esquerda != null && corrente.direita != null) {
+            // Dois filhos: substituir pelo menor valor da sub‑árvore direita
+            empilhar(topo++, corrente);
+            No sucessor = corrente.direita;
+            while (sucessor.esquerda != null) {
+                empilhar(topo++, sucessor);
+                sucessor = sucessor.esquerda;
+            }
+            corrente.valor = sucessor.valor;
+            copiarCarga(corrente, sucessor);
+            substituirFilho(caminho[topo - 1], sucessor, sucessor.direita);
         } else {
-            // Encontrou o nó a remover
-            if (noAtual.esquerda == null) {
-                return noAtual.direita;
-            } else if (noAtual.direita == null) {
-                return noAtual.esquerda;
+            No filho = corrente.esquerda != null ? corrente.esquerda : corrente.direita;
+            if (topo == 0) {
+                raiz = filho;
             } else {
-                // Dois filhos: substituir pelo menor valor da sub‑árvore direita
-                No sucessor = minimo(noAtual.direita);
-                noAtual.valor = sucessor.valor;
-                noAtual.direita = remover(noAtual.direita, sucessor.valor);
+                substituirFilho(caminho[topo - 1], corrente, filho);
             }
         }
-        // Atualiza altura
-        noAtual.altura = 1 + Math.max(altura(noAtual.esquerda), altura(noAtual.direita));
+        anotarRemocao(valor);
+        return topo;
+    }
+
+    /**
+     * Sobe pela pilha de ancestrais atualizando alturas e, quando
+     * {@code balancear} for verdadeiro, aplicando {@link #balancear(No)}
+     * a cada nó. Assim que uma sub‑árvore mantém a altura que tinha
+     * antes da operação, nenhum ancestral acima dela pode precisar de
+     * rotação: resta apenas somar {@code variacaoTamanho} aos tamanhos
+     * dos ancestrais restantes.
+     *
+     * @param topo            quantidade de ancestrais empilhados
+     * @param balancear       se as rotações devem ser aplicadas
+     * @param variacaoTamanho +1 após inserção, −1 após remoção
+     */
+    protected final void reajustarCaminho(int topo, boolean balancear, int variacaoTamanho) {
+        for (int i = topo - 1; i >= 0; i--) {
+            No noAtual = caminho[i];
+            int alturaAnterior = noAtual.altura;
+            atualizarNo(noAtual);
+            No novaRaiz = balancear ? balancear(noAtual) : noAtual;
+            if (novaRaiz != noAtual) {
+                if (i == 0) {
+                    raiz = novaRaiz;
+                } else {
+                    substituirFilho(caminho[i - 1], noAtual, novaRaiz);
+                }
+                subarvoreReestruturada(novaRaiz);
+            }
+            if (novaRaiz.altura == alturaAnterior) {
+                for (int j = i - 1; j >= 0; j--) {
+                    caminho[j].tamanho += variacaoTamanho;
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Ponto de extensão para estruturas balanceadas. Recebe um nó com
+     * a altura já atualizada e retorna a nova raiz da sub‑árvore. Na
+     * ABB simples nenhuma rotação é feita.
+     *
+     * @param noAtual nó possivelmente desbalanceado
+     * @return nova raiz da sub‑árvore
+     */
+    protected No balancear(No noAtual) {
         return noAtual;
     }
 
     /**
-     * Busca recursivamente um valor na sub‑árvore enraizada em
-     * {@code noAtual}. Retorna o nó correspondente ou {@code null}
-     * se não encontrado.
+     * Chamado depois que a sub‑árvore reestruturada por
+     * {@link #balancear(No)} foi religada ao seu pai, permitindo que
+     * subclasses desenhem a árvore já consistente.
+     *
+     * @param novaRaiz nova raiz da sub‑árvore
+     */
+    protected void subarvoreReestruturada(No novaRaiz) {
+    }
+
+    /**
+     * Cria o nó que guardará um valor recém‑inserido. Subclasses que
+     * associam dados aos valores retornam um nó especializado.
+     *
+     * @param valor valor do novo nó
+     * @return nó folha com o valor
+     */
+    protected No criarNo(int valor) {
+        return new No(valor);
+    }
+
+    /**
+     * Chamado quando a remoção de um nó com dois filhos copia para ele
+     * o valor do sucessor, para que subclasses copiem também os dados
+     * associados. Na ABB simples não há o que copiar.
+     *
+     * @param destino nó que recebeu o valor
+     * @param origem  sucessor que será desligado
      */
-    private No buscar(No noAtual, int valor) {
-        if (noAtual == null) return null;
-        if (valor == noAtual.valor) return noAtual;
-        if (valor < noAtual.valor) return buscar(noAtual.esquerda, valor);
-        return buscar(noAtual.direita, valor);
+    protected void copiarCarga(No destino, No origem) {
     }
 
     /**
-     * Retorna o nó de menor valor em uma sub‑árvore (extremo esquerdo).
+     * Busca iterativamente um valor a partir da raiz. Retorna o nó
+     * correspondente ou {@code null} se não encontrado.
      */
-    private No minimo(No noAtual) {
-        No corrente = noAtual;
-        while (corrente.esquerda != null) {
-            corrente = corrente.esquerda;
+    protected final No buscar(int valor) {
+        No corrente = raiz;
+        while (corrente != null && corrente.valor != valor) {
+            corrente = valor < corrente.valor ? corrente.esquerda : corrente.direita;
         }
         return corrente;
     }
 
+    /**
+     * Monta uma sub‑árvore de altura mínima com os valores
+     * {@code valores[de..ate)}, já ordenados e sem repetição. Cada
+     * valor é visitado uma única vez, portanto o custo é linear.
+     *
+     * @return raiz da sub‑árvore ou {@code null} se o intervalo for vazio
+     */
+    protected final No construirBalanceada(int[] valores, int de, int ate) {
+        if (de >= ate) {
+            return null;
+        }
+        int meio = (de + ate) >>> 1;
+        No no = criarNo(valores[meio]);
+        no.esquerda = construirBalanceada(valores, de, meio);
+        no.direita = construirBalanceada(valores, meio + 1, ate);
+        atualizarNo(no);
+        return no;
+    }
+
+    /**
+     * Troca a referência de {@code pai} para o filho {@code antigo}
+     * pelo nó {@code novo}.
+     */
+    private void substituirFilho(No pai, No antigo, No novo) {
+        if (pai.esquerda == antigo) {
+            pai.esquerda = novo;
+        } else {
+            pai.direita = novo;
+        }
+    }
+
+    /** Conta a folha recém‑ligada e a guarda acima dos ancestrais. */
+    private int ligado(int topo, No folha) {
+        modificacoes++;
+        anotarInsercao(folha.valor);
+        empilhar(topo, folha);
+        return topo;
+    }
+
+    /**
+     * Grava um ancestral na pilha, dobrando sua capacidade quando a
+     * ABB degenera além da altura prevista.
+     */
+    private void empilhar(int posicao, No no) {
+        if (posicao == caminho.length) {
+            caminho = Arrays.copyOf(caminho, caminho.length * 2);
+        }
+        caminho[posicao] = no;
+    }
+
+    /**
+     * Recalcula a altura e o tamanho de um nó a partir dos filhos.
+     */
+    protected final void atualizarNo(No no) {
+        no.altura = 1 + Math.max(altura(no.esquerda), altura(no.direita));
+        no.tamanho = 1 + tamanho(no.esquerda) + tamanho(no.direita);
+    }
+
+    /**
+     * Obtém o número de nós de uma sub‑árvore, considerando nulo como 0.
+     */
+    protected static int tamanho(No no) {
+        return (no == null) ? 0 : no.tamanho;
+    }
+
     /**
      * Obtém a altura de um nó, considerando nulo como 0.
      */
@@ -0,0 +1,639 @@
+package model;
+
+import interfaces.ArvoreBalanceada;
+import interfaces.ArvoreComAltura;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Árvore AVL cujas modificações sobrevivem a uma queda do processo.
+ *
+ * O estado fica em um diretório com instantâneos
+ * ({@code instantaneo-G.avl}, ver {@link ArquivoArvore}) e arquivos de
+ * registro antecipado ({@code registro-G.log}), numerados por geração.
+ * O instantâneo da geração G e os registros a partir de G reconstroem
+ * a árvore. Cada {@link #inserir(int)} ou {@link #remover(int)}
+ * acrescenta um registro de 16 bytes e só retorna depois de o registro
+ * ser sincronizado com o disco. A alteração só chega à árvore, e às
+ * consultas, após essa sincronização; até lá ela fica em um mapa de
+ * pendências, que os escritores consultam para decidir se a operação
+ * altera o conteúdo. Assim, nenhuma leitura vê uma modificação que uma
+ * queda poderia perder.
+ *
+ * As sincronizações são agrupadas: a primeira thread à espera grava e
+ * sincroniza, de uma só vez, até {@code lote} registros pendentes,
+ * enquanto as demais aguardam. Se houver outros escritores em
+ * andamento, ela espera antes até {@code janela} ou até juntar o lote.
+ * Com janela zero e lote 1, cada operação tem a sua própria
+ * sincronização.
+ *
+ * Ao abrir, o último instantâneo é carregado e os registros seguintes
+ * são reaplicados. Quando um arquivo de registro se enche, e também
+ * logo após a abertura, uma nova geração é iniciada e uma thread em
+ * segundo plano grava o instantâneo correspondente e apaga os arquivos
+ * anteriores. Como cada operação apenas define a presença de uma
+ * chave, reaplicar um registro sobre um instantâneo que já o contém
+ * não altera o resultado. Consultas e modificações são serializadas
+ * por uma única trava; os valores duplicados não são inseridos
+ * novamente. Depois de uma falha de gravação, as modificações ainda
+ * não confirmadas nunca chegam à árvore e todas as seguintes são
+ * recusadas. A primeira falha de uma compactação é guardada e lançada
+ * pela próxima modificação ou por {@link #close()}.
+ */
+public class ArvoreDuravel implements ArvoreBalanceada, ArvoreComAltura, AutoCloseable {
+    /** Janela de agrupamento padrão, em nanossegundos. */
+    public static final long JANELA_PADRAO = TimeUnit.MILLISECONDS.toNanos(1);
+    /** Máximo de registros por sincronização. */
+    public static final int LOTE_PADRAO = 256;
+    /** Registros por arquivo antes de iniciar uma nova geração. */
+    public static final int CAPACIDADE_PADRAO = 1 << 20;
+
+    private static final Pattern NOME_ARQUIVO = Pattern.compile("(instantaneo|registro)-(\\d+)\\.(avl|log)");
+
+    private final Path diretorio;
+    private final long janelaNanos;
+    private final int lote;
+    private final int capacidade;
+    private final ArvoreAVL arvore;
+
+    private final ReentrantLock trava = new ReentrantLock();
+    /** Sinalizada quando há registros pendentes suficientes para um lote. */
+    private final Condition loteCompleto = trava.newCondition();
+    /** Sinalizada ao fim de cada gravação. */
+    private final Condition gravacaoConcluida = trava.newCondition();
+    /** Escritores entre o início da operação e a confirmação. */
+    private final AtomicInteger escritoresAtivos = new AtomicInteger();
+    private final ExecutorService compactador = Executors.newSingleThreadExecutor(tarefa -> {
+        Thread thread = new Thread(tarefa, "compactador-arvore");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * Faz a gravação e a sincronização do registro. Um
+     * {@link java.nio.channels.FileChannel} se fecha quando a thread
+     * que o usa é interrompida; esta thread nunca é, então interromper
+     * um escritor não inutiliza o registro.
+     */
+    private final ExecutorService gravador = Executors.newSingleThreadExecutor(tarefa -> {
+        Thread thread = new Thread(tarefa, "gravador-registro");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Pares tipo e valor ainda não gravados; protegidos pela trava. */
+    private int[] pendentes = new int[2 * 64];
+    private int quantidadePendente;
+    private int[] reserva = new int[2 * 64];
+    /** Última operação ainda não aplicada à árvore, por valor. */
+    private final Map<Integer, Pendencia> pendencias = new HashMap<>();
+    private long registrados;
+    private long duraveis;
+    /** Escritores dentro de {@link #aguardarDuravel(long)}. */
+    private int aguardando;
+    private boolean gravando;
+    private boolean fechada;
+    private IOException falha;
+    /** Primeira falha de compactação ainda não relatada. */
+    private IOException falhaCompactacao;
+    /** Usado apenas pelo {@link #gravador}, e por {@link #close()} depois dele. */
+    private RegistroOperacoes registro;
+
+    private ArvoreDuravel(Path diretorio, long janelaNanos, int lote, int capacidade, ArvoreAVL arvore) {
+        this.diretorio = diretorio;
+        this.janelaNanos = janelaNanos;
+        this.lote = lote;
+        this.capacidade = capacidade;
+        this.arvore = arvore;
+    }
+
+    /**
+     * Abre ou cria uma árvore durável no diretório com a janela, o
+     * lote e a capacidade padrão.
+     *
+     * @param diretorio diretório dos instantâneos e registros
+     * @return árvore com o estado recuperado
+     * @throws IOException se a recuperação falhar
+     */
+    public static ArvoreDuravel abrir(Path diretorio) throws IOException {
+        return abrir(diretorio, JANELA_PADRAO, TimeUnit.NANOSECONDS, LOTE_PADRAO, CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * Abre ou cria uma árvore durável no diretório: carrega o último
+     * instantâneo, reaplica os registros seguintes, inicia uma nova
+     * geração e agenda a compactação em segundo plano.
+     *
+     * @param diretorio  diretório dos instantâneos e registros
+     * @param janela     espera máxima para agrupar sincronizações; zero
+     *                   sincroniza assim que possível
+     * @param unidade    unidade de {@code janela}
+     * @param lote       máximo de registros por sincronização, que
+     *                   também encerra a espera
+     * @param capacidade registros por arquivo de registro
+     * @return árvore com o estado recuperado
+     * @throws IOException              se a recuperação falhar
+     * @throws IllegalArgumentException se algum parâmetro for inválido
+     */
+    public static ArvoreDuravel abrir(Path diretorio, long janela, TimeUnit unidade, int lote, int capacidade)
+            throws IOException {
+        if (janela < 0 || lote < 1 || capacidade < 1 || capacidade > RegistroOperacoes.CAPACIDADE_MAXIMA) {
+            throw new IllegalArgumentException("Parâmetros inválidos: janela=" + janela + ", lote=" + lote
+                    + ", capacidade=" + capacidade);
+        }
+        Files.createDirectories(diretorio);
+        List<Long> instantaneos = new ArrayList<>();
+        List<Long> registros = new ArrayList<>();
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio)) {
+            for (Path arquivo : arquivos) {
+                Matcher nome = NOME_ARQUIVO.matcher(arquivo.getFileName().toString());
+                if (nome.matches() && nome.group(1).equals("instantaneo")) {
+                    instantaneos.add(Long.parseLong(nome.group(2)));
+                } else if (nome.matches()) {
+                    registros.add(Long.parseLong(nome.group(2)));
+                }
+            }
+        }
+        long base = instantaneos.stream().mapToLong(Long::longValue).max().orElse(-1);
+        ArvoreAVL arvore = base >= 0 ? ArquivoArvore.carregar(instantaneo(diretorio, base)) : new ArvoreAVL();
+        long ultima = base;
+        registros.sort(null);
+        for (long geracao : registros) {
+            if (geracao >= base) {
+                RegistroOperacoes.reproduzir(registro(diretorio, geracao), arvore);
+            }
+            ultima = Math.max(ultima, geracao);
+        }
+        ArvoreDuravel duravel = new ArvoreDuravel(diretorio, unidade.toNanos(janela), lote, capacidade, arvore);
+        duravel.registro = RegistroOperacoes.criar(registro(diretorio, ultima + 1), ultima + 1, capacidade);
+        duravel.agendarCompactacao(ultima + 1);
+        return duravel;
+    }
+
+    /**
+     * Insere um valor e aguarda o registro da operação chegar ao
+     * disco.
+     *
+     * @param valor valor inteiro a ser inserido
+     * @throws UncheckedIOException  se a gravação do registro falhar ou
+     *                               se uma compactação anterior tiver
+     *                               falhado; no segundo caso o valor
+     *                               não é inserido
+     * @throws IllegalStateException se a árvore estiver fechada
+     */
+    @Override
+    public void inserir(int valor) {
+        operar(RegistroOperacoes.INSERCAO, new int[]{valor});
+    }
+
+    /**
+     * Remove um valor, se presente, e aguarda o registro da operação
+     * chegar ao disco.
+     *
+     * @param valor valor a ser removido
+     * @throws UncheckedIOException  se a gravação do registro falhar ou
+     *                               se uma compactação anterior tiver
+     *                               falhado; no segundo caso o valor
+     *                               não é removido
+     * @throws IllegalStateException se a árvore estiver fechada
+     */
+    @Override
+    public void remover(int valor) {
+        operar(RegistroOperacoes.REMOCAO, new int[]{valor});
+    }
+
+    /**
+     * Verifica se o valor está na árvore, considerando apenas as
+     * modificações já duráveis.
+     *
+     * @param valor valor a ser buscado
+     * @return {@code true} se o valor estiver presente
+     */
+    @Override
+    public boolean contem(int valor) {
+        trava.lock();
+        try {
+            return arvore.contem(valor);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Insere o lote inteiro e aguarda uma única confirmação.
+     *
+     * @param valores valores a inserir, possivelmente repetidos
+     * @return quantidade de valores que não existiam e foram inseridos
+     */
+    @Override
+    public int inserirLote(int[] valores) {
+        return operar(RegistroOperacoes.INSERCAO, valores);
+    }
+
+    /**
+     * Remove o lote inteiro e aguarda uma única confirmação.
+     *
+     * @param valores valores a remover, possivelmente repetidos
+     * @return quantidade de valores que existiam e foram removidos
+     */
+    @Override
+    public int removerLote(int[] valores) {
+        return operar(RegistroOperacoes.REMOCAO, valores);
+    }
+
+    /**
+     * Retorna o número de valores armazenados na árvore, considerando
+     * apenas as modificações já duráveis.
+     *
+     * @return quantidade de valores
+     */
+    public int tamanho() {
+        trava.lock();
+        try {
+            return arvore.tamanho();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Retorna a altura da árvore, considerando apenas as modificações
+     * já duráveis.
+     *
+     * @return altura da árvore
+     */
+    @Override
+    public int altura() {
+        trava.lock();
+        try {
+            return arvore.altura();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Grava e sincroniza os registros pendentes, aguarda as compactações
+     * agendadas e fecha o arquivo de registro. Mesmo que a gravação
+     * falhe, a árvore fica fechada e os recursos são liberados;
+     * operações posteriores lançam {@link IllegalStateException}.
+     *
+     * @throws IOException se a gravação ou alguma compactação ainda não
+     *                     relatada tiverem falhado; a falha de
+     *                     compactação vem suprimida na de gravação
+     */
+    @Override
+    public void close() throws IOException {
+        IOException erro = null;
+        trava.lock();
+        try {
+            if (fechada) {
+                return;
+            }
+            fechada = true;
+            aguardarDuravel(registrados);
+            if (falha != null) {
+                throw falha;
+            }
+        } catch (IOException e) {
+            erro = e;
+        } finally {
+            trava.unlock();
+            try {
+                compactador.shutdown();
+                gravador.shutdown();
+                compactador.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                try {
+                    registro.close();
+                } catch (IOException e) {
+                    erro = acumular(erro, e);
+                }
+            }
+        }
+        trava.lock();
+        try {
+            if (falhaCompactacao != null) {
+                erro = acumular(erro, falhaCompactacao);
+                falhaCompactacao = null;
+            }
+        } finally {
+            trava.unlock();
+        }
+        if (erro != null) {
+            throw erro;
+        }
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    /**
+     * Acrescenta os registros das operações que alteram o conteúdo,
+     * considerando as pendências, e aguarda que todos os registros até
+     * aqui fiquem duráveis e aplicados. Mesmo sem alteração é preciso
+     * aguardar: outra thread pode ter feito, ainda sem confirmação, a
+     * mesma operação.
+     */
+    private int operar(int tipo, int[] valores) {
+        escritoresAtivos.incrementAndGet();
+        trava.lock();
+        try {
+            if (fechada) {
+                throw new IllegalStateException("Árvore durável fechada");
+            }
+            if (falha != null) {
+                throw falha;
+            }
+            if (falhaCompactacao != null) {
+                IOException erro = falhaCompactacao;
+                falhaCompactacao = null;
+                throw erro;
+            }
+            boolean inserindo = tipo == RegistroOperacoes.INSERCAO;
+            int alterados = 0;
+            for (int valor : valores) {
+                if (presente(valor) != inserindo) {
+                    acrescentar(tipo, valor);
+                    alterados++;
+                }
+            }
+            aguardarDuravel(registrados);
+            return alterados;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            trava.unlock();
+            escritoresAtivos.decrementAndGet();
+        }
+    }
+
+    /** Presença do valor depois de todas as operações já aceitas. */
+    private boolean presente(int valor) {
+        Pendencia pendencia = pendencias.get(valor);
+        return pendencia != null ? pendencia.tipo == RegistroOperacoes.INSERCAO : arvore.contem(valor);
+    }
+
+    private void acrescentar(int tipo, int valor) {
+        if (2 * quantidadePendente == pendentes.length) {
+            pendentes = Arrays.copyOf(pendentes, 2 * pendentes.length);
+        }
+        pendentes[2 * quantidadePendente] = tipo;
+        pendentes[2 * quantidadePendente + 1] = valor;
+        quantidadePendente++;
+        registrados++;
+        Pendencia pendencia = pendencias.computeIfAbsent(valor, v -> new Pendencia());
+        pendencia.tipo = tipo;
+        pendencia.quantidade++;
+        if (quantidadePendente == lote) {
+            loteCompleto.signal();
+        }
+    }
+
+    /**
+     * Com a trava, aguarda até que o registro {@code alvo} seja
+     * durável, tornando‑se a thread que grava se nenhuma outra o
+     * estiver fazendo.
+     */
+    private void aguardarDuravel(long alvo) throws IOException {
+        aguardando++;
+        // a thread que está gravando pode estar esperando justamente esta
+        loteCompleto.signal();
+        try {
+            while (duraveis < alvo) {
+                if (falha != null) {
+                    throw falha;
+                }
+                if (gravando) {
+                    gravacaoConcluida.awaitUninterruptibly();
+                    continue;
+                }
+                gravando = true;
+                try {
+                    gravarPendentes();
+                } finally {
+                    gravando = false;
+                    gravacaoConcluida.signalAll();
+                }
+            }
+        } finally {
+            aguardando--;
+        }
+    }
+
+    /**
+     * Espera, se houver outros escritores a caminho, até completar a
+     * janela ou o lote; depois grava e sincroniza até {@code lote}
+     * pendentes no {@link #gravador}, sem a trava, para que novas
+     * operações continuem se acumulando. Só então as aplica à árvore e agenda a compactação
+     * de uma geração iniciada durante a gravação, cujo instantâneo
+     * precisa conter essas operações.
+     */
+    private void gravarPendentes() {
+        long restante = janelaNanos;
+        while (restante > 0 && quantidadePendente < lote && escritoresAtivos.get() > aguardando) {
+            try {
+                restante = loteCompleto.awaitNanos(restante);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        int[] gravar = pendentes;
+        int quantidade = Math.min(quantidadePendente, lote);
+        int resto = quantidadePendente - quantidade;
+        long ate = registrados - resto;
+        if (reserva.length < pendentes.length) {
+            reserva = new int[pendentes.length];
+        }
+        System.arraycopy(pendentes, 2 * quantidade, reserva, 0, 2 * resto);
+        pendentes = reserva;
+        quantidadePendente = resto;
+        trava.unlock();
+        IOException erro = null;
+        long novaGeracao = -1;
+        try {
+            novaGeracao = aguardarGravacao(gravador.submit(() -> gravarNoRegistro(gravar, quantidade)));
+        } catch (IOException e) {
+            erro = e;
+        } finally {
+            trava.lock();
+        }
+        if (erro != null) {
+            reserva = gravar;
+            falha = erro;
+            return;
+        }
+        aplicar(gravar, quantidade);
+        reserva = gravar;
+        duraveis = ate;
+        if (novaGeracao >= 0) {
+            agendarCompactacao(novaGeracao);
+        }
+    }
+
+    /**
+     * Aguarda a gravação sem atender a interrupções, que são
+     * restauradas ao final: a gravação já entregue ao
+     * {@link #gravador} não pode ser abandonada.
+     */
+    private static long aguardarGravacao(Future<Long> gravacao) throws IOException {
+        boolean interrompida = false;
+        try {
+            while (true) {
+                try {
+                    return gravacao.get();
+                } catch (InterruptedException e) {
+                    interrompida = true;
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof IOException ? (IOException) e.getCause()
+                            : new IOException(e.getCause());
+                }
+            }
+        } finally {
+            if (interrompida) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** Aplica à árvore operações já duráveis e baixa as pendências. */
+    private void aplicar(int[] operacoes, int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            int valor = operacoes[2 * i + 1];
+            if (operacoes[2 * i] == RegistroOperacoes.INSERCAO) {
+                arvore.inserir(valor);
+            } else {
+                arvore.remover(valor);
+            }
+            Pendencia pendencia = pendencias.get(valor);
+            if (--pendencia.quantidade == 0) {
+                pendencias.remove(valor);
+            }
+        }
+    }
+
+    /**
+     * Grava as operações no arquivo atual, passando para uma nova
+     * geração sempre que ele se enche, e sincroniza.
+     *
+     * @return última geração iniciada, ou -1 se nenhuma
+     */
+    private long gravarNoRegistro(int[] operacoes, int quantidade) throws IOException {
+        long novaGeracao = -1;
+        int inicio = 0;
+        while (inicio < quantidade) {
+            if (registro.livres() == 0) {
+                registro.sincronizar();
+                registro.close();
+                long geracao = registro.geracao() + 1;
+                registro = RegistroOperacoes.criar(registro(diretorio, geracao), geracao, capacidade);
+                novaGeracao = geracao;
+            }
+            int fim = Math.min(quantidade, inicio + registro.livres());
+            registro.gravar(operacoes, inicio, fim);
+            inicio = fim;
+        }
+        registro.sincronizar();
+        return novaGeracao;
+    }
+
+    /**
+     * Agenda a gravação do instantâneo da geração e a remoção dos
+     * arquivos anteriores. O instantâneo é tirado já na nova geração,
+     * portanto todas as operações que ele possa não conter estão nos
+     * registros a partir dela. Uma falha é guardada para ser relatada
+     * depois, sem descartar outra ainda não relatada.
+     */
+    private void agendarCompactacao(long geracao) {
+        compactador.execute(() -> {
+            try {
+                int[] valores;
+                trava.lock();
+                try {
+                    valores = new int[arvore.tamanho()];
+                    int[] posicao = {0};
+                    arvore.forEach(valor -> valores[posicao[0]++] = valor);
+                } finally {
+                    trava.unlock();
+                }
+                ArquivoArvore.salvarOrdenados(valores, instantaneo(diretorio, geracao));
+                apagarAnteriores(geracao);
+            } catch (IOException | RuntimeException e) {
+                guardarFalhaCompactacao(e instanceof IOException ? (IOException) e : new IOException(e));
+            }
+        });
+    }
+
+    private static IOException acumular(IOException principal, IOException outra) {
+        if (principal == null) {
+            return outra;
+        }
+        if (principal != outra) {
+            principal.addSuppressed(outra);
+        }
+        return principal;
+    }
+
+    private void guardarFalhaCompactacao(IOException erro) {
+        trava.lock();
+        try {
+            if (falhaCompactacao == null) {
+                falhaCompactacao = erro;
+            } else {
+                falhaCompactacao.addSuppressed(erro);
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private void apagarAnteriores(long geracao) throws IOException {
+        boolean apagou = false;
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio)) {
+            for (Path arquivo : arquivos) {
+                Matcher nome = NOME_ARQUIVO.matcher(arquivo.getFileName().toString());
+                if (nome.matches() && Long.parseLong(nome.group(2)) < geracao) {
+                    apagou |= Files.deleteIfExists(arquivo);
+                }
+            }
+        }
+        if (apagou) {
+            ArquivoArvore.sincronizarDiretorio(diretorio);
+        }
+    }
+
+    private static Path instantaneo(Path diretorio, long geracao) {
+        return diretorio.resolve("instantaneo-" + geracao + ".avl");
+    }
+
+    private static Path registro(Path diretorio, long geracao) {
+        return diretorio.resolve("registro-" + geracao + ".log");
+    }
+
+    /** Operações de um valor aceitas e ainda não aplicadas à árvore. */
+    private static final class Pendencia {
+        /** Tipo da última delas. */
+        int tipo;
+        int quantidade;
+    }
+}
@@ -0,0 +1,357 @@
+package model;
+
+import interfaces.ArvoreBalanceada;
+import interfaces.ArvoreComAltura;
+import interfaces.ObservadorArvore;
+
+/**
+ * Implementação de uma árvore rubro‑negra.
+ *
+ * Cada nó é vermelho ou preto; a raiz é preta, nenhum nó vermelho tem
+ * filho vermelho e todo caminho da raiz até uma posição vazia passa
+ * pelo mesmo número de nós pretos. Isso limita a altura a
+ * 2·log2(n + 1), acima do limite da AVL, mas cada inserção faz no
+ * máximo duas rotações e cada remoção no máximo três; o restante da
+ * correção é apenas recolorir. É a alternativa à {@link ArvoreAVL}
+ * para cargas dominadas por escrita. Os valores duplicados não são
+ * inseridos novamente.
+ *
+ * O observador é notificado ao fim de cada inserção e remoção, com a
+ * árvore já corrigida.
+ */
+public class ArvoreRubroNegra implements ArvoreBalanceada, ArvoreComAltura {
+    private final ObservadorArvore observador;
+    private NoRubroNegro raiz;
+    private int tamanho;
+    private long rotacoes;
+
+    /**
+     * Cria uma árvore rubro‑negra vazia sem observador.
+     */
+    public ArvoreRubroNegra() {
+        this(null);
+    }
+
+    /**
+     * Cria uma árvore rubro‑negra vazia associada a um observador.
+     *
+     * @param observador observador dos passos, ou {@code null}
+     */
+    public ArvoreRubroNegra(ObservadorArvore observador) {
+        this.observador = observador != null ? observador : ObservadorArvore.NENHUM;
+    }
+
+    /**
+     * Insere um valor como folha vermelha e corrige as cores subindo
+     * pelos pais enquanto houver dois vermelhos seguidos.
+     *
+     * @param valor valor inteiro a ser inserido
+     */
+    @Override
+    public void inserir(int valor) {
+        NoRubroNegro pai = null;
+        NoRubroNegro corrente = raiz;
+        while (corrente != null) {
+            pai = corrente;
+            if (valor < corrente.valor) {
+                corrente = esquerda(corrente);
+            } else if (valor > corrente.valor) {
+                corrente = direita(corrente);
+            } else {
+                // valor duplicado; não insere novamente
+                return;
+            }
+        }
+        NoRubroNegro novo = new NoRubroNegro(valor, pai);
+        if (pai == null) {
+            raiz = novo;
+        } else if (valor < pai.valor) {
+            pai.esquerda = novo;
+        } else {
+            pai.direita = novo;
+        }
+        tamanho++;
+        corrigirInsercao(novo);
+        observador.noInserido(raiz, valor);
+    }
+
+    /**
+     * Remove um valor, se presente. Quando o nó desligado era preto,
+     * a falta de um preto no caminho é corrigida subindo pela árvore.
+     *
+     * @param valor valor a ser removido
+     */
+    @Override
+    public void remover(int valor) {
+        NoRubroNegro alvo = buscar(valor);
+        if (alvo == null) {
+            return;
+        }
+        boolean pretoRemovido = !alvo.vermelho;
+        NoRubroNegro substituto;
+        NoRubroNegro paiSubstituto;
+        if (alvo.esquerda == null) {
+            substituto = direita(alvo);
+            paiSubstituto = alvo.pai;
+            transplantar(alvo, substituto);
+        } else if (alvo.direita == null) {
+            substituto = esquerda(alvo);
+            paiSubstituto = alvo.pai;
+            transplantar(alvo, substituto);
+        } else {
+            // Dois filhos: o sucessor ocupa o lugar e a cor do alvo
+            NoRubroNegro sucessor = direita(alvo);
+            while (sucessor.esquerda != null) {
+                sucessor = esquerda(sucessor);
+            }
+            pretoRemovido = !sucessor.vermelho;
+            substituto = direita(sucessor);
+            if (sucessor.pai == alvo) {
+                paiSubstituto = sucessor;
+            } else {
+                paiSubstituto = sucessor.pai;
+                transplantar(sucessor, substituto);
+                sucessor.direita = alvo.direita;
+                direita(sucessor).pai = sucessor;
+            }
+            transplantar(alvo, sucessor);
+            sucessor.esquerda = alvo.esquerda;
+            esquerda(sucessor).pai = sucessor;
+            sucessor.vermelho = alvo.vermelho;
+        }
+        tamanho--;
+        if (pretoRemovido) {
+            corrigirRemocao(substituto, paiSubstituto);
+        }
+        observador.noRemovido(raiz, valor);
+    }
+
+    /**
+     * Verifica se um valor está presente na árvore.
+     *
+     * @param valor valor procurado
+     * @return {@code true} se existir, {@code false} caso contrário
+     */
+    @Override
+    public boolean contem(int valor) {
+        return buscar(valor) != null;
+    }
+
+    /**
+     * Retorna o número de valores armazenados na árvore.
+     *
+     * @return quantidade de valores
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Calcula a altura da árvore percorrendo todos os nós, pois as
+     * alturas não são mantidas: 0 se vazia, 1 se houver só a raiz.
+     *
+     * @return altura da árvore
+     */
+    @Override
+    public int altura() {
+        return altura(raiz);
+    }
+
+    /**
+     * Retorna quantas rotações simples foram aplicadas desde a
+     * criação da árvore.
+     *
+     * @return total de rotações
+     */
+    public long rotacoes() {
+        return rotacoes;
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    private NoRubroNegro buscar(int valor) {
+        NoRubroNegro corrente = raiz;
+        while (corrente != null && corrente.valor != valor) {
+            corrente = valor < corrente.valor ? esquerda(corrente) : direita(corrente);
+        }
+        return corrente;
+    }
+
+    /**
+     * Enquanto o pai do nó for vermelho: se o tio também for, recolore
+     * e sobe para o avô; senão, uma ou duas rotações no avô encerram a
+     * correção.
+     */
+    private void corrigirInsercao(NoRubroNegro no) {
+        while (no.pai != null && no.pai.vermelho) {
+            NoRubroNegro pai = no.pai;
+            NoRubroNegro avo = pai.pai;
+            if (pai == avo.esquerda) {
+                NoRubroNegro tio = direita(avo);
+                if (vermelho(tio)) {
+                    pai.vermelho = false;
+                    tio.vermelho = false;
+                    avo.vermelho = true;
+                    no = avo;
+                } else {
+                    if (no == pai.direita) {
+                        rotacaoEsquerda(pai);
+                        pai = no;
+                    }
+                    pai.vermelho = false;
+                    avo.vermelho = true;
+                    rotacaoDireita(avo);
+                    break;
+                }
+            } else {
+                NoRubroNegro tio = esquerda(avo);
+                if (vermelho(tio)) {
+                    pai.vermelho = false;
+                    tio.vermelho = false;
+                    avo.vermelho = true;
+                    no = avo;
+                } else {
+                    if (no == pai.esquerda) {
+                        rotacaoDireita(pai);
+                        pai = no;
+                    }
+                    pai.vermelho = false;
+                    avo.vermelho = true;
+                    rotacaoEsquerda(avo);
+                    break;
+                }
+            }
+        }
+        raiz.vermelho = false;
+    }
+
+    /**
+     * Repõe o preto que faltou no caminho de {@code no} (possivelmente
+     * vazio, por isso o pai é informado à parte), conforme a cor do
+     * irmão e dos sobrinhos.
+     */
+    private void corrigirRemocao(NoRubroNegro no, NoRubroNegro pai) {
+        while (no != raiz && !vermelho(no)) {
+            if (no == pai.esquerda) {
+                NoRubroNegro irmao = direita(pai);
+                if (irmao.vermelho) {
+                    irmao.vermelho = false;
+                    pai.vermelho = true;
+                    rotacaoEsquerda(pai);
+                    irmao = direita(pai);
+                }
+                if (!vermelho(esquerda(irmao)) && !vermelho(direita(irmao))) {
+                    irmao.vermelho = true;
+                    no = pai;
+                    pai = no.pai;
+                } else {
+                    if (!vermelho(direita(irmao))) {
+                        esquerda(irmao).vermelho = false;
+                        irmao.vermelho = true;
+                        rotacaoDireita(irmao);
+                        irmao = direita(pai);
+                    }
+                    irmao.vermelho = pai.vermelho;
+                    pai.vermelho = false;
+                    direita(irmao).vermelho = false;
+                    rotacaoEsquerda(pai);
+                    no = raiz;
+                }
+            } else {
+                NoRubroNegro irmao = esquerda(pai);
+                if (irmao.vermelho) {
+                    irmao.vermelho = false;
+                    pai.vermelho = true;
+                    rotacaoDireita(pai);
+                    irmao = esquerda(pai);
+                }
+                if (!vermelho(esquerda(irmao)) && !vermelho(direita(irmao))) {
+                    irmao.vermelho = true;
+                    no = pai;
+                    pai = no.pai;
+                } else {
+                    if (!vermelho(esquerda(irmao))) {
+                        direita(irmao).vermelho = false;
+                        irmao.vermelho = true;
+                        rotacaoEsquerda(irmao);
+                        irmao = esquerda(pai);
+                    }
+                    irmao.vermelho = pai.vermelho;
+                    pai.vermelho = false;
+                    esquerda(irmao).vermelho = false;
+                    rotacaoDireita(pai);
+                    no = raiz;
+                }
+            }
+        }
+        if (no != null) {
+            no.vermelho = false;
+        }
+    }
+
+    /**
+     * Rotação simples à esquerda: o filho direito sobe para o lugar
+     * do pivô.
+     */
+    private void rotacaoEsquerda(NoRubroNegro pivo) {
+        NoRubroNegro filhoDireito = direita(pivo);
+        pivo.direita = filhoDireito.esquerda;
+        if (filhoDireito.esquerda != null) {
+            esquerda(filhoDireito).pai = pivo;
+        }
+        transplantar(pivo, filhoDireito);
+        filhoDireito.esquerda = pivo;
+        pivo.pai = filhoDireito;
+        rotacoes++;
+    }
+
+    /**
+     * Rotação simples à direita: o filho esquerdo sobe para o lugar
+     * do pivô.
+     */
+    private void rotacaoDireita(NoRubroNegro pivo) {
+        NoRubroNegro filhoEsquerdo = esquerda(pivo);
+        pivo.esquerda = filhoEsquerdo.direita;
+        if (filhoEsquerdo.direita != null) {
+            direita(filhoEsquerdo).pai = pivo;
+        }
+        transplantar(pivo, filhoEsquerdo);
+        filhoEsquerdo.direita = pivo;
+        pivo.pai = filhoEsquerdo;
+        rotacoes++;
+    }
+
+    /**
+     * Coloca {@code novo} no lugar de {@code antigo} junto ao pai de
+     * {@code antigo}.
+     */
+    private void transplantar(NoRubroNegro antigo, NoRubroNegro novo) {
+        NoRubroNegro pai = antigo.pai;
+        if (pai == null) {
+            raiz = novo;
+        } else if (pai.esquerda == antigo) {
+            pai.esquerda = novo;
+        } else {
+            pai.direita = novo;
+        }
+        if (novo != null) {
+            novo.pai = pai;
+        }
+    }
+
+    private static boolean vermelho(NoRubroNegro no) {
+        return no != null && no.vermelho;
+    }
+
+    private static NoRubroNegro esquerda(NoRubroNegro no) {
+        return (NoRubroNegro) no.esquerda;
+    }
+
+    private static NoRubroNegro direita(NoRubroNegro no) {
+        return (NoRubroNegro) no.direita;
+    }
+
+    private static int altura(No no) {
+        return no == null ? 0 : 1 + Math.max(altura(no.esquerda), altura(no.direita));
+    }
+}
@@ -0,0 +1,111 @@
+package model;
+
+import interfaces.ArvoreBalanceada;
+import interfaces.ArvoreComAltura;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Decorador que torna qualquer {@link ArvoreBalanceada} segura para
+ * uso concorrente com uma única {@link ReentrantReadWriteLock}:
+ * consultas compartilham a trava de leitura e modificações tomam a
+ * trava de escrita. Serve como referência de comparação para
+ * {@link ArvoreAVLConcorrente}.
+ */
+public class ArvoreSincronizada implements ArvoreBalanceada, ArvoreComAltura {
+    private final ArvoreBalanceada arvore;
+    private final Lock leitura;
+    private final Lock escrita;
+
+    /**
+     * Envolve a árvore informada. A árvore não deve ser acessada
+     * diretamente enquanto estiver decorada.
+     *
+     * @param arvore árvore a proteger
+     */
+    public ArvoreSincronizada(ArvoreBalanceada arvore) {
+        this.arvore = arvore;
+        ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+        this.leitura = trava.readLock();
+        this.escrita = trava.writeLock();
+    }
+
+    @Override
+    public void inserir(int valor) {
+        escrita.lock();
+        try {
+            arvore.inserir(valor);
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    @Override
+    public void remover(int valor) {
+        escrita.lock();
+        try {
+            arvore.remover(valor);
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    @Override
+    public boolean contem(int valor) {
+        leitura.lock();
+        try {
+            return arvore.contem(valor);
+        } finally {
+            leitura.unlock();
+        }
+    }
+
+    /**
+     * Retorna a altura da árvore decorada, lida sob a trava de leitura.
+     *
+     * @return altura da árvore, ou −1 se ela não informar a altura
+     */
+    @Override
+    public int altura() {
+        if (!(arvore instanceof ArvoreComAltura)) {
+            return -1;
+        }
+        leitura.lock();
+        try {
+            return ((ArvoreComAltura) arvore).altura();
+        } finally {
+            leitura.unlock();
+        }
+    }
+
+    @Override
+    public void inserirOrdenados(int[] valoresOrdenados) {
+        escrita.lock();
+        try {
+            arvore.inserirOrdenados(valoresOrdenados);
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    @Override
+    public int inserirLote(int[] valores) {
+        escrita.lock();
+        try {
+            return arvore.inserirLote(valores);
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    @Override
+    public int removerLote(int[] valores) {
+        escrita.lock();
+        try {
+            return arvore.removerLote(valores);
+        } finally {
+            escrita.unlock();
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package model;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Cursor sobre os valores de uma {@link ArvoreBinariaBusca}, em ordem,
+ * que guarda o caminho da raiz até a última posição visitada (o
+ * "dedo").
+ *
+ * Cada nível do caminho guarda também o intervalo aberto de valores
+ * que cabem na sua sub‑árvore. Uma busca sobe pelo caminho só até o
+ * primeiro ancestral cujo intervalo contém o valor procurado e desce
+ * dali: para acessos próximos ao anterior, como identificadores em
+ * ordem de tempo, a subida e a descida ficam restritas a uma
+ * sub‑árvore pequena. O custo é proporcional à altura desse
+ * ancestral, que é O(log d) para a maioria dos pares a distância
+ * {@code d} em ordem; vizinhos separados por um nó alto, como os
+ * dois lados da raiz, ainda custam O(log n). {@link #proximo()} e
+ * {@link #anterior()} custam O(1) amortizado em um percurso.
+ *
+ * O cursor tolera modificações da árvore: ao notar uma, descarta o
+ * caminho e volta a se posicionar a partir da raiz pelo último valor
+ * visitado, de modo que {@link #proximo()} continua no menor valor
+ * maior que ele. Assim como a árvore, o cursor não é seguro para uso
+ * concorrente; cada thread deve usar o seu.
+ */
+public final class CursorArvore {
+    private static final int CAPACIDADE_CAMINHO = 64;
+    /** Limites abertos da raiz, fora do intervalo de {@code int}. */
+    private static final long SEM_INFERIOR = Integer.MIN_VALUE - 1L;
+    private static final long SEM_SUPERIOR = Integer.MAX_VALUE + 1L;
+
+    /** Antes do primeiro valor, sobre um valor ou depois do último. */
+    private static final int ANTES = -1;
+    private static final int SOBRE = 0;
+    private static final int DEPOIS = 1;
+
+    private final ArvoreBinariaBusca arvore;
+    /** Nós da raiz até a posição atual e o intervalo de cada sub‑árvore. */
+    private No[] caminho = new No[CAPACIDADE_CAMINHO];
+    private long[] inferior = new long[CAPACIDADE_CAMINHO];
+    private long[] superior = new long[CAPACIDADE_CAMINHO];
+    /** Quantidade de nós no caminho; 0 se não houver posição. */
+    private int profundidade;
+    private int estado = ANTES;
+    /** Valor da posição atual, guardado para sobreviver a modificações. */
+    private int atual;
+    /** Contagem de modificações da árvore quando o caminho foi montado. */
+    private int versao;
+
+    CursorArvore(ArvoreBinariaBusca arvore) {
+        this.arvore = arvore;
+    }
+
+    /**
+     * Posiciona o cursor no menor valor maior ou igual a {@code valor},
+     * partindo da posição atual.
+     *
+     * @param valor valor procurado
+     * @return {@code true} se o valor existir
+     */
+    public boolean buscar(int valor) {
+        if (localizar(valor)) {
+            return true;
+        }
+        if (estado == SOBRE && atual < valor) {
+            avancar();
+        }
+        return false;
+    }
+
+    /**
+     * Verifica se o valor está na árvore, partindo da posição atual.
+     * Diferente de {@link #buscar(int)}, na ausência do valor o cursor
+     * fica no último nó visitado, que é o antecessor ou o sucessor
+     * dele, sem o passo extra até o sucessor.
+     *
+     * @param valor valor procurado
+     * @return {@code true} se existir
+     */
+    public boolean contem(int valor) {
+        return localizar(valor);
+    }
+
+    /**
+     * Avança para o próximo valor em ordem. Antes do primeiro valor,
+     * vai para o menor.
+     *
+     * @return {@code true} se o cursor ficou sobre um valor
+     */
+    public boolean proximo() {
+        if (!caminhoValido()) {
+            if (estado == SOBRE) {
+                // Se o último visitado foi removido, o menor valor maior
+                // que ele já é a resposta
+                if (!buscar(atual)) {
+                    return estado == SOBRE;
+                }
+            } else {
+                profundidade = 0;
+            }
+        }
+        if (estado == DEPOIS) {
+            return false;
+        }
+        if (estado == ANTES && profundidade == 0) {
+            if (arvore.raiz == null) {
+                estado = DEPOIS;
+                return false;
+            }
+            empilhar(arvore.raiz, SEM_INFERIOR, SEM_SUPERIOR);
+            descerEsquerda();
+            posicionar();
+            return true;
+        }
+        if (estado == ANTES) {
+            // O caminho aponta para o menor valor
+            posicionar();
+            return true;
+        }
+        avancar();
+        return estado == SOBRE;
+    }
+
+    /**
+     * Recua para o valor anterior em ordem. Depois do último valor,
+     * vai para o maior.
+     *
+     * @return {@code true} se o cursor ficou sobre um valor
+     */
+    public boolean anterior() {
+        if (!caminhoValido()) {
+            if (estado == SOBRE) {
+                // Posiciona no menor valor maior ou igual ao último
+                // visitado; o anterior a ele é a resposta
+                buscar(atual);
+            } else {
+                profundidade = 0;
+            }
+        }
+        if (estado == ANTES) {
+            return false;
+        }
+        if (estado == DEPOIS && profundidade == 0) {
+            if (arvore.raiz == null) {
+                estado = ANTES;
+                return false;
+            }
+            empilhar(arvore.raiz, SEM_INFERIOR, SEM_SUPERIOR);
+            descerDireita();
+            posicionar();
+            return true;
+        }
+        if (estado == DEPOIS) {
+            // O caminho aponta para o maior valor
+            posicionar();
+            return true;
+        }
+        recuar();
+        return estado == SOBRE;
+    }
+
+    /**
+     * Verifica se o cursor está sobre um valor.
+     *
+     * @return {@code true} se {@link #valor()} pode ser chamado
+     */
+    public boolean valido() {
+        return estado == SOBRE;
+    }
+
+    /**
+     * Retorna o valor sob o cursor. Depois de uma modificação da
+     * árvore, continua a retornar o último valor visitado até o
+     * próximo movimento.
+     *
+     * @return valor atual
+     * @throws NoSuchElementException se o cursor não estiver sobre um valor
+     */
+    public int valor() {
+        if (estado != SOBRE) {
+            throw new NoSuchElementException("Cursor fora dos valores da árvore");
+        }
+        return atual;
+    }
+
+    /**
+     * Volta para antes do primeiro valor; {@link #proximo()} passa a
+     * ir para o menor.
+     */
+    public void inicio() {
+        profundidade = 0;
+        estado = ANTES;
+    }
+
+    /**
+     * Vai para depois do último valor; {@link #anterior()} passa a ir
+     * para o maior.
+     */
+    public void fim() {
+        profundidade = 0;
+        estado = DEPOIS;
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    /**
+     * Sobe pelo caminho até a sub‑árvore cujo intervalo contém o valor
+     * e desce dali, deixando o cursor sobre o valor ou, na ausência
+     * dele, sobre o último nó visitado.
+     */
+    private boolean localizar(int valor) {
+        if (!caminhoValido()) {
+            profundidade = 0;
+        }
+        while (profundidade > 1 && !(inferior[profundidade - 1] < valor && valor < superior[profundidade - 1])) {
+            profundidade--;
+        }
+        if (profundidade == 0) {
+            if (arvore.raiz == null) {
+                estado = DEPOIS;
+                return false;
+            }
+            empilhar(arvore.raiz, SEM_INFERIOR, SEM_SUPERIOR);
+        }
+        // Descida com os limites em variáveis locais: o laço é o
+        // mesmo de uma busca comum, mais as três gravações do caminho
+        No corrente = caminho[profundidade - 1];
+        long de = inferior[profundidade - 1];
+        long ate = superior[profundidade - 1];
+        boolean encontrado;
+        while (true) {
+            int chave = corrente.valor;
+            if (valor == chave) {
+                encontrado = true;
+                break;
+            }
+            boolean esquerda = valor < chave;
+            No filho = esquerda ? corrente.esquerda : corrente.direita;
+            ate = esquerda ? chave : ate;
+            de = esquerda ? de : chave;
+            if (filho == null) {
+                encontrado = false;
+                break;
+            }
+            empilhar(filho, de, ate);
+            corrente = filho;
+        }
+        posicionar();
+        return encontrado;
+    }
+
+    private boolean caminhoValido() {
+        return versao == arvore.modificacoes;
+    }
+
+    /** Marca o nó no fim do caminho como posição atual. */
+    private void posicionar() {
+        estado = SOBRE;
+        atual = caminho[profundidade - 1].valor;
+        versao = arvore.modificacoes;
+    }
+
+    /**
+     * Vai para o sucessor: o menor da sub‑árvore direita ou o primeiro
+     * ancestral do qual se desceu pela esquerda. Sem sucessor, o
+     * caminho continua no maior valor.
+     */
+    private void avancar() {
+        No corrente = caminho[profundidade - 1];
+        if (corrente.direita != null) {
+            descer(corrente.direita);
+            descerEsquerda();
+            posicionar();
+            return;
+        }
+        int nivel = profundidade - 1;
+        while (nivel > 0 && caminho[nivel - 1].direita == caminho[nivel]) {
+            nivel--;
+        }
+        if (nivel == 0) {
+            estado = DEPOIS;
+            return;
+        }
+        profundidade = nivel;
+        posicionar();
+    }
+
+    /** Simétrico de {@link #avancar()}. */
+    private void recuar() {
+        No corrente = caminho[profundidade - 1];
+        if (corrente.esquerda != null) {
+            descer(corrente.esquerda);
+            descerDireita();
+            posicionar();
+            return;
+        }
+        int nivel = profundidade - 1;
+        while (nivel > 0 && caminho[nivel - 1].esquerda == caminho[nivel]) {
+            nivel--;
+        }
+        if (nivel == 0) {
+            estado = ANTES;
+            return;
+        }
+        profundidade = nivel;
+        posicionar();
+    }
+
+    private void descerEsquerda() {
+        No corrente = caminho[profundidade - 1];
+        while (corrente.esquerda != null) {
+            corrente = corrente.esquerda;
+            descer(corrente);
+        }
+    }
+
+    private void descerDireita() {
+        No corrente = caminho[profundidade - 1];
+        while (corrente.direita != null) {
+            corrente = corrente.direita;
+            descer(corrente);
+        }
+    }
+
+    /** Empilha um filho do nó no fim do caminho, estreitando o intervalo. */
+    private void descer(No filho) {
+        No pai = caminho[profundidade - 1];
+        if (filho == pai.esquerda) {
+            empilhar(filho, inferior[profundidade - 1], pai.valor);
+        } else {
+            empilhar(filho, pai.valor, superior[profundidade - 1]);
+        }
+    }
+
+    /** Grava um nível do caminho, dobrando a capacidade se a ABB degenerar. */
+    private void empilhar(No no, long de, long ate) {
+        if (profundidade == caminho.length) {
+            caminho = Arrays.copyOf(caminho, profundidade * 2);
+            inferior = Arrays.copyOf(inferior, profundidade * 2);
+            superior = Arrays.copyOf(superior, profundidade * 2);
+        }
+        caminho[profundidade] = no;
+        inferior[profundidade] = de;
+        superior[profundidade] = ate;
+        profundidade++;
+    }
+}
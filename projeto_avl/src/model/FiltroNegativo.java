@@ -0,0 +1,240 @@
+package model;
+
+/**
+ * Filtro cuco na frente de {@link ArvoreBinariaBusca#contem(int)},
+ * habilitado por {@link ArvoreBinariaBusca#habilitarFiltro()}.
+ *
+ * Cada valor deixa uma impressão de 16 bits em um de dois baldes de
+ * quatro posições; o balde inteiro cabe em um {@code long}. Uma
+ * consulta lê no máximo os dois baldes, duas linhas de cache, e
+ * compara as quatro posições de cada um de uma vez. Se a impressão
+ * não estiver em nenhum deles, o valor certamente não está na árvore
+ * e a busca nem começa; se estiver, a árvore decide. A taxa de falsos
+ * positivos fica abaixo de 8 / 2^16, cerca de 0,012%, mesmo com o
+ * filtro cheio. Diferente de um filtro de Bloom, a impressão pode ser
+ * retirada, de modo que as remoções também o mantêm atualizado.
+ *
+ * Quando a ocupação passa de 90% das posições, ou um valor não
+ * encontra lugar, a árvore reconstrói o filtro a partir dos próprios
+ * valores, com o dobro dos baldes; abaixo de 1/8 ele é reconstruído
+ * menor. Cada posição ocupa 2 bytes, de 2,2 a 16 bytes por valor
+ * conforme a ocupação, contra cerca de 32 de um nó da árvore.
+ */
+public final class FiltroNegativo {
+    private static final int POSICOES_POR_BALDE = 4;
+    private static final int BALDES_MINIMO = 64;
+    /** Limite de ocupação antes de dobrar; o filtro cuco com baldes de 4 chega a ~95%. */
+    static final double OCUPACAO_MAXIMA = 0.9;
+    /** Deslocamentos tentados antes de declarar o filtro cheio. */
+    private static final int MAXIMO_DESLOCAMENTOS = 500;
+    private static final int BITS_IMPRESSAO = 16;
+    private static final long UNS = 0x0001_0001_0001_0001L;
+    private static final long ALTOS = 0x8000_8000_8000_8000L;
+
+    /** Baldes com quatro impressões de 16 bits; 0 marca posição livre. */
+    private final long[] baldes;
+    private final int mascara;
+    private int tamanho;
+    /** Estado do sorteio da vítima nos deslocamentos (xorshift). */
+    private int sorteio = 0x9E37_79B9;
+
+    private FiltroNegativo(int quantidadeBaldes) {
+        baldes = new long[quantidadeBaldes];
+        mascara = quantidadeBaldes - 1;
+    }
+
+    /**
+     * Cria um filtro vazio com baldes suficientes para {@code valores}
+     * sem passar de metade da ocupação máxima.
+     */
+    static FiltroNegativo paraValores(int valores) {
+        long posicoes = (long) Math.ceil(2 * valores / OCUPACAO_MAXIMA);
+        long quantidade = Math.max(BALDES_MINIMO, (posicoes + POSICOES_POR_BALDE - 1) / POSICOES_POR_BALDE);
+        return new FiltroNegativo((int) Math.min(1 << 30, Long.highestOneBit(quantidade - 1) << 1));
+    }
+
+    /**
+     * Retorna quantos valores estão representados no filtro.
+     *
+     * @return quantidade de impressões
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Retorna quantos valores cabem no filtro.
+     *
+     * @return quantidade de posições
+     */
+    public int capacidade() {
+        return baldes.length * POSICOES_POR_BALDE;
+    }
+
+    /**
+     * Retorna a fração das posições ocupadas.
+     *
+     * @return ocupação entre 0 e 1
+     */
+    public double ocupacao() {
+        return (double) tamanho / capacidade();
+    }
+
+    /**
+     * Retorna a memória ocupada pelos baldes.
+     *
+     * @return tamanho dos baldes em bytes
+     */
+    public long bytes() {
+        return (long) baldes.length * Long.BYTES;
+    }
+
+    /**
+     * Retorna a taxa de falsos positivos esperada com a ocupação atual:
+     * a chance de uma das até 8 impressões dos dois baldes coincidir
+     * com a do valor ausente.
+     *
+     * @return probabilidade de um valor ausente passar pelo filtro
+     */
+    public double taxaFalsosPositivosEstimada() {
+        double ocupadas = 2.0 * POSICOES_POR_BALDE * ocupacao();
+        return 1.0 - Math.pow(1.0 - 1.0 / ((1 << BITS_IMPRESSAO) - 1), ocupadas);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("filtro: %d/%d posições (%.1f%%), %d bytes, falsos positivos ~%.4f%%",
+                tamanho, capacidade(), 100 * ocupacao(), bytes(), 100 * taxaFalsosPositivosEstimada());
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    /**
+     * Verifica se o valor pode estar no conjunto.
+     *
+     * @return {@code false} apenas se o valor certamente não foi inserido
+     */
+    boolean talvezContenha(int valor) {
+        long hash = espalhar(valor);
+        int impressao = impressao(hash);
+        int primeiro = (int) (hash >>> 32) & mascara;
+        long repetida = impressao * UNS;
+        return temZero(baldes[primeiro] ^ repetida)
+                || temZero(baldes[alternativo(primeiro, impressao)] ^ repetida);
+    }
+
+    /**
+     * Acrescenta a impressão de um valor que acabou de entrar na árvore.
+     *
+     * @return {@code false} se o filtro estiver cheio; a impressão
+     *         deslocada por último se perde e o filtro deve ser
+     *         reconstruído
+     */
+    boolean inserir(int valor) {
+        if (tamanho >= OCUPACAO_MAXIMA * capacidade()) {
+            return false;
+        }
+        long hash = espalhar(valor);
+        int impressao = impressao(hash);
+        int balde = (int) (hash >>> 32) & mascara;
+        if (guardar(balde, impressao)) {
+            return true;
+        }
+        balde = alternativo(balde, impressao);
+        for (int i = 0; i < MAXIMO_DESLOCAMENTOS; i++) {
+            if (guardar(balde, impressao)) {
+                return true;
+            }
+            // Troca pela impressão de uma posição sorteada e leva a
+            // vítima para o outro balde dela
+            sorteio ^= sorteio << 13;
+            sorteio ^= sorteio >>> 17;
+            sorteio ^= sorteio << 5;
+            int deslocamento = (sorteio & (POSICOES_POR_BALDE - 1)) * BITS_IMPRESSAO;
+            long conteudo = baldes[balde];
+            int vitima = (int) (conteudo >>> deslocamento) & 0xFFFF;
+            baldes[balde] = conteudo & ~(0xFFFFL << deslocamento) | (long) impressao << deslocamento;
+            impressao = vitima;
+            balde = alternativo(balde, impressao);
+        }
+        return false;
+    }
+
+    /**
+     * Retira a impressão de um valor que acabou de sair da árvore.
+     * O valor precisa ter sido inserido antes.
+     */
+    void remover(int valor) {
+        long hash = espalhar(valor);
+        int impressao = impressao(hash);
+        int primeiro = (int) (hash >>> 32) & mascara;
+        if (!retirar(primeiro, impressao)) {
+            retirar(alternativo(primeiro, impressao), impressao);
+        }
+    }
+
+    /** Indica se o filtro ficou grande demais para os valores atuais. */
+    boolean ociosoDemais() {
+        return baldes.length > BALDES_MINIMO && tamanho < capacidade() / 8;
+    }
+
+    private boolean guardar(int balde, int impressao) {
+        long conteudo = baldes[balde];
+        long livres = zeros(conteudo);
+        if (livres == 0) {
+            return false;
+        }
+        // A menor posição marcada é sempre uma posição livre de fato
+        int deslocamento = Long.numberOfTrailingZeros(livres) & ~(BITS_IMPRESSAO - 1);
+        baldes[balde] = conteudo | (long) impressao << deslocamento;
+        tamanho++;
+        return true;
+    }
+
+    private boolean retirar(int balde, int impressao) {
+        long conteudo = baldes[balde];
+        long iguais = zeros(conteudo ^ impressao * UNS);
+        if (iguais == 0) {
+            return false;
+        }
+        int deslocamento = Long.numberOfTrailingZeros(iguais) & ~(BITS_IMPRESSAO - 1);
+        baldes[balde] = conteudo & ~(0xFFFFL << deslocamento);
+        tamanho--;
+        return true;
+    }
+
+    /** Outro balde possível da impressão; a operação é a própria inversa. */
+    private int alternativo(int balde, int impressao) {
+        return (balde ^ impressao * 0x5BD1_E995) & mascara;
+    }
+
+    /** Impressão de 16 bits do hash, nunca 0. */
+    private static int impressao(long hash) {
+        int impressao = (int) hash & 0xFFFF;
+        return impressao == 0 ? 1 : impressao;
+    }
+
+    /**
+     * Marca o bit alto das posições de 16 bits nulas. A menor marcada
+     * é sempre nula; acima dela pode haver marcas falsas pelo
+     * empréstimo da subtração.
+     */
+    private static long zeros(long conteudo) {
+        return (conteudo - UNS) & ~conteudo & ALTOS;
+    }
+
+    private static boolean temZero(long conteudo) {
+        return zeros(conteudo) != 0;
+    }
+
+    /** Finalização do MurmurHash3 de 64 bits. */
+    private static long espalhar(int valor) {
+        long h = valor;
+        h ^= h >>> 33;
+        h *= 0xFF51_AFD7_ED55_8CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CE_B9FE_1A85_EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,106 @@
+package model;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latências em faixas log‑lineares, no estilo do
+ * HdrHistogram: cada potência de 2 é dividida em 8 faixas de mesma
+ * largura, o que limita o erro relativo de qualquer percentil a
+ * 12,5%. Cada faixa é um {@link LongAdder}, de modo que registros
+ * concorrentes não disputam a mesma variável.
+ */
+public final class HistogramaLatencia {
+    /** Bits de sub‑faixa por potência de 2. */
+    private static final int BITS_SUBFAIXA = 3;
+    private static final int SUBFAIXAS = 1 << BITS_SUBFAIXA;
+    /** Faixas suficientes para qualquer {@code long} não negativo. */
+    static final int FAIXAS = (64 - BITS_SUBFAIXA) * SUBFAIXAS;
+
+    private final LongAdder[] contagens = new LongAdder[FAIXAS];
+
+    /**
+     * Cria um histograma vazio, com todas as faixas zeradas.
+     */
+    public HistogramaLatencia() {
+        for (int i = 0; i < FAIXAS; i++) {
+            contagens[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Registra uma medição.
+     *
+     * @param nanos duração em nanossegundos; valores negativos contam como 0
+     */
+    public void registrar(long nanos) {
+        contagens[faixa(Math.max(nanos, 0L))].increment();
+    }
+
+    /**
+     * Copia as contagens atuais de cada faixa.
+     *
+     * @return contagens indexadas pela faixa
+     */
+    public long[] copiar() {
+        long[] copia = new long[FAIXAS];
+        for (int i = 0; i < FAIXAS; i++) {
+            copia[i] = contagens[i].sum();
+        }
+        return copia;
+    }
+
+    /**
+     * Retorna o maior valor da faixa que contém o percentil pedido,
+     * ou 0 se não houver medições.
+     *
+     * @param contagens contagens obtidas por {@link #copiar()}
+     * @param percentil percentil entre 0 e 100
+     * @return limite superior da faixa do percentil, em nanossegundos
+     */
+    public static long percentil(long[] contagens, double percentil) {
+        long total = 0;
+        for (long contagem : contagens) {
+            total += contagem;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long alvo = Math.max(1L, (long) Math.ceil(total * percentil / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i < contagens.length; i++) {
+            acumulado += contagens[i];
+            if (acumulado >= alvo) {
+                return limiteSuperior(i);
+            }
+        }
+        return limiteSuperior(contagens.length - 1);
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    /**
+     * Valores menores que 8 têm faixa própria; os demais usam o
+     * expoente e os 3 bits seguintes ao bit mais significativo.
+     */
+    private static int faixa(long valor) {
+        if (valor < SUBFAIXAS) {
+            return (int) valor;
+        }
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);
+        int subfaixa = (int) (valor >>> (expoente - BITS_SUBFAIXA)) & (SUBFAIXAS - 1);
+        return (expoente - BITS_SUBFAIXA + 1) * SUBFAIXAS + subfaixa;
+    }
+
+    private static long limiteInferior(int faixa) {
+        if (faixa < SUBFAIXAS) {
+            return faixa;
+        }
+        int expoente = faixa / SUBFAIXAS + BITS_SUBFAIXA - 1;
+        long subfaixa = faixa % SUBFAIXAS;
+        return (SUBFAIXAS + subfaixa) << (expoente - BITS_SUBFAIXA);
+    }
+
+    private static long limiteSuperior(int faixa) {
+        return faixa + 1 < FAIXAS ? limiteInferior(faixa + 1) - 1 : Long.MAX_VALUE;
+    }
+}
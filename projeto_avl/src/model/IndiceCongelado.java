@@ -0,0 +1,204 @@
+package model;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Índice imutável, somente leitura, otimizado para consultas.
+ *
+ * Os valores ficam em um único {@code int[]} na disposição de
+ * Eytzinger (ordem de busca em largura): a raiz ocupa a posição 1 e
+ * os filhos da posição {@code k} ocupam {@code 2k} e {@code 2k + 1}.
+ * A busca desce sem desvios condicionais dependentes dos dados: o
+ * índice do próximo nível é calculado a partir do resultado da
+ * comparação. Os níveis mais próximos da raiz ocupam poucas linhas
+ * de cache e permanecem nela entre consultas; dali para baixo, cada
+ * nível fica em uma faixa própria do vetor ({@code 2k}, {@code 4k},
+ * {@code 8k}, ...), e os 16 descendentes de {@code k} quatro níveis
+ * abaixo ocupam {@code [16k, 16k + 15]}, uma ou duas linhas. Não há
+ * ponteiros a seguir, portanto cada nível custa no máximo uma linha
+ * de cache. Java não expõe instruções de pré‑busca, e a descida não
+ * faz leituras antecipadas explícitas.
+ *
+ * Obtido por {@link ArvoreAVL#congelar()} ou
+ * {@link #deOrdenados(int[])}.
+ */
+public final class IndiceCongelado {
+    /** Maior quantidade de valores para a qual {@code 2k + 1} não estoura. */
+    private static final int TAMANHO_MAXIMO = (1 << 30) - 1;
+
+    /** Valores na disposição de Eytzinger; a posição 0 não é usada. */
+    private final int[] chaves;
+    private final int tamanho;
+
+    private IndiceCongelado(int[] chaves, int tamanho) {
+        this.chaves = chaves;
+        this.tamanho = tamanho;
+    }
+
+    /**
+     * Monta o índice a partir de valores ordenados em tempo linear.
+     *
+     * @param valoresOrdenados valores em ordem estritamente crescente
+     * @return índice com os valores
+     * @throws IllegalArgumentException se houver mais de 2^30 − 1 valores
+     */
+    public static IndiceCongelado deOrdenados(int[] valoresOrdenados) {
+        int tamanho = valoresOrdenados.length;
+        if (tamanho > TAMANHO_MAXIMO) {
+            throw new IllegalArgumentException("Índice limitado a " + TAMANHO_MAXIMO + " valores");
+        }
+        int[] chaves = new int[tamanho + 1];
+        preencher(valoresOrdenados, chaves, 0, 1);
+        return new IndiceCongelado(chaves, tamanho);
+    }
+
+    /**
+     * Retorna o número de valores do índice.
+     *
+     * @return quantidade de valores
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Verifica se um valor está presente no índice.
+     *
+     * @param valor valor procurado
+     * @return {@code true} se existir, {@code false} caso contrário
+     */
+    public boolean contem(int valor) {
+        int posicao = limiteInferior(valor);
+        return posicao != 0 && chaves[posicao] == valor;
+    }
+
+    /**
+     * Conta quantos valores do índice são estritamente menores que
+     * {@code valor}. A descida soma o tamanho das sub‑árvores
+     * esquerdas deixadas para trás, calculado em O(1) a partir da
+     * posição, sem armazenamento adicional; o total é O(log n).
+     *
+     * @param valor valor de referência, presente ou não no índice
+     * @return posição que {@code valor} ocupa ou ocuparia na ordem
+     */
+    public int rank(int valor) {
+        int menores = 0;
+        int k = 1;
+        while (k <= tamanho) {
+            if (chaves[k] < valor) {
+                menores += tamanhoSubarvore(2 * k, tamanho) + 1;
+                k = 2 * k + 1;
+            } else {
+                k = 2 * k;
+            }
+        }
+        return menores;
+    }
+
+    /**
+     * Entrega todos os valores, em ordem crescente.
+     *
+     * @param acao consumidor dos valores
+     */
+    public void forEach(IntConsumer acao) {
+        intervalo(Integer.MIN_VALUE, Integer.MAX_VALUE, acao);
+    }
+
+    /**
+     * Entrega, em ordem crescente, os valores do intervalo fechado
+     * {@code [de, ate]}. O primeiro valor é localizado pela busca sem
+     * desvios; os seguintes, pelo sucessor implícito de cada posição.
+     *
+     * @param de   limite inferior, inclusivo
+     * @param ate  limite superior, inclusivo
+     * @param acao consumidor dos valores
+     */
+    public void intervalo(int de, int ate, IntConsumer acao) {
+        if (de > ate) {
+            return;
+        }
+        for (int k = limiteInferior(de); k != 0 && chaves[k] <= ate; k = sucessor(k, tamanho)) {
+            acao.accept(chaves[k]);
+        }
+    }
+
+    /**
+     * Valores na disposição de Eytzinger, a partir da posição 1, para
+     * gravação por {@link ArquivoArvore}. Não deve ser modificado.
+     */
+    int[] chaves() {
+        return chaves;
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    /**
+     * Retorna a posição do menor valor maior ou igual a {@code valor},
+     * ou 0 se não houver. A descida registra cada comparação como um
+     * bit de {@code k}; ao final, os bits 1 finais (passos à direita
+     * depois do último passo à esquerda) são descartados.
+     */
+    private int limiteInferior(int valor) {
+        int k = 1;
+        while (k <= tamanho) {
+            k = 2 * k + (chaves[k] < valor ? 1 : 0);
+        }
+        return ancestralPelaEsquerda(k);
+    }
+
+    /**
+     * Primeiro ancestral de {@code k} do qual se desceu pela esquerda,
+     * ou 0 se não houver: descarta os passos à direita finais e o
+     * último passo à esquerda.
+     */
+    static int ancestralPelaEsquerda(int k) {
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    /**
+     * Próxima posição em ordem: o menor da sub‑árvore direita ou,
+     * na falta dela, o primeiro ancestral do qual se veio pela esquerda.
+     */
+    static int sucessor(int k, int tamanho) {
+        if (2 * k + 1 <= tamanho) {
+            k = 2 * k + 1;
+            while (2 * k <= tamanho) {
+                k = 2 * k;
+            }
+            return k;
+        }
+        return ancestralPelaEsquerda(k);
+    }
+
+    /**
+     * Quantidade de posições válidas na sub‑árvore implícita de
+     * {@code k}. Todos os níveis abaixo de {@code k} estão completos,
+     * exceto o último da árvore, que começa em {@code k << niveis} e
+     * é limitado pelo tamanho.
+     */
+    static int tamanhoSubarvore(int k, int tamanho) {
+        if (k > tamanho) {
+            return 0;
+        }
+        // Níveis completos abaixo de k, além do próprio k
+        int niveis = Integer.numberOfLeadingZeros(k) - Integer.numberOfLeadingZeros(tamanho);
+        long primeiroUltimo = (long) k << niveis;
+        long ultimo = Math.max(0, Math.min(tamanho - primeiroUltimo + 1, 1L << niveis));
+        return (int) ((1L << niveis) - 1 + ultimo);
+    }
+
+    /**
+     * Copia os valores ordenados para as posições de Eytzinger por um
+     * percurso em ordem da árvore implícita.
+     *
+     * @return próxima posição de {@code origem} a consumir
+     */
+    private static int preencher(int[] origem, int[] destino, int proximo, int k) {
+        if (k < destino.length) {
+            proximo = preencher(origem, destino, proximo, 2 * k);
+            destino[k] = origem[proximo++];
+            proximo = preencher(origem, destino, proximo, 2 * k + 1);
+        }
+        return proximo;
+    }
+}
@@ -0,0 +1,105 @@
+package model;
+
+import java.nio.IntBuffer;
+import java.util.function.IntConsumer;
+
+/**
+ * Versão de {@link IndiceCongelado} lida diretamente de um arquivo
+ * mapeado em memória, sem cópia para o heap.
+ *
+ * A disposição de Eytzinger gravada por
+ * {@link ArquivoArvore#salvarIndice(IndiceCongelado, java.nio.file.Path)}
+ * já é a usada pela busca, de modo que abrir o índice custa apenas o
+ * mapeamento: cada página do arquivo é trazida do disco pelo sistema
+ * operacional na primeira vez em que uma consulta a toca. As
+ * consultas têm o mesmo resultado das de {@link IndiceCongelado}.
+ *
+ * Obtido por {@link ArquivoArvore#abrirIndice(java.nio.file.Path)}.
+ */
+public final class IndiceMapeado {
+    /** Valores na disposição de Eytzinger; a posição 0 não é usada. */
+    private final IntBuffer chaves;
+    private final int tamanho;
+
+    IndiceMapeado(IntBuffer chaves, int tamanho) {
+        this.chaves = chaves;
+        this.tamanho = tamanho;
+    }
+
+    /**
+     * Retorna o número de valores do índice.
+     *
+     * @return quantidade de valores
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Verifica se um valor está presente no índice.
+     *
+     * @param valor valor procurado
+     * @return {@code true} se existir, {@code false} caso contrário
+     */
+    public boolean contem(int valor) {
+        int posicao = limiteInferior(valor);
+        return posicao != 0 && chaves.get(posicao) == valor;
+    }
+
+    /**
+     * Conta quantos valores do índice são estritamente menores que
+     * {@code valor}.
+     *
+     * @param valor valor de referência, presente ou não no índice
+     * @return posição que {@code valor} ocupa ou ocuparia na ordem
+     */
+    public int rank(int valor) {
+        int menores = 0;
+        int k = 1;
+        while (k <= tamanho) {
+            if (chaves.get(k) < valor) {
+                menores += IndiceCongelado.tamanhoSubarvore(2 * k, tamanho) + 1;
+                k = 2 * k + 1;
+            } else {
+                k = 2 * k;
+            }
+        }
+        return menores;
+    }
+
+    /**
+     * Entrega todos os valores, em ordem crescente.
+     *
+     * @param acao consumidor dos valores
+     */
+    public void forEach(IntConsumer acao) {
+        intervalo(Integer.MIN_VALUE, Integer.MAX_VALUE, acao);
+    }
+
+    /**
+     * Entrega, em ordem crescente, os valores do intervalo fechado
+     * {@code [de, ate]}.
+     *
+     * @param de   limite inferior, inclusivo
+     * @param ate  limite superior, inclusivo
+     * @param acao consumidor dos valores
+     */
+    public void intervalo(int de, int ate, IntConsumer acao) {
+        if (de > ate) {
+            return;
+        }
+        for (int k = limiteInferior(de); k != 0 && chaves.get(k) <= ate; k = IndiceCongelado.sucessor(k, tamanho)) {
+            acao.accept(chaves.get(k));
+        }
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    private int limiteInferior(int valor) {
+        int k = 1;
+        while (k <= tamanho) {
+            k = 2 * k + (chaves.get(k) < valor ? 1 : 0);
+        }
+        return IndiceCongelado.ancestralPelaEsquerda(k);
+    }
+}
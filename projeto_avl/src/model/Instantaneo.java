@@ -0,0 +1,74 @@
+package model;
+
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Versão congelada de uma {@link ArvoreAVLPersistente}.
+ *
+ * Os nós alcançáveis a partir de {@link #raiz()} nunca são alterados
+ * depois de publicados, portanto leitores e o visualizador podem
+ * percorrê‑los sem travas nem cópias defensivas enquanto a árvore
+ * continua recebendo modificações. Os campos de {@link No} são
+ * públicos por compatibilidade e devem ser tratados como somente
+ * leitura.
+ */
+public final class Instantaneo {
+    private final No raiz;
+
+    Instantaneo(No raiz) {
+        this.raiz = raiz;
+    }
+
+    /**
+     * Retorna a raiz desta versão, ou {@code null} se estiver vazia.
+     *
+     * @return raiz congelada
+     */
+    public No raiz() {
+        return raiz;
+    }
+
+    /**
+     * Retorna o número de valores desta versão.
+     *
+     * @return quantidade de valores
+     */
+    public int tamanho() {
+        return ArvoreBinariaBusca.tamanho(raiz);
+    }
+
+    /**
+     * Verifica se um valor está presente nesta versão.
+     *
+     * @param valor valor procurado
+     * @return {@code true} se existir, {@code false} caso contrário
+     */
+    public boolean contem(int valor) {
+        No corrente = raiz;
+        while (corrente != null && corrente.valor != valor) {
+            corrente = valor < corrente.valor ? corrente.esquerda : corrente.direita;
+        }
+        return corrente != null;
+    }
+
+    /**
+     * Entrega os valores desta versão, em ordem crescente.
+     *
+     * @param acao consumidor dos valores
+     */
+    public void forEach(IntConsumer acao) {
+        new SpliteratorArvore(raiz).forEachRemaining(acao);
+    }
+
+    /**
+     * Retorna um fluxo ordenado, divisível em paralelo, com os valores
+     * desta versão.
+     *
+     * @return fluxo de valores em ordem crescente
+     */
+    public IntStream stream() {
+        return StreamSupport.intStream(new SpliteratorArvore(raiz), false);
+    }
+}
@@ -0,0 +1,208 @@
+package model;
+
+import interfaces.MetricasArvoreMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Contadores de operação de uma {@link ArvoreBinariaBusca}, obtidos
+ * por {@link ArvoreBinariaBusca#habilitarMetricas()}.
+ *
+ * Registra as rotações de cada tipo, as comparações de chave por
+ * busca e a latência de buscas, inserções e remoções em histogramas
+ * log‑lineares. Com o {@link FiltroNegativo} habilitado, conta também
+ * as consultas descartadas por ele e os falsos positivos, que passam
+ * pelo filtro e não estão na árvore. Todos os contadores são
+ * {@link LongAdder}, baratos mesmo quando várias threads registram ao
+ * mesmo tempo. Enquanto as métricas não são habilitadas, a árvore não
+ * mede nada.
+ */
+public final class MetricasArvore implements MetricasArvoreMXBean {
+
+    /** Operações com latência medida. */
+    public enum Operacao {
+        BUSCA, INSERCAO, REMOCAO
+    }
+
+    private final ArvoreBinariaBusca arvore;
+    private final LongAdder[] rotacoes = new LongAdder[TipoRotacao.values().length];
+    private final LongAdder buscas = new LongAdder();
+    private final LongAdder comparacoes = new LongAdder();
+    private final LongAdder descartesFiltro = new LongAdder();
+    private final LongAdder falsosPositivosFiltro = new LongAdder();
+    private final HistogramaLatencia[] latencias = new HistogramaLatencia[Operacao.values().length];
+    private ObjectName nomeJmx;
+
+    MetricasArvore(ArvoreBinariaBusca arvore) {
+        this.arvore = arvore;
+        for (int i = 0; i < rotacoes.length; i++) {
+            rotacoes[i] = new LongAdder();
+        }
+        for (int i = 0; i < latencias.length; i++) {
+            latencias[i] = new HistogramaLatencia();
+        }
+    }
+
+    /**
+     * Retorna uma cópia dos contadores atuais, junto da altura e do
+     * tamanho da árvore e do estado do filtro.
+     *
+     * @return retrato imutável das métricas
+     */
+    public RetratoMetricas retrato() {
+        long[] copiaRotacoes = new long[rotacoes.length];
+        for (int i = 0; i < rotacoes.length; i++) {
+            copiaRotacoes[i] = rotacoes[i].sum();
+        }
+        long[][] copiaLatencias = new long[latencias.length][];
+        for (int i = 0; i < latencias.length; i++) {
+            copiaLatencias[i] = latencias[i].copiar();
+        }
+        No raiz = arvore.raiz;
+        FiltroNegativo filtro = arvore.filtroNegativo();
+        return new RetratoMetricas(copiaRotacoes, buscas.sum(), comparacoes.sum(),
+                ArvoreBinariaBusca.tamanho(raiz), raiz == null ? 0 : raiz.altura, copiaLatencias,
+                descartesFiltro.sum(), falsosPositivosFiltro.sum(),
+                filtro == null ? 0 : filtro.bytes(), filtro == null ? 0.0 : filtro.taxaFalsosPositivosEstimada());
+    }
+
+    /**
+     * Registra estas métricas no servidor MBean da plataforma com o
+     * nome {@code projeto_avl:type=MetricasArvore,name=<nome>}.
+     *
+     * @param nome identificação da árvore
+     * @throws IllegalStateException se já houver um registro com esse nome
+     */
+    public synchronized void registrarJmx(String nome) {
+        try {
+            ObjectName objeto = new ObjectName("projeto_avl:type=MetricasArvore,name=" + ObjectName.quote(nome));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objeto);
+            nomeJmx = objeto;
+        } catch (JMException e) {
+            throw new IllegalStateException("Não foi possível registrar as métricas '" + nome + "'", e);
+        }
+    }
+
+    /**
+     * Remove o registro feito por {@link #registrarJmx(String)}, se houver.
+     */
+    public synchronized void removerJmx() {
+        if (nomeJmx == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(nomeJmx);
+        } catch (JMException e) {
+            throw new IllegalStateException("Não foi possível remover o registro " + nomeJmx, e);
+        } finally {
+            nomeJmx = null;
+        }
+    }
+
+    // ---------------------- Atributos JMX ----------------------
+
+    @Override
+    public long getRotacoesLL() {
+        return rotacoes[TipoRotacao.LL.ordinal()].sum();
+    }
+
+    @Override
+    public long getRotacoesRR() {
+        return rotacoes[TipoRotacao.RR.ordinal()].sum();
+    }
+
+    @Override
+    public long getRotacoesLR() {
+        return rotacoes[TipoRotacao.LR.ordinal()].sum();
+    }
+
+    @Override
+    public long getRotacoesRL() {
+        return rotacoes[TipoRotacao.RL.ordinal()].sum();
+    }
+
+    @Override
+    public long getBuscas() {
+        return buscas.sum();
+    }
+
+    @Override
+    public double getComparacoesPorBusca() {
+        long total = buscas.sum();
+        return total == 0 ? 0.0 : (double) comparacoes.sum() / total;
+    }
+
+    @Override
+    public int getTamanho() {
+        return ArvoreBinariaBusca.tamanho(arvore.raiz);
+    }
+
+    @Override
+    public int getAltura() {
+        No raiz = arvore.raiz;
+        return raiz == null ? 0 : raiz.altura;
+    }
+
+    @Override
+    public double getAlturaMaximaTeorica() {
+        return RetratoMetricas.alturaMaximaAvl(getTamanho());
+    }
+
+    @Override
+    public long getDescartesFiltro() {
+        return descartesFiltro.sum();
+    }
+
+    @Override
+    public double getTaxaFalsosPositivosFiltro() {
+        return RetratoMetricas.taxaFalsosPositivos(descartesFiltro.sum(), falsosPositivosFiltro.sum());
+    }
+
+    @Override
+    public long getBytesFiltro() {
+        FiltroNegativo filtro = arvore.filtroNegativo();
+        return filtro == null ? 0 : filtro.bytes();
+    }
+
+    @Override
+    public String[] getResumoLatencias() {
+        RetratoMetricas retrato = retrato();
+        Operacao[] operacoes = Operacao.values();
+        String[] linhas = new String[operacoes.length];
+        for (int i = 0; i < operacoes.length; i++) {
+            linhas[i] = retrato.resumoLatencia(operacoes[i]);
+        }
+        return linhas;
+    }
+
+    @Override
+    public long percentilLatenciaNanos(String operacao, double percentil) {
+        return HistogramaLatencia.percentil(latencias[Operacao.valueOf(operacao).ordinal()].copiar(), percentil);
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    void registrarRotacao(TipoRotacao tipo) {
+        rotacoes[tipo.ordinal()].increment();
+    }
+
+    void registrarBusca(int comparacoesBusca) {
+        buscas.increment();
+        comparacoes.add(comparacoesBusca);
+    }
+
+    void registrarDescarteFiltro() {
+        descartesFiltro.increment();
+    }
+
+    void registrarFalsoPositivoFiltro() {
+        falsosPositivosFiltro.increment();
+    }
+
+    void registrarLatencia(Operacao operacao, long nanos) {
+        latencias[operacao.ordinal()].registrar(nanos);
+    }
+}
@@ -6,22 +6,27 @@ package model;
  * Cada nó armazena um valor inteiro e referências para seus filhos
  * esquerdo e direito, além de um campo de altura utilizado pelas
  * estruturas balanceadas. A altura de um nó isolado é 1; a altura
- * de um nó nulo é considerada 0.
+ * de um nó nulo é considerada 0. O campo tamanho guarda o número de
+ * nós da sub‑árvore enraizada neste nó e permite consultas de ordem
+ * (posição e k‑ésimo menor) em tempo logarítmico.
  */
 public class No {
     public int valor;
     public No esquerda;
     public No direita;
     public int altura;
+    public int tamanho;
 
     /**
      * Cria um novo nó com o valor especificado. Inicialmente os
-     * campos esquerda e direita são nulos e a altura é 1 (folha).
+     * campos esquerda e direita são nulos e a altura e o tamanho são
+     * 1 (folha).
      *
      * @param valor valor inteiro a ser armazenado no nó
      */
     public No(int valor) {
         this.valor = valor;
         this.altura = 1;
+        this.tamanho = 1;
     }
 }
@@ -0,0 +1,25 @@
+package model;
+
+/**
+ * Nó de uma {@link ArvoreRubroNegra}: além do valor e dos filhos
+ * herdados de {@link No}, guarda a cor e o pai, usado pelas correções
+ * depois de inserções e remoções. Os campos de altura e tamanho
+ * herdados não são mantidos por esta estrutura.
+ */
+public final class NoRubroNegro extends No {
+    /** {@code true} para vermelho, {@code false} para preto. */
+    public boolean vermelho;
+    NoRubroNegro pai;
+
+    /**
+     * Cria um nó vermelho, como toda folha recém‑inserida.
+     *
+     * @param valor valor do nó
+     * @param pai   pai do nó, ou {@code null} para a raiz
+     */
+    NoRubroNegro(int valor, NoRubroNegro pai) {
+        super(valor);
+        this.vermelho = true;
+        this.pai = pai;
+    }
+}
@@ -0,0 +1,187 @@
+package model;
+
+import interfaces.ArvoreBalanceada;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Arquivo de registro antecipado de uma geração de
+ * {@link ArvoreDuravel}.
+ *
+ * O arquivo é pré‑alocado com zeros na criação, de modo que as
+ * sincronizações seguintes não alteram o tamanho nem os metadados.
+ * Cada operação ocupa um registro de 16 bytes little‑endian: tipo,
+ * valor, posição no arquivo e um CRC‑32 dos campos anteriores e da
+ * geração. A leitura para no primeiro registro cujo CRC ou posição
+ * não confere, descartando assim uma gravação interrompida.
+ */
+final class RegistroOperacoes implements AutoCloseable {
+    static final int INSERCAO = 1;
+    static final int REMOCAO = 2;
+    /** Maior capacidade que cabe em um único mapeamento na leitura. */
+    static final int CAPACIDADE_MAXIMA = 1 << 26;
+
+    private static final int MAGICO = 0x57_4C_56_41; // "AVLW"
+    private static final int VERSAO = 1;
+    private static final int CABECALHO = 32;
+    private static final int TAMANHO_REGISTRO = 16;
+    private static final int TAMANHO_BUFFER = 1 << 16;
+
+    private final FileChannel canal;
+    private final long geracao;
+    private final int capacidade;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+    private final Verificador verificador = new Verificador();
+    private int gravados;
+
+    private RegistroOperacoes(FileChannel canal, long geracao, int capacidade) {
+        this.canal = canal;
+        this.geracao = geracao;
+        this.capacidade = capacidade;
+    }
+
+    /**
+     * Cria e pré‑aloca o arquivo de uma nova geração e sincroniza o
+     * diretório, para que a entrada do arquivo sobreviva a uma queda
+     * junto com os registros confirmados nele.
+     */
+    static RegistroOperacoes criar(Path arquivo, long geracao, int capacidade) throws IOException {
+        FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        try {
+            RegistroOperacoes registro = new RegistroOperacoes(canal, geracao, capacidade);
+            registro.preencher();
+            ArquivoArvore.sincronizarDiretorio(arquivo.toAbsolutePath().getParent());
+            return registro;
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Aplica à árvore as operações válidas do arquivo, em ordem.
+     *
+     * @return quantidade de operações aplicadas
+     */
+    static int reproduzir(Path arquivo, ArvoreBalanceada arvore) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long bytes = canal.size();
+            if (bytes < CABECALHO) {
+                throw new IOException(arquivo + ": registro menor que o cabeçalho");
+            }
+            MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(bytes, Integer.MAX_VALUE));
+            mapa.order(ByteOrder.LITTLE_ENDIAN);
+            if (mapa.getInt() != MAGICO || mapa.getInt() != VERSAO) {
+                throw new IOException(arquivo + ": registro em formato desconhecido");
+            }
+            long geracao = mapa.getLong();
+            int capacidade = mapa.getInt();
+            mapa.position(CABECALHO);
+            Verificador verificador = new Verificador();
+            int aplicados = 0;
+            while (aplicados < capacidade && mapa.remaining() >= TAMANHO_REGISTRO) {
+                int tipo = mapa.getInt();
+                int valor = mapa.getInt();
+                int posicao = mapa.getInt();
+                int verificacao = mapa.getInt();
+                if (posicao != aplicados || verificacao != verificador.calcular(geracao, tipo, valor, posicao)) {
+                    break;
+                }
+                if (tipo == INSERCAO) {
+                    arvore.inserir(valor);
+                } else {
+                    arvore.remover(valor);
+                }
+                aplicados++;
+            }
+            return aplicados;
+        }
+    }
+
+    long geracao() {
+        return geracao;
+    }
+
+    /** Registros que ainda cabem no arquivo. */
+    int livres() {
+        return capacidade - gravados;
+    }
+
+    /**
+     * Grava os registros {@code [de, ate)} de {@code operacoes}, que
+     * guarda pares tipo e valor, sem sincronizar.
+     */
+    void gravar(int[] operacoes, int de, int ate) throws IOException {
+        long posicao = CABECALHO + (long) gravados * TAMANHO_REGISTRO;
+        for (int i = de; i < ate; i++) {
+            if (buffer.remaining() < TAMANHO_REGISTRO) {
+                posicao += escrever(posicao);
+            }
+            int tipo = operacoes[2 * i];
+            int valor = operacoes[2 * i + 1];
+            buffer.putInt(tipo).putInt(valor).putInt(gravados)
+                    .putInt(verificador.calcular(geracao, tipo, valor, gravados));
+            gravados++;
+        }
+        escrever(posicao);
+    }
+
+    /** Torna duráveis os registros gravados até aqui. */
+    void sincronizar() throws IOException {
+        canal.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    private void preencher() throws IOException {
+        buffer.putInt(MAGICO).putInt(VERSAO).putLong(geracao).putInt(capacidade);
+        buffer.position(CABECALHO);
+        escrever(0);
+        ByteBuffer zeros = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+        long total = CABECALHO + (long) capacidade * TAMANHO_REGISTRO;
+        for (long posicao = CABECALHO; posicao < total; ) {
+            zeros.clear().limit((int) Math.min(zeros.capacity(), total - posicao));
+            while (zeros.hasRemaining()) {
+                posicao += canal.write(zeros, posicao);
+            }
+        }
+        canal.force(true);
+    }
+
+    /** Escreve o conteúdo do buffer a partir de {@code posicao} e o esvazia. */
+    private int escrever(long posicao) throws IOException {
+        buffer.flip();
+        int escritos = 0;
+        while (buffer.hasRemaining()) {
+            escritos += canal.write(buffer, posicao + escritos);
+        }
+        buffer.clear();
+        return escritos;
+    }
+
+    /** CRC‑32 dos campos de um registro e da geração do arquivo. */
+    private static final class Verificador {
+        private final CRC32 crc = new CRC32();
+        private final ByteBuffer campos = ByteBuffer.allocate(20).order(ByteOrder.LITTLE_ENDIAN);
+
+        int calcular(long geracao, int tipo, int valor, int posicao) {
+            campos.clear();
+            campos.putLong(geracao).putInt(tipo).putInt(valor).putInt(posicao);
+            crc.reset();
+            crc.update(campos.array(), 0, campos.position());
+            return (int) crc.getValue();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package model;
+
+/**
+ * Cópia imutável das métricas de uma árvore em um instante, obtida
+ * por {@link ArvoreBinariaBusca#snapshotMetricas()}.
+ */
+public final class RetratoMetricas {
+    /** 1 / log2(φ), coeficiente do limite de altura de uma AVL. */
+    private static final double COEFICIENTE_AVL = 1.4404;
+    private static final double DESLOCAMENTO_AVL = 0.3277;
+
+    private final long[] rotacoes;
+    private final long buscas;
+    private final long comparacoes;
+    private final int tamanho;
+    private final int altura;
+    private final long[][] latencias;
+    private final long descartesFiltro;
+    private final long falsosPositivosFiltro;
+    private final long bytesFiltro;
+    private final double taxaEstimadaFiltro;
+
+    RetratoMetricas(long[] rotacoes, long buscas, long comparacoes, int tamanho, int altura, long[][] latencias,
+                    long descartesFiltro, long falsosPositivosFiltro, long bytesFiltro, double taxaEstimadaFiltro) {
+        this.rotacoes = rotacoes;
+        this.buscas = buscas;
+        this.comparacoes = comparacoes;
+        this.tamanho = tamanho;
+        this.altura = altura;
+        this.latencias = latencias;
+        this.descartesFiltro = descartesFiltro;
+        this.falsosPositivosFiltro = falsosPositivosFiltro;
+        this.bytesFiltro = bytesFiltro;
+        this.taxaEstimadaFiltro = taxaEstimadaFiltro;
+    }
+
+    /**
+     * Retorna quantas rotações do tipo informado foram aplicadas.
+     *
+     * @param tipo caso de desbalanceamento
+     * @return quantidade de rotações
+     */
+    public long rotacoes(TipoRotacao tipo) {
+        return rotacoes[tipo.ordinal()];
+    }
+
+    /**
+     * Retorna o total de rotações, somando os quatro tipos. Uma
+     * rotação dupla conta uma vez.
+     *
+     * @return quantidade de rotações
+     */
+    public long rotacoes() {
+        long total = 0;
+        for (long contagem : rotacoes) {
+            total += contagem;
+        }
+        return total;
+    }
+
+    public long buscas() {
+        return buscas;
+    }
+
+    /**
+     * Retorna a média de comparações de chave por busca, ou 0 se
+     * nenhuma busca foi medida.
+     *
+     * @return comparações por busca
+     */
+    public double comparacoesPorBusca() {
+        return buscas == 0 ? 0.0 : (double) comparacoes / buscas;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public int altura() {
+        return altura;
+    }
+
+    /**
+     * Retorna a maior altura que uma AVL com o tamanho atual pode ter,
+     * 1,44·log2(n + 2) − 0,328. Na ABB sem balanceamento a altura pode
+     * ultrapassar esse valor.
+     *
+     * @return limite teórico da altura
+     */
+    public double alturaMaximaTeorica() {
+        return alturaMaximaAvl(tamanho);
+    }
+
+    /**
+     * Retorna quantas operações do tipo informado foram medidas.
+     *
+     * @param operacao operação medida
+     * @return quantidade de medições
+     */
+    public long operacoes(MetricasArvore.Operacao operacao) {
+        long total = 0;
+        for (long contagem : latencias[operacao.ordinal()]) {
+            total += contagem;
+        }
+        return total;
+    }
+
+    /**
+     * Retorna um percentil da latência de uma operação, com erro
+     * relativo de no máximo 12,5%.
+     *
+     * @param operacao  operação medida
+     * @param percentil percentil entre 0 e 100, por exemplo 99.9
+     * @return limite superior da faixa do percentil, em nanossegundos,
+     *         ou 0 se não houver medições
+     */
+    public long percentilLatenciaNanos(MetricasArvore.Operacao operacao, double percentil) {
+        return HistogramaLatencia.percentil(latencias[operacao.ordinal()], percentil);
+    }
+
+    /**
+     * Retorna quantas consultas por valores ausentes o filtro
+     * respondeu sem percorrer a árvore.
+     *
+     * @return consultas descartadas pelo filtro
+     */
+    public long descartesFiltro() {
+        return descartesFiltro;
+    }
+
+    /**
+     * Retorna quantas consultas passaram pelo filtro sem que o valor
+     * estivesse na árvore.
+     *
+     * @return falsos positivos do filtro
+     */
+    public long falsosPositivosFiltro() {
+        return falsosPositivosFiltro;
+    }
+
+    /**
+     * Retorna a fração observada das consultas por valores ausentes
+     * que o filtro deixou passar, ou 0 se não houve nenhuma.
+     *
+     * @return taxa de falsos positivos medida
+     */
+    public double taxaFalsosPositivosFiltro() {
+        return taxaFalsosPositivos(descartesFiltro, falsosPositivosFiltro);
+    }
+
+    /**
+     * Retorna a taxa de falsos positivos esperada para a ocupação do
+     * filtro no momento do retrato.
+     *
+     * @return taxa de falsos positivos teórica, ou 0 sem filtro
+     */
+    public double taxaFalsosPositivosEstimadaFiltro() {
+        return taxaEstimadaFiltro;
+    }
+
+    /**
+     * Retorna a memória dos baldes do filtro.
+     *
+     * @return bytes do filtro, ou 0 se desabilitado
+     */
+    public long bytesFiltro() {
+        return bytesFiltro;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder();
+        texto.append("tamanho=").append(tamanho)
+                .append(" altura=").append(altura)
+                .append(String.format(" (limite %.1f)", alturaMaximaTeorica()));
+        for (TipoRotacao tipo : TipoRotacao.values()) {
+            texto.append(' ').append(tipo).append('=').append(rotacoes(tipo));
+        }
+        texto.append(String.format(" comparacoes/busca=%.2f", comparacoesPorBusca()));
+        if (bytesFiltro > 0) {
+            texto.append(String.format("\nfiltro: %d bytes (%.2f por valor) descartes=%d falsos positivos=%d"
+                            + " (%.4f%%, esperado %.4f%%)",
+                    bytesFiltro, tamanho == 0 ? 0.0 : (double) bytesFiltro / tamanho, descartesFiltro,
+                    falsosPositivosFiltro, 100 * taxaFalsosPositivosFiltro(), 100 * taxaEstimadaFiltro));
+        }
+        for (MetricasArvore.Operacao operacao : MetricasArvore.Operacao.values()) {
+            texto.append('\n').append(resumoLatencia(operacao));
+        }
+        return texto.toString();
+    }
+
+    // ---------------- Métodos auxiliares ------------------
+
+    String resumoLatencia(MetricasArvore.Operacao operacao) {
+        return operacao + ": n=" + operacoes(operacao)
+                + " p50=" + percentilLatenciaNanos(operacao, 50) + "ns"
+                + " p99=" + percentilLatenciaNanos(operacao, 99) + "ns"
+                + " p999=" + percentilLatenciaNanos(operacao, 99.9) + "ns";
+    }
+
+    static double taxaFalsosPositivos(long descartes, long falsosPositivos) {
+        long ausentes = descartes + falsosPositivos;
+        return ausentes == 0 ? 0.0 : (double) falsosPositivos / ausentes;
+    }
+
+    static double alturaMaximaAvl(int tamanho) {
+        return COEFICIENTE_AVL * (Math.log(tamanho + 2.0) / Math.log(2)) - DESLOCAMENTO_AVL;
+    }
+}
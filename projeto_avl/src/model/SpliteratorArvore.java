@@ -0,0 +1,142 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Spliterator que percorre em ordem os valores de uma árvore de
+ * {@link No} limitados a um intervalo.
+ *
+ * A divisão acontece na raiz da sub‑árvore que contém o intervalo:
+ * a parte esquerda vira um novo spliterator e esta instância fica
+ * com o nó divisor, emitido primeiro, seguido da sub‑árvore direita.
+ * Cada divisão desce pelo menos um nível, o que permite que fluxos
+ * paralelos distribuam um percurso completo entre os núcleos. Nenhum
+ * {@code Integer} é criado durante o percurso.
+ */
+final class SpliteratorArvore implements Spliterator.OfInt {
+    private static final int CAPACIDADE_PILHA = 64;
+
+    /** Nó emitido antes da sub‑árvore, ou {@code null}. */
+    private No pendente;
+    /** Raiz da sub‑árvore ainda não percorrida. */
+    private No inicio;
+    /** Limites inclusivos; {@code long} evita estouro em ±1. */
+    private long de;
+    private final long ate;
+    private No[] pilha;
+    private int topo;
+
+    /**
+     * Cria um spliterator sobre todos os valores da sub‑árvore.
+     *
+     * @param raiz raiz da sub‑árvore a percorrer
+     */
+    SpliteratorArvore(No raiz) {
+        this(null, raiz, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    private SpliteratorArvore(No pendente, No inicio, long de, long ate) {
+        this.pendente = pendente;
+        this.inicio = inicio;
+        this.de = de;
+        this.ate = ate;
+    }
+
+    @Override
+    public OfInt trySplit() {
+        if (pilha != null) {
+            // percurso já iniciado; a sub‑árvore foi desmontada na pilha
+            return null;
+        }
+        No divisor = inicio;
+        while (divisor != null && (divisor.valor < de || divisor.valor > ate)) {
+            divisor = divisor.valor < de ? divisor.direita : divisor.esquerda;
+        }
+        if (divisor == null) {
+            inicio = null;
+            return null;
+        }
+        SpliteratorArvore prefixo = new SpliteratorArvore(pendente, divisor.esquerda, de, divisor.valor - 1L);
+        pendente = divisor;
+        inicio = divisor.direita;
+        de = divisor.valor + 1L;
+        return prefixo;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer acao) {
+        if (pendente != null) {
+            int valor = pendente.valor;
+            pendente = null;
+            acao.accept(valor);
+            return true;
+        }
+        if (pilha == null) {
+            pilha = new No[CAPACIDADE_PILHA];
+            descer(inicio);
+            inicio = null;
+        }
+        if (topo == 0) {
+            return false;
+        }
+        No no = pilha[--topo];
+        if (no.valor > ate) {
+            topo = 0;
+            return false;
+        }
+        descer(no.direita);
+        acao.accept(no.valor);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer acao) {
+        while (tryAdvance(acao)) {
+            // consome até esgotar
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        long estimativa = (pendente != null ? 1 : 0);
+        if (pilha == null) {
+            return estimativa + ArvoreBinariaBusca.tamanho(inicio);
+        }
+        for (int i = 0; i < topo; i++) {
+            estimativa += 1 + ArvoreBinariaBusca.tamanho(pilha[i].direita);
+        }
+        return estimativa;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | SORTED | NONNULL;
+    }
+
+    @Override
+    public Comparator<? super Integer> getComparator() {
+        // ordem natural
+        return null;
+    }
+
+    /**
+     * Empilha a borda esquerda da sub‑árvore, pulando os nós menores
+     * que o limite inferior.
+     */
+    private void descer(No corrente) {
+        while (corrente != null) {
+            if (corrente.valor < de) {
+                corrente = corrente.direita;
+            } else {
+                if (topo == pilha.length) {
+                    pilha = Arrays.copyOf(pilha, topo * 2);
+                }
+                pilha[topo++] = corrente;
+                corrente = corrente.esquerda;
+            }
+        }
+    }
+}
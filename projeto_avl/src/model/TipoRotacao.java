@@ -0,0 +1,31 @@
+package model;
+
+/**
+ * Casos de desbalanceamento de uma árvore AVL e a rotação que cada
+ * um exige, conforme a tabela do roteiro.
+ */
+public enum TipoRotacao {
+    /** Esquerda‑esquerda: rotação simples à direita. */
+    LL("simples à direita (LL)"),
+    /** Direita‑direita: rotação simples à esquerda. */
+    RR("simples à esquerda (RR)"),
+    /** Esquerda‑direita: rotação dupla à direita. */
+    LR("dupla esquerda-direita (LR)"),
+    /** Direita‑esquerda: rotação dupla à esquerda. */
+    RL("dupla direita-esquerda (RL)");
+
+    private final String descricao;
+
+    TipoRotacao(String descricao) {
+        this.descricao = descricao;
+    }
+
+    /**
+     * Retorna a descrição legível da rotação, usada em mensagens.
+     *
+     * @return descrição da rotação
+     */
+    public String descricao() {
+        return descricao;
+    }
+}